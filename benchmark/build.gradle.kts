@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+plugins {
+    java
+    id("me.champeau.jmh") version "0.7.3" // https://plugins.gradle.org/plugin/me.champeau.jmh
+}
+
+val jmhVersion : String by extra
+val jacksonVersion : String by extra
+
+dependencies {
+    jmh(project(":type"))
+    jmh(project(":schema"))
+    jmh(project(":test-module"))
+
+    // Baseline for JsonReaderBenchmark only. Never a dependency of the published modules:
+    jmh("com.fasterxml.jackson.core:jackson-core:$jacksonVersion")
+}
+
+jmh {
+    this.jmhVersion.set(jmhVersion)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+
+    // Run a subset of benchmarks with, e.g. -PjmhIncludes=JsonBenchmark
+    project.findProperty("jmhIncludes")?.let { includes.add(it.toString()) }
+}
+
+tasks.named<JavaCompile>("compileJmhJava") {
+    // JMH's annotation processor does not claim all annotations it sees:
+    options.compilerArgs.add("-Xlint:-processing")
+}
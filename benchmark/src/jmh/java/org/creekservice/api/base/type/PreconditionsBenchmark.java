@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PreconditionsBenchmark {
+
+    /** Length of the string being checked. Leading whitespace stresses {@code isBlank}. */
+    @Param({"1", "64", "1024"})
+    public int length;
+
+    private String text;
+    private String leadingWhitespace;
+    private List<String> list;
+    private Integer value;
+    private Integer bound;
+
+    @Setup
+    public void setUp() {
+        text = "x".repeat(length);
+        leadingWhitespace = " ".repeat(length - 1) + "x";
+        list = List.of(text);
+        value = length;
+        bound = length + 1;
+    }
+
+    @Benchmark
+    public String requireNonEmptyString() {
+        return Preconditions.requireNonEmpty(text, "text");
+    }
+
+    @Benchmark
+    public String requireNonBlank() {
+        return Preconditions.requireNonBlank(leadingWhitespace, "text");
+    }
+
+    @Benchmark
+    public List<String> requireNonEmptyCollection() {
+        return Preconditions.requireNonEmpty(list, "list");
+    }
+
+    @Benchmark
+    public Integer requireLessThan() {
+        Preconditions.requireLessThan(value, bound, "value");
+        return value;
+    }
+
+    @Benchmark
+    public Integer requireGreaterThanOrEqualTo() {
+        Preconditions.requireGreaterThanOrEqualTo(bound, value, "bound");
+        return bound;
+    }
+
+    @Benchmark
+    public boolean require() {
+        final boolean test = value < bound;
+        Preconditions.require(test, "value < bound");
+        return test;
+    }
+}
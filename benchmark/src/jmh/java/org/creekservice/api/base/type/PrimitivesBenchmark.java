@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitivesBenchmark {
+
+    @Param({"int", "java.lang.Integer", "java.lang.String"})
+    public String typeName;
+
+    private Class<?> type;
+
+    @Setup
+    public void setUp() throws Exception {
+        type = "int".equals(typeName) ? int.class : Class.forName(typeName);
+    }
+
+    @Benchmark
+    public Class<?> box() {
+        return Primitives.box(type);
+    }
+
+    @Benchmark
+    public Class<?> unbox() {
+        return Primitives.unbox(type);
+    }
+
+    @Benchmark
+    public boolean isUnboxedPrimitive() {
+        return Primitives.isUnboxedPrimitive(type);
+    }
+
+    @Benchmark
+    public boolean isBoxedPrimitive() {
+        return Primitives.isBoxedPrimitive(type);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SuppliersBenchmark {
+
+    private Supplier<String> memoized;
+    private Supplier<String> expiring;
+    private Supplier<String> refreshing;
+
+    @Setup
+    public void setUp() {
+        memoized = Suppliers.memoize(() -> "value");
+        memoized.get();
+        expiring = Suppliers.memoizeWithExpiration(() -> "value", Duration.ofHours(1));
+        expiring.get();
+        refreshing =
+                Suppliers.memoizeWithRefresh(
+                        () -> "value", Duration.ofHours(1), Duration.ofMinutes(1));
+        refreshing.get();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String memoizedGetOneThread() {
+        return memoized.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String memoizedGetFourThreads() {
+        return memoized.get();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String memoizedGetMaxThreads() {
+        return memoized.get();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String expiringGetOneThread() {
+        return expiring.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String expiringGetFourThreads() {
+        return expiring.get();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String refreshingGetOneThread() {
+        return refreshing.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String refreshingGetFourThreads() {
+        return refreshing.get();
+    }
+
+    @Benchmark
+    public String memoizeAndGet() {
+        return Suppliers.memoize(() -> "value").get();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.config;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Environment variables can not be set from within the JVM, so present values are read from {@code
+ * PATH}, which is set in any sane environment.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SystemEnvBenchmark {
+
+    private static final String PRESENT = "PATH";
+    private static final String MISSING = "CREEK_BENCHMARK_MISSING_VARIABLE";
+    private static final Duration DEFAULT_DURATION = Duration.ofSeconds(1);
+
+    @Benchmark
+    public String readStringPresent() {
+        return SystemEnv.readString(PRESENT, "default");
+    }
+
+    @Benchmark
+    public String readStringMissing() {
+        return SystemEnv.readString(MISSING, "default");
+    }
+
+    @Benchmark
+    public int readIntMissing() {
+        return SystemEnv.readInt(MISSING, 10);
+    }
+
+    @Benchmark
+    public long readLongMissing() {
+        return SystemEnv.readLong(MISSING, 10L);
+    }
+
+    @Benchmark
+    public Duration readDurationMissing() {
+        return SystemEnv.readDuration(MISSING, DEFAULT_DURATION);
+    }
+}
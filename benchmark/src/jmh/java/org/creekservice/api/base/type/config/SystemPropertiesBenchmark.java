@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.config;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SystemPropertiesBenchmark {
+
+    private static final String STRING_PROP = "creek.benchmark.string";
+    private static final String INT_PROP = "creek.benchmark.int";
+    private static final String LONG_PROP = "creek.benchmark.long";
+    private static final String MISSING_PROP = "creek.benchmark.missing";
+
+    @Setup
+    public void setUp() {
+        System.setProperty(STRING_PROP, "some value");
+        System.setProperty(INT_PROP, "1234");
+        System.setProperty(LONG_PROP, "1234567890123");
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.clearProperty(STRING_PROP);
+        System.clearProperty(INT_PROP);
+        System.clearProperty(LONG_PROP);
+    }
+
+    @Benchmark
+    public String getStringPresent() {
+        return SystemProperties.getString(STRING_PROP, "default");
+    }
+
+    @Benchmark
+    public String getStringMissing() {
+        return SystemProperties.getString(MISSING_PROP, "default");
+    }
+
+    @Benchmark
+    public int getIntPresent() {
+        return SystemProperties.getInt(INT_PROP, 10);
+    }
+
+    @Benchmark
+    public Optional<Integer> getIntOptional() {
+        return SystemProperties.getInt(INT_PROP);
+    }
+
+    @Benchmark
+    public Long getLongPresent() {
+        return SystemProperties.getLong(LONG_PROP, 10L);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonBenchmark {
+
+    @Param({"16", "256", "4096"})
+    public int length;
+
+    @Param({"0", "1", "20"})
+    public int escapeDensity;
+
+    private String text;
+    private StringBuilder sb;
+    private final Writer nullWriter = Writer.nullWriter();
+
+    @Setup
+    public void setUp() {
+        text = JsonInputs.text(length, escapeDensity);
+        sb = new StringBuilder(length * 6);
+    }
+
+    @Benchmark
+    public StringBuilder escapeJson() {
+        sb.setLength(0);
+        sb.append(text);
+        Json.escapeJson(sb, 0);
+        return sb;
+    }
+
+    @Benchmark
+    public StringBuilder escapeJsonAscii() {
+        sb.setLength(0);
+        sb.append(text);
+        Json.escapeJsonAscii(sb, 0);
+        return sb;
+    }
+
+    @Benchmark
+    public StringBuilder switchEscapeJson() {
+        sb.setLength(0);
+        sb.append(text);
+        SwitchJsonEscaper.escapeJson(sb, 0);
+        return sb;
+    }
+
+    @Benchmark
+    public String escapeJsonToNewBuilder() {
+        final StringBuilder fresh = new StringBuilder(text);
+        Json.escapeJson(fresh, 0);
+        return fresh.toString();
+    }
+
+    @Benchmark
+    public String escapeToString() {
+        return Json.escapeToString(text);
+    }
+
+    @Benchmark
+    public int escapedLength() {
+        return Json.escapedLength(text);
+    }
+
+    @Benchmark
+    public StringBuilder escapeJsonToAppendable() {
+        sb.setLength(0);
+        Json.escapeJson(text, sb);
+        return sb;
+    }
+
+    @Benchmark
+    public Writer escapeJsonToWriter() {
+        Json.escapeJson(text, nullWriter);
+        return nullWriter;
+    }
+}
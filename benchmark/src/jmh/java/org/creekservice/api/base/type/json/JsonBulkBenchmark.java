@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonBulkBenchmark {
+
+    @Param({"64", "4096", "65536"})
+    public int count;
+
+    private List<String> texts;
+    private int[] offsets;
+
+    @Setup
+    public void setUp() {
+        texts =
+                IntStream.range(0, count)
+                        .mapToObj(i -> JsonInputs.text(16 + i % 240, 1))
+                        .collect(Collectors.toList());
+        offsets = new int[count + 1];
+    }
+
+    @Benchmark
+    public List<String> perStringEscapeToString() {
+        final List<String> result = new ArrayList<>(count);
+        for (final String text : texts) {
+            result.add(Json.escapeToString(text));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public char[] bulkSequential() {
+        return Json.escapeJsonBulk(texts, offsets, ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public char[] bulkParallel() {
+        return Json.escapeJsonBulk(texts, offsets, ForkJoinPool.commonPool(), 1);
+    }
+}
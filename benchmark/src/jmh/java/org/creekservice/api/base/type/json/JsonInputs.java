@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import java.util.Random;
+
+/** Generates deterministic benchmark input of a given shape. */
+final class JsonInputs {
+
+    private static final String CLEAN_CHARS =
+            "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 .,:;-_";
+
+    private static final char[] ESCAPED_CHARS = {'"', '\\', '\n', '\t', '\r', '\u0001'};
+
+    private JsonInputs() {}
+
+    /**
+     * Build a string of the supplied {@code length} where, on average, {@code escapeDensity}
+     * percent of the characters require escaping.
+     *
+     * @param length the length of the string.
+     * @param escapeDensity the percentage, 0-100, of characters that require escaping.
+     * @return the string.
+     */
+    static String text(final int length, final int escapeDensity) {
+        final Random random = new Random(length * 31L + escapeDensity);
+        final StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            if (random.nextInt(100) < escapeDensity) {
+                sb.append(ESCAPED_CHARS[random.nextInt(ESCAPED_CHARS.length)]);
+            } else {
+                sb.append(CLEAN_CHARS.charAt(random.nextInt(CLEAN_CHARS.length())));
+            }
+        }
+        return sb.toString();
+    }
+}
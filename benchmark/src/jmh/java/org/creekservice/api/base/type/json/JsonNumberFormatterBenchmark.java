@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Formats a batch of metric-like doubles and longs, comparing {@link JsonNumberFormatter} with the
+ * JDK.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonNumberFormatterBenchmark {
+
+    private static final int BATCH = 64;
+
+    private final JsonNumberFormatter formatter = JsonNumberFormatter.create();
+    private final byte[] bytes = new byte[JsonNumberFormatter.MAX_DOUBLE_LENGTH];
+    private final StringBuilder sb = new StringBuilder(64);
+    private final double[] doubles = new double[BATCH];
+    private final long[] longs = new long[BATCH];
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        for (int i = 0; i < BATCH; i++) {
+            doubles[i] = Math.round(random.nextDouble() * 100_000) / 100.0;
+            longs[i] = 1_700_000_000_000L + random.nextInt(1_000_000);
+        }
+    }
+
+    @Benchmark
+    public int formatDoublesToBytes() {
+        int total = 0;
+        for (final double d : doubles) {
+            total += formatter.format(d, bytes, 0);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int formatDoublesToStringBuilder() {
+        int total = 0;
+        for (final double d : doubles) {
+            sb.setLength(0);
+            total += formatter.format(d, sb).length();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int jdkAppendDoubles() {
+        int total = 0;
+        for (final double d : doubles) {
+            sb.setLength(0);
+            total += sb.append(d).length();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int jdkDoubleToString() {
+        int total = 0;
+        for (final double d : doubles) {
+            total += Double.toString(d).length();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int formatLongsToBytes() {
+        int total = 0;
+        for (final long l : longs) {
+            total += formatter.format(l, bytes, 0);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int jdkLongToString() {
+        int total = 0;
+        for (final long l : longs) {
+            total += Long.toString(l).length();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Tokenizes a small control message with {@link JsonReader}, with Jackson's streaming parser as a
+ * baseline.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonReaderBenchmark {
+
+    private static final String MESSAGE =
+            "{\"type\":\"scale\",\"service\":\"orders\",\"instances\":12,\"load\":0.875,"
+                    + "\"enabled\":true,\"owner\":null,\"tags\":[\"region=eu-west-1\","
+                    + "\"note=\\\"urgent\\\"\"],\"limits\":{\"cpu\":2.5,\"memory\":4096}}";
+
+    private final JsonFactory jackson = new JsonFactory();
+    private String text;
+    private byte[] bytes;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setUp() {
+        text = MESSAGE;
+        bytes = MESSAGE.getBytes(UTF_8);
+        buffer = ByteBuffer.wrap(bytes);
+    }
+
+    @Benchmark
+    public void readString(final Blackhole bh) {
+        read(JsonReader.jsonReader(text), bh);
+    }
+
+    @Benchmark
+    public void readBytes(final Blackhole bh) {
+        read(JsonReader.jsonReader(buffer), bh);
+    }
+
+    @Benchmark
+    public void jacksonReadString(final Blackhole bh) throws IOException {
+        try (JsonParser parser = jackson.createParser(text)) {
+            read(parser, bh);
+        }
+    }
+
+    @Benchmark
+    public void jacksonReadBytes(final Blackhole bh) throws IOException {
+        try (JsonParser parser = jackson.createParser(bytes)) {
+            read(parser, bh);
+        }
+    }
+
+    private static void read(final JsonReader reader, final Blackhole bh) {
+        JsonReader.Token token;
+        while ((token = reader.next()) != JsonReader.Token.END_DOCUMENT) {
+            switch (token) {
+                case NAME:
+                case STRING:
+                    bh.consume(reader.text().length());
+                    break;
+                case NUMBER:
+                    bh.consume(reader.doubleValue());
+                    break;
+                default:
+                    bh.consume(token);
+                    break;
+            }
+        }
+    }
+
+    private static void read(final JsonParser parser, final Blackhole bh) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            switch (token) {
+                case FIELD_NAME:
+                case VALUE_STRING:
+                    bh.consume(parser.getTextLength());
+                    break;
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    bh.consume(parser.getDoubleValue());
+                    break;
+                default:
+                    bh.consume(token);
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Writes a small metric record, as an audit or metrics path might. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonWriterBenchmark {
+
+    private static final JsonName NAME = JsonName.jsonName("name");
+    private static final JsonName TIMESTAMP = JsonName.jsonName("timestamp");
+    private static final JsonName VALUE = JsonName.jsonName("value");
+    private static final JsonName TAGS = JsonName.jsonName("tags");
+    private static final JsonName SAMPLED = JsonName.jsonName("sampled");
+
+    private final JsonNameCache cache = JsonNameCache.jsonNameCache(64);
+    private StringBuilder sb;
+    private JsonWriter charWriter;
+    private JsonWriter byteWriter;
+    private long counter;
+
+    @Setup
+    public void setUp() {
+        sb = new StringBuilder(256);
+        charWriter = JsonWriter.jsonWriter(sb);
+        byteWriter = JsonWriter.jsonWriter(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public StringBuilder writeToStringBuilder() {
+        sb.setLength(0);
+        writeRecord(charWriter.reset());
+        return sb;
+    }
+
+    @Benchmark
+    public JsonWriter writeToOutputStream() {
+        return writeRecord(byteWriter.reset());
+    }
+
+    @Benchmark
+    public StringBuilder writePrecompiledToStringBuilder() {
+        sb.setLength(0);
+        writePrecompiledRecord(charWriter.reset());
+        return sb;
+    }
+
+    @Benchmark
+    public JsonWriter writePrecompiledToOutputStream() {
+        return writePrecompiledRecord(byteWriter.reset());
+    }
+
+    @Benchmark
+    public JsonWriter writeCachedToOutputStream() {
+        return byteWriter
+                .reset()
+                .beginObject()
+                .name(cache.get("name"))
+                .value("requests.latency")
+                .name(cache.get("timestamp"))
+                .value(1_700_000_000_000L + counter++)
+                .name(cache.get("value"))
+                .value(12.75)
+                .name(cache.get("tags"))
+                .beginArray()
+                .value("service=orders")
+                .value("region=\"eu-west-1\"")
+                .endArray()
+                .name(cache.get("sampled"))
+                .value(true)
+                .endObject();
+    }
+
+    private JsonWriter writePrecompiledRecord(final JsonWriter writer) {
+        return writer.beginObject()
+                .name(NAME)
+                .value("requests.latency")
+                .name(TIMESTAMP)
+                .value(1_700_000_000_000L + counter++)
+                .name(VALUE)
+                .value(12.75)
+                .name(TAGS)
+                .beginArray()
+                .value("service=orders")
+                .value("region=\"eu-west-1\"")
+                .endArray()
+                .name(SAMPLED)
+                .value(true)
+                .endObject();
+    }
+
+    private JsonWriter writeRecord(final JsonWriter writer) {
+        return writer.beginObject()
+                .name("name")
+                .value("requests.latency")
+                .name("timestamp")
+                .value(1_700_000_000_000L + counter++)
+                .name("value")
+                .value(12.75)
+                .name("tags")
+                .beginArray()
+                .value("service=orders")
+                .value("region=\"eu-west-1\"")
+                .endArray()
+                .name("sampled")
+                .value(true)
+                .endObject();
+    }
+}
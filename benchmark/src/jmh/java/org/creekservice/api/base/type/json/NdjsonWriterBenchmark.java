@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Audit records written by four producer threads sharing one {@link NdjsonWriter}. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class NdjsonWriterBenchmark {
+
+    private Path file;
+    private FileChannel fileChannel;
+    private NdjsonWriter discardingWriter;
+    private NdjsonWriter fileWriter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("ndjson-benchmark", ".ndjson");
+        fileChannel = FileChannel.open(file, StandardOpenOption.WRITE);
+        fileWriter = NdjsonWriter.ndjsonWriter(fileChannel, 64 * 1024, Duration.ofMillis(5));
+        discardingWriter =
+                NdjsonWriter.ndjsonWriter(new DiscardingChannel(), 64 * 1024, Duration.ofMillis(5));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        discardingWriter.close();
+        fileWriter.close();
+        fileChannel.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void write() {
+        discardingWriter.write(NdjsonWriterBenchmark::record);
+    }
+
+    @Benchmark
+    public void writeAndSync() {
+        fileWriter.write(NdjsonWriterBenchmark::record);
+        fileWriter.sync();
+    }
+
+    private static void record(final JsonWriter writer) {
+        writer.beginObject()
+                .name("event")
+                .value("order.created")
+                .name("user")
+                .value("alice \"admin\"")
+                .name("amount")
+                .value(129.99)
+                .endObject();
+    }
+
+    private static final class DiscardingChannel implements WritableByteChannel {
+
+        @Override
+        public int write(final ByteBuffer src) {
+            final int length = src.remaining();
+            src.position(src.limit());
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
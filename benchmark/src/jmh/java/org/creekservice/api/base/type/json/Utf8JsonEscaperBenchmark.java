@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Compares single pass escaping to UTF-8 against escaping to a String and then encoding. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Utf8JsonEscaperBenchmark {
+
+    @Param({"16", "256", "4096"})
+    public int length;
+
+    @Param({"0", "1", "20"})
+    public int escapeDensity;
+
+    private String text;
+    private StringBuilder sb;
+    private byte[] array;
+    private ByteBuffer heap;
+    private ByteBuffer direct;
+    private Utf8JsonEscaper escaper;
+
+    @Setup
+    public void setUp() {
+        text = JsonInputs.text(length, escapeDensity);
+        sb = new StringBuilder(length * Utf8JsonEscaper.MAX_BYTES_PER_CHAR);
+        array = new byte[length * Utf8JsonEscaper.MAX_BYTES_PER_CHAR];
+        heap = ByteBuffer.wrap(array);
+        direct = ByteBuffer.allocateDirect(array.length);
+        escaper = Utf8JsonEscaper.create();
+    }
+
+    @Benchmark
+    public byte[] escapeThenEncode() {
+        sb.setLength(0);
+        sb.append(text);
+        Json.escapeJson(sb, 0);
+        return sb.toString().getBytes(UTF_8);
+    }
+
+    @Benchmark
+    public int escapeToByteArray() {
+        escaper.escape(text, array, 0);
+        return escaper.bytesWritten();
+    }
+
+    @Benchmark
+    public ByteBuffer escapeToHeapBuffer() {
+        heap.clear();
+        escaper.escape(text, heap);
+        return heap;
+    }
+
+    @Benchmark
+    public ByteBuffer escapeToDirectBuffer() {
+        direct.clear();
+        escaper.escape(text, direct);
+        return direct;
+    }
+}
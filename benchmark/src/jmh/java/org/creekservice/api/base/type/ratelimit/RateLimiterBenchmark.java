@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.base.type.temporal.Clock;
+import org.creekservice.api.base.type.temporal.MonotonicClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Contended acquisition, with a rate high enough that most requests are granted. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    private static final long PERMITS = 1_000_000_000L;
+    private static final Duration PERIOD = Duration.ofSeconds(1);
+
+    private final Clock clock = MonotonicClock.create();
+
+    private final RateLimiter synchronizedBucket = new SynchronizedTokenBucket(clock);
+    private final RateLimiter tokenBucket =
+            TokenBucketRateLimiter.create(clock, PERMITS, PERIOD, PERMITS);
+    private final RateLimiter stripedTokenBucket =
+            TokenBucketRateLimiter.createStriped(clock, PERMITS, PERIOD, PERMITS, 16);
+    private final RateLimiter slidingWindow =
+            SlidingWindowRateLimiter.create(clock, SlidingWindowRateLimiter.MAX_LIMIT, PERIOD);
+    private final RateLimiter stripedSlidingWindow =
+            SlidingWindowRateLimiter.createStriped(
+                    clock, SlidingWindowRateLimiter.MAX_LIMIT * 16, PERIOD, 16);
+
+    @Benchmark
+    public boolean synchronizedTokenBucket() {
+        return synchronizedBucket.tryAcquire();
+    }
+
+    @Benchmark
+    public boolean tokenBucket() {
+        return tokenBucket.tryAcquire();
+    }
+
+    @Benchmark
+    public boolean stripedTokenBucket() {
+        return stripedTokenBucket.tryAcquire();
+    }
+
+    @Benchmark
+    public boolean slidingWindow() {
+        return slidingWindow.tryAcquire();
+    }
+
+    @Benchmark
+    public boolean stripedSlidingWindow() {
+        return stripedSlidingWindow.tryAcquire();
+    }
+
+    /** Baseline: a classic token bucket, guarded by a monitor. */
+    private static final class SynchronizedTokenBucket implements RateLimiter {
+
+        private final Clock clock;
+        private final double permitsPerNano = (double) PERMITS / PERIOD.toNanos();
+        private double available = PERMITS;
+        private long lastNanos;
+
+        SynchronizedTokenBucket(final Clock clock) {
+            this.clock = clock;
+            this.lastNanos = clock.epochNanos();
+        }
+
+        @Override
+        public synchronized boolean tryAcquire(final int permits) {
+            final long now = clock.epochNanos();
+            available = Math.min(PERMITS, available + (now - lastNanos) * permitsPerNano);
+            lastNanos = now;
+            if (available < permits) {
+                return false;
+            }
+            available -= permits;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.temporal;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClockBenchmark {
+
+    private final Clock accurate = AccurateClock.create();
+    private final CoarseClock coarse = CoarseClock.create(Duration.ofMillis(1));
+    private final Clock monotonic = MonotonicClock.create();
+    private final HybridLogicalClock hybrid = HybridLogicalClock.create(monotonic);
+
+    @Setup
+    public void setUp() {
+        coarse.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        coarse.stop();
+    }
+
+    @Benchmark
+    public Instant accurateClock() {
+        return accurate.get();
+    }
+
+    @Benchmark
+    public Instant coarseClock() {
+        return coarse.get();
+    }
+
+    @Benchmark
+    public long accurateEpochMillis() {
+        return accurate.epochMillis();
+    }
+
+    @Benchmark
+    public long accurateEpochNanos() {
+        return accurate.epochNanos();
+    }
+
+    @Benchmark
+    public long coarseEpochMillis() {
+        return coarse.epochMillis();
+    }
+
+    @Benchmark
+    public long coarseEpochNanos() {
+        return coarse.epochNanos();
+    }
+
+    @Benchmark
+    public Instant monotonicClock() {
+        return monotonic.get();
+    }
+
+    @Benchmark
+    public long monotonicEpochMillis() {
+        return monotonic.epochMillis();
+    }
+
+    @Benchmark
+    public long monotonicEpochNanos() {
+        return monotonic.epochNanos();
+    }
+
+    @Benchmark
+    public long hybridLogicalClock() {
+        return hybrid.now();
+    }
+}
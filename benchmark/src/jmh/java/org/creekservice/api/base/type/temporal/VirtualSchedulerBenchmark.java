@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.temporal;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The wall time taken to test a retry loop with exponential backoff, using a real scheduler vs a
+ * {@link VirtualScheduler}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VirtualSchedulerBenchmark {
+
+    private static final int ATTEMPTS = 6;
+    private static final long BASE_BACKOFF_MS = 1;
+
+    private ScheduledThreadPoolExecutor real;
+
+    @Setup
+    public void setUp() {
+        real = new ScheduledThreadPoolExecutor(1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        real.shutdownNow();
+    }
+
+    @Benchmark
+    public int realTime() {
+        final CompletableFuture<Integer> result = new CompletableFuture<>();
+        attempt(real, 1, result);
+        return result.join();
+    }
+
+    @Benchmark
+    public int virtualTime() {
+        final VirtualScheduler scheduler = VirtualScheduler.create(VirtualClock.create());
+        final CompletableFuture<Integer> result = new CompletableFuture<>();
+        attempt(scheduler, 1, result);
+        while (!result.isDone()) {
+            scheduler.advance(Duration.ofMillis(1));
+        }
+        return result.join();
+    }
+
+    /** Fails until the last attempt, doubling the backoff between attempts. */
+    private static void attempt(
+            final ScheduledExecutorService scheduler,
+            final int attempt,
+            final CompletableFuture<Integer> result) {
+        if (attempt == ATTEMPTS) {
+            result.complete(attempt);
+            return;
+        }
+
+        final long backoff = BASE_BACKOFF_MS << attempt;
+        scheduler.schedule(
+                () -> attempt(scheduler, attempt + 1, result), backoff, TimeUnit.MILLISECONDS);
+    }
+}
@@ -44,7 +44,7 @@ subprojects {
     apply(plugin = "creek-common-convention")
     apply(plugin = "creek-module-convention")
 
-    if (name.startsWith("test-")) {
+    if (name.startsWith("test-") || name == "benchmark") {
         tasks.javadoc { onlyIf { false } }
     } else {
         apply(plugin = "creek-publishing-convention")
@@ -58,6 +58,8 @@ subprojects {
         set("classGraphVersion", "4.8.187")     // https://mvnrepository.com/artifact/io.github.classgraph/classgraph
         set("guavaVersion", "33.6.0-jre")         // https://mvnrepository.com/artifact/com.google.guava/guava
         set("log4jVersion", "2.26.1")           // https://mvnrepository.com/artifact/org.apache.logging.log4j/log4j-core
+        set("jmhVersion", "1.37")               // https://mvnrepository.com/artifact/org.openjdk.jmh/jmh-core
+        set("jacksonVersion", "2.22.3")         // https://mvnrepository.com/artifact/com.fasterxml.jackson.core/jackson-core
 
         set("junitVersion", "6.1.2")            // https://mvnrepository.com/artifact/org.junit.jupiter/junit-jupiter-api
         set("junitPioneerVersion", "2.3.0")     // https://mvnrepository.com/artifact/org.junit-pioneer/junit-pioneer
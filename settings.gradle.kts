@@ -18,6 +18,7 @@ rootProject.name = "creek-base"
 
 include(
     "annotation",
+    "benchmark",
     "schema",
     "test-module",
     "type"
@@ -20,9 +20,53 @@ plugins {
 
 val spotBugsVersion : String by extra
 
+// Java 21+ variants of some classes, packaged into the multi-release jar:
+val java21: SourceSet by sourceSets.creating {
+    java.srcDir("src/main/java21")
+}
+
 dependencies {
     api(project(":annotation"))
     api("com.github.spotbugs:spotbugs-annotations:$spotBugsVersion")
 
     // Do not add any other non-test runtime dependencies
+
+    "java21CompileOnly"(files(sourceSets.main.get().output.classesDirs))
+}
+
+tasks.named<JavaCompile>(java21.compileJavaTaskName) {
+    javaCompiler.set(javaToolchains.compilerFor { languageVersion.set(JavaLanguageVersion.of(21)) })
+    options.release.set(21)
+    options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+    // javac always warns on use of incubating modules:
+    options.compilerArgs.remove("-Werror")
+}
+
+tasks.jar {
+    into("META-INF/versions/21") {
+        from(java21.output)
+    }
+    manifest {
+        attributes("Multi-Release" to "true")
+    }
+}
+
+val testJava21 = tasks.register<Test>("testJava21") {
+    description = "Runs the tests covering the Java 21+ variants, and virtual threads, on Java 21, with the Vector API enabled."
+    group = "verification"
+
+    javaLauncher.set(javaToolchains.launcherFor { languageVersion.set(JavaLanguageVersion.of(21)) })
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = java21.output + sourceSets.test.get().runtimeClasspath
+    jvmArgs("--add-modules", "jdk.incubator.vector")
+
+    useJUnitPlatform()
+    filter {
+        includeTestsMatching("org.creekservice.api.base.type.json.*")
+        includeTestsMatching("org.creekservice.api.base.type.SuppliersTest")
+    }
+}
+
+tasks.check {
+    dependsOn(testJava21)
 }
\ No newline at end of file
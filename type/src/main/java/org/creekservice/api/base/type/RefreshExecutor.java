@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type;
+
+import java.util.concurrent.Executor;
+
+/**
+ * The default executor used to refresh {@link RefreshingSupplier} values.
+ *
+ * <p>Runs each refresh on a new daemon thread. Refreshes are infrequent and may block on I/O, so
+ * they should not tie up a shared pool.
+ */
+final class RefreshExecutor {
+
+    /** The default executor. */
+    static final Executor INSTANCE =
+            task -> {
+                final Thread thread = new Thread(task, "creek-supplier-refresh");
+                thread.setDaemon(true);
+                thread.start();
+            };
+
+    private RefreshExecutor() {}
+}
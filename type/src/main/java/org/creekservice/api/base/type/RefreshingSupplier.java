@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * A memoizing {@link Supplier} that refreshes its value in the background before it expires.
+ *
+ * @param <T> the type of the supplier
+ * @see Suppliers#memoizeWithRefresh
+ */
+public interface RefreshingSupplier<T> extends Supplier<T> {
+
+    /**
+     * Get the current value.
+     *
+     * <p>Only blocks if there is no current value, i.e. on first use or if the value expired before
+     * a refresh completed. If the value is due for refresh, a background refresh is started and the
+     * current value returned.
+     *
+     * <p>After a failed refresh, no refresh is started until its backoff has passed. Until then, if
+     * there is no current value, the failure is rethrown.
+     *
+     * @return the current value.
+     */
+    @Override
+    T get();
+
+    /**
+     * Get the current value without blocking.
+     *
+     * @return a future that is already complete if there is a current value, otherwise a future
+     *     that will complete once the value is loaded.
+     */
+    CompletableFuture<T> getAsync();
+
+    /**
+     * Start a background refresh, if one is not already in progress.
+     *
+     * <p>Unlike the refreshes started by {@link #get()} and {@link #getAsync()}, this does not wait
+     * for the backoff after a failed refresh.
+     *
+     * @return a future that will complete with the fresh value once the refresh completes.
+     */
+    CompletableFuture<T> refresh();
+}
@@ -18,11 +18,23 @@ package org.creekservice.api.base.type;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
+import org.creekservice.api.base.type.temporal.Clock;
+import org.creekservice.api.base.type.temporal.MonotonicClock;
 
 /** Factory methods for creating {@link Supplier suppliers} */
 public final class Suppliers {
 
+    private static final System.Logger LOGGER = System.getLogger(Suppliers.class.getName());
+
     private Suppliers() {}
 
     /**
@@ -38,10 +50,157 @@ public final class Suppliers {
                 : new MemorizingSupplier<>(delegate);
     }
 
+    /**
+     * Create a Supplier that will cache the value returned from the {@code delegate} for the
+     * supplied {@code ttl}, measured by a {@link MonotonicClock}.
+     *
+     * @param delegate the delegate that will be called on first use and after each expiry.
+     * @param ttl how long a value remains fresh after it was loaded.
+     * @param <T> the type of the supplier
+     * @return a caching Supplier.
+     * @see #memoizeWithExpiration(Supplier, Duration, Clock)
+     */
+    public static <T> Supplier<T> memoizeWithExpiration(
+            final Supplier<T> delegate, final Duration ttl) {
+        return memoizeWithExpiration(delegate, ttl, MonotonicClock.create());
+    }
+
+    /**
+     * Create a Supplier that will cache the value returned from the {@code delegate} for the
+     * supplied {@code ttl}, as measured by the supplied {@code clock}.
+     *
+     * <p>The first call blocks all callers until the value is loaded. Once the value expires, the
+     * first caller to notice reloads it, while concurrent callers continue to receive the stale
+     * value until the reload completes. If the reload throws, the exception is propagated to the
+     * caller doing the reload and the stale value is retained, so the next caller will retry.
+     *
+     * @param delegate the delegate that will be called on first use and after each expiry.
+     * @param ttl how long a value remains fresh after it was loaded.
+     * @param clock the clock used to track expiry.
+     * @param <T> the type of the supplier
+     * @return a caching Supplier.
+     */
+    public static <T> Supplier<T> memoizeWithExpiration(
+            final Supplier<T> delegate, final Duration ttl, final Clock clock) {
+        return new ExpiringMemorizingSupplier<>(delegate, ttl, clock);
+    }
+
+    /**
+     * Create a Supplier that will cache the value returned from the {@code delegate} for the
+     * supplied {@code ttl}, refreshing it in the background {@code refreshAhead} before it expires.
+     *
+     * <p>Refreshes run on a new thread: a virtual thread on Java 21 and later, otherwise a daemon
+     * platform thread. Expiry is measured by a {@link MonotonicClock}. Failed refreshes are logged.
+     *
+     * @param delegate the delegate that will be called on first use and to refresh the value.
+     * @param ttl how long a value remains valid after it was loaded.
+     * @param refreshAhead how long before expiry to start refreshing the value.
+     * @param <T> the type of the supplier
+     * @return a refreshing Supplier.
+     * @see #memoizeWithRefresh(Supplier, Duration, Duration, Clock, Executor, Consumer)
+     */
+    public static <T> RefreshingSupplier<T> memoizeWithRefresh(
+            final Supplier<T> delegate, final Duration ttl, final Duration refreshAhead) {
+        return memoizeWithRefresh(
+                delegate, ttl, refreshAhead, MonotonicClock.create(), RefreshExecutor.INSTANCE);
+    }
+
+    /**
+     * Create a Supplier that will cache the value returned from the {@code delegate} for the
+     * supplied {@code ttl}, refreshing it in the background {@code refreshAhead} before it expires.
+     *
+     * <p>The first call to {@link RefreshingSupplier#get()} after the value becomes due for refresh
+     * starts a refresh on the {@code executor}, while callers continue to receive the current
+     * value. At most one refresh is in progress at a time. Callers only block when there is no
+     * valid value: on first use, or if the value expired before a refresh completed, e.g. because
+     * the supplier was idle or the refresh failed.
+     *
+     * <p>Failed refreshes are logged.
+     *
+     * @param delegate the delegate that will be called on first use and to refresh the value.
+     * @param ttl how long a value remains valid after it was loaded.
+     * @param refreshAhead how long before expiry to start refreshing the value.
+     * @param clock the clock used to track expiry.
+     * @param executor the executor to run the delegate on.
+     * @param <T> the type of the supplier
+     * @return a refreshing Supplier.
+     * @see #memoizeWithRefresh(Supplier, Duration, Duration, Clock, Executor, Consumer)
+     */
+    public static <T> RefreshingSupplier<T> memoizeWithRefresh(
+            final Supplier<T> delegate,
+            final Duration ttl,
+            final Duration refreshAhead,
+            final Clock clock,
+            final Executor executor) {
+        return memoizeWithRefresh(
+                delegate, ttl, refreshAhead, clock, executor, Suppliers::logRefreshFailure);
+    }
+
+    /**
+     * Create a Supplier that will cache the value returned from the {@code delegate} for the
+     * supplied {@code ttl}, refreshing it in the background {@code refreshAhead} before it expires.
+     *
+     * <p>The first call to {@link RefreshingSupplier#get()} after the value becomes due for refresh
+     * starts a refresh on the {@code executor}, while callers continue to receive the current
+     * value. At most one refresh is in progress at a time. Callers only block when there is no
+     * valid value: on first use, or if the value expired before a refresh completed, e.g. because
+     * the supplier was idle or the refresh failed.
+     *
+     * <p>A failed refresh leaves the current value in place, and is passed to {@code onFailure} on
+     * the thread that ran it. No further refresh is started until a backoff has passed: a quarter
+     * of {@code refreshAhead} after the first failure, doubling with each consecutive failure, up
+     * to {@code ttl}. Until then, callers receive the current value or, if there is none, the
+     * failure. Explicit calls to {@link RefreshingSupplier#refresh()} do not wait for the backoff.
+     *
+     * @param delegate the delegate that will be called on first use and to refresh the value.
+     * @param ttl how long a value remains valid after it was loaded.
+     * @param refreshAhead how long before expiry to start refreshing the value.
+     * @param clock the clock used to track expiry and backoff.
+     * @param executor the executor to run the delegate on.
+     * @param onFailure called with the cause of each failed refresh.
+     * @param <T> the type of the supplier
+     * @return a refreshing Supplier.
+     */
+    public static <T> RefreshingSupplier<T> memoizeWithRefresh(
+            final Supplier<T> delegate,
+            final Duration ttl,
+            final Duration refreshAhead,
+            final Clock clock,
+            final Executor executor,
+            final Consumer<? super Throwable> onFailure) {
+        return new RefreshingMemorizingSupplier<>(
+                delegate, ttl, refreshAhead, clock, executor, onFailure);
+    }
+
+    private static void logRefreshFailure(final Throwable cause) {
+        LOGGER.log(
+                System.Logger.Level.WARNING,
+                "Failed to refresh memoized value. Will retry after a backoff.",
+                cause);
+    }
+
+    private static long saturatedNanos(final Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (final ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static long saturatedAdd(final long time, final long nanos) {
+        return time > Long.MAX_VALUE - nanos ? Long.MAX_VALUE : time + nanos;
+    }
+
+    private static void requirePositiveTtl(final Duration ttl) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive, but was " + ttl);
+        }
+    }
+
     private static final class MemorizingSupplier<T> implements Supplier<T> {
 
         private final Supplier<T> delegate;
-        private final Object lock = new Object();
+        private final ReentrantLock lock = new ReentrantLock();
         private transient volatile boolean initialized;
         private transient T value;
 
@@ -52,14 +211,7 @@ public final class Suppliers {
         @Override
         public T get() {
             if (!initialized) {
-                synchronized (lock) {
-                    if (!initialized) {
-                        final T t = delegate.get();
-                        value = t;
-                        initialized = true;
-                        return t;
-                    }
-                }
+                return load();
             }
             return value;
         }
@@ -68,5 +220,310 @@ public final class Suppliers {
         public String toString() {
             return "Suppliers.memoize(" + delegate + ")";
         }
+
+        private T load() {
+            // A lock, rather than a monitor, so virtual threads waiting on a slow delegate
+            // unmount from their carrier, rather than pinning it:
+            lock.lock();
+            try {
+                if (!initialized) {
+                    final T t = delegate.get();
+                    value = t;
+                    initialized = true;
+                    return t;
+                }
+                return value;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static final class ExpiringMemorizingSupplier<T> implements Supplier<T> {
+
+        private final Supplier<T> delegate;
+        private final Duration ttl;
+        private final long ttlNanos;
+        private final Clock clock;
+        private final ReentrantLock lock = new ReentrantLock();
+        private transient volatile Entry<T> entry;
+
+        private ExpiringMemorizingSupplier(
+                final Supplier<T> delegate, final Duration ttl, final Clock clock) {
+            this.delegate = requireNonNull(delegate, "delegate");
+            this.ttl = requireNonNull(ttl, "ttl");
+            requirePositiveTtl(ttl);
+            this.clock = requireNonNull(clock, "clock");
+            this.ttlNanos = saturatedNanos(ttl);
+        }
+
+        @Override
+        public T get() {
+            final Entry<T> current = entry;
+            if (current != null && clock.epochNanos() < current.expiry) {
+                return current.value;
+            }
+            return current == null ? load() : reload(current);
+        }
+
+        @Override
+        public String toString() {
+            return "Suppliers.memoizeWithExpiration(" + delegate + ", " + ttl + ")";
+        }
+
+        private T load() {
+            lock.lock();
+            try {
+                final Entry<T> current = entry;
+                return current == null ? refresh() : current.value;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private T reload(final Entry<T> stale) {
+            if (!lock.tryLock()) {
+                return stale.value;
+            }
+
+            try {
+                final Entry<T> current = entry;
+                return current == stale ? refresh() : current.value;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private T refresh() {
+            final T t = delegate.get();
+            entry = new Entry<>(t, saturatedAdd(clock.epochNanos(), ttlNanos));
+            return t;
+        }
+
+        private static final class Entry<T> {
+            final T value;
+            final long expiry;
+
+            Entry(final T value, final long expiry) {
+                this.value = value;
+                this.expiry = expiry;
+            }
+        }
+    }
+
+    private static final class RefreshingMemorizingSupplier<T> implements RefreshingSupplier<T> {
+
+        private final Supplier<T> delegate;
+        private final Duration ttl;
+        private final Duration refreshAhead;
+        private final long ttlNanos;
+        private final long refreshAfterNanos;
+        private final long initialBackoffNanos;
+        private final Clock clock;
+        private final Executor executor;
+        private final Consumer<? super Throwable> onFailure;
+        private final AtomicReference<CompletableFuture<T>> inFlight = new AtomicReference<>();
+        private transient volatile Entry<T> entry;
+        private transient volatile Failure<T> failure;
+
+        private RefreshingMemorizingSupplier(
+                final Supplier<T> delegate,
+                final Duration ttl,
+                final Duration refreshAhead,
+                final Clock clock,
+                final Executor executor,
+                final Consumer<? super Throwable> onFailure) {
+            this.delegate = requireNonNull(delegate, "delegate");
+            this.ttl = requireNonNull(ttl, "ttl");
+            this.refreshAhead = requireNonNull(refreshAhead, "refreshAhead");
+            this.clock = requireNonNull(clock, "clock");
+            this.executor = requireNonNull(executor, "executor");
+            this.onFailure = requireNonNull(onFailure, "onFailure");
+            requirePositiveTtl(ttl);
+
+            if (refreshAhead.isNegative()
+                    || refreshAhead.isZero()
+                    || refreshAhead.compareTo(ttl) >= 0) {
+                throw new IllegalArgumentException(
+                        "refreshAhead must be between 0 and "
+                                + ttl
+                                + " (exclusive), but was "
+                                + refreshAhead);
+            }
+
+            this.ttlNanos = saturatedNanos(ttl);
+            this.refreshAfterNanos = saturatedNanos(ttl.minus(refreshAhead));
+            this.initialBackoffNanos = Math.max(1, saturatedNanos(refreshAhead) / 4);
+        }
+
+        @Override
+        public T get() {
+            final Entry<T> current = entry;
+            final long now = clock.epochNanos();
+            if (current != null) {
+                if (now < current.refreshAt) {
+                    return current.value;
+                }
+
+                if (now < current.expiry) {
+                    startRefreshUnlessBackingOff(current, now);
+                    return current.value;
+                }
+            }
+            return await(startRefreshUnlessBackingOff(current, now));
+        }
+
+        @Override
+        public CompletableFuture<T> getAsync() {
+            final Entry<T> current = entry;
+            final long now = clock.epochNanos();
+            if (current != null) {
+                if (now < current.expiry) {
+                    if (now >= current.refreshAt) {
+                        startRefreshUnlessBackingOff(current, now);
+                    }
+                    return CompletableFuture.completedFuture(current.value);
+                }
+            }
+            return startRefreshUnlessBackingOff(current, now).copy();
+        }
+
+        @Override
+        public CompletableFuture<T> refresh() {
+            return startRefresh(entry).copy();
+        }
+
+        @Override
+        public String toString() {
+            return "Suppliers.memoizeWithRefresh("
+                    + delegate
+                    + ", "
+                    + ttl
+                    + ", "
+                    + refreshAhead
+                    + ")";
+        }
+
+        /**
+         * Start a refresh, unless the last one failed and its backoff has not passed.
+         *
+         * @return the refresh, or the failed refresh if backing off.
+         */
+        private CompletableFuture<T> startRefreshUnlessBackingOff(
+                final Entry<T> observed, final long now) {
+            final Failure<T> failed = failure;
+            if (failed != null && now < failed.retryAt) {
+                return failed.refresh;
+            }
+            return startRefresh(observed);
+        }
+
+        private CompletableFuture<T> startRefresh(final Entry<T> observed) {
+            while (true) {
+                final CompletableFuture<T> existing = inFlight.get();
+                if (existing != null) {
+                    return existing;
+                }
+
+                final CompletableFuture<T> next = new CompletableFuture<>();
+                if (inFlight.compareAndSet(null, next)) {
+                    submit(observed, next);
+                    return next;
+                }
+            }
+        }
+
+        private void submit(final Entry<T> observed, final CompletableFuture<T> future) {
+            final Entry<T> latest = entry;
+            if (latest != observed) {
+                // Another refresh completed since the caller read the entry:
+                inFlight.set(null);
+                future.complete(latest.value);
+                return;
+            }
+
+            try {
+                executor.execute(() -> load(future));
+            } catch (final RejectedExecutionException e) {
+                inFlight.set(null);
+                future.completeExceptionally(e);
+            }
+        }
+
+        private void load(final CompletableFuture<T> future) {
+            final T value;
+            try {
+                value = delegate.get();
+            } catch (final Throwable t) {
+                final Failure<T> previous = failure;
+                final int failures = previous == null ? 1 : previous.count + 1;
+                failure =
+                        new Failure<>(
+                                future,
+                                saturatedAdd(clock.epochNanos(), backoffNanos(failures)),
+                                failures);
+                inFlight.set(null);
+                future.completeExceptionally(t);
+                onFailure.accept(t);
+                return;
+            }
+
+            final long now = clock.epochNanos();
+            entry =
+                    new Entry<>(
+                            value,
+                            saturatedAdd(now, refreshAfterNanos),
+                            saturatedAdd(now, ttlNanos));
+            failure = null;
+            inFlight.set(null);
+            future.complete(value);
+        }
+
+        private long backoffNanos(final int failures) {
+            long backoff = initialBackoffNanos;
+            for (int i = 1; i < failures && backoff < ttlNanos; i++) {
+                backoff = backoff > ttlNanos / 2 ? ttlNanos : backoff * 2;
+            }
+            return Math.min(backoff, ttlNanos);
+        }
+
+        private static <T> T await(final CompletableFuture<T> future) {
+            try {
+                return future.join();
+            } catch (final CompletionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+
+        private static final class Entry<T> {
+            final T value;
+            final long refreshAt;
+            final long expiry;
+
+            Entry(final T value, final long refreshAt, final long expiry) {
+                this.value = value;
+                this.refreshAt = refreshAt;
+                this.expiry = expiry;
+            }
+        }
+
+        private static final class Failure<T> {
+            final CompletableFuture<T> refresh;
+            final long retryAt;
+            final int count;
+
+            Failure(final CompletableFuture<T> refresh, final long retryAt, final int count) {
+                this.refresh = refresh;
+                this.retryAt = retryAt;
+                this.count = count;
+            }
+        }
     }
 }
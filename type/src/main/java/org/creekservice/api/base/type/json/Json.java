@@ -16,6 +16,14 @@
 
 package org.creekservice.api.base.type.json;
 
+import static org.creekservice.api.base.type.RuntimeIOException.runtimeIOException;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * JSON helper methods.
  *
@@ -23,7 +31,27 @@ package org.creekservice.api.base.type.json;
  */
 public final class Json {
 
-    private static final int ISO_CONTROL_ESCAPE_COUNT = 5;
+    /** Value in the escape table for chars that do not require escaping. */
+    static final byte NO_ESCAPE = 0;
+
+    /** Value in the escape table for chars that require a unicode escape sequence. */
+    static final byte UNICODE_ESCAPE = 'u';
+
+    private static final int UNICODE_ESCAPE_COUNT = 5;
+
+    /** Default batch size above which {@link #escapeJsonBulk(List, int[])} runs in parallel. */
+    public static final int DEFAULT_BULK_PARALLEL_THRESHOLD = 1024;
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * Escape classification table, indexed by char.
+     *
+     * <p>Covers all chars up to the last ISO control char: chars beyond the table never require
+     * escaping. Entries are either {@link #NO_ESCAPE}, {@link #UNICODE_ESCAPE}, or the char to
+     * follow the backslash in the char's two char escape sequence.
+     */
+    private static final byte[] ESCAPES = buildEscapeTable();
 
     private Json() {}
 
@@ -35,7 +63,266 @@ public final class Json {
      * @param startPos the position within {@code toEscape} to start the escaping from.
      */
     public static void escapeJson(final StringBuilder toEscape, final int startPos) {
-        final int escapeCount = escapeCount(toEscape, startPos);
+        escapeJson(toEscape, startPos, false);
+    }
+
+    /**
+     * Do an in-place replacement to escape characters in {@code toEscape} starting from {@code
+     * startPos}, such that the result is 7-bit ASCII.
+     *
+     * <p>As {@link #escapeJson(StringBuilder, int)}, except any non-ASCII char is also written as a
+     * six char unicode escape sequence. Surrogate pairs are written as two escape sequences.
+     *
+     * @param toEscape the SB holding the text to escape
+     * @param startPos the position within {@code toEscape} to start the escaping from.
+     */
+    public static void escapeJsonAscii(final StringBuilder toEscape, final int startPos) {
+        escapeJson(toEscape, startPos, true);
+    }
+
+    /**
+     * Calculate the exact length of the escaped form of {@code source}, without escaping it.
+     *
+     * @param source the text to escape.
+     * @return the length of the escaped text.
+     * @throws ArithmeticException if the escaped length would exceed {@link Integer#MAX_VALUE}.
+     */
+    public static int escapedLength(final CharSequence source) {
+        final int length = source.length();
+        return Math.addExact(length, escapeCount(source, 0, length));
+    }
+
+    /**
+     * Escape {@code source} into a new {@link String}.
+     *
+     * <p>If {@code source} is a {@link String} that needs no escaping it is returned unchanged,
+     * without copying. Otherwise, the escaped text is written into a single array of exactly the
+     * escaped length, avoiding the repeated resizing of an {@link Appendable} target.
+     *
+     * @param source the text to escape.
+     * @return the escaped text.
+     * @throws ArithmeticException if the escaped length would exceed {@link Integer#MAX_VALUE}.
+     */
+    public static String escapeToString(final CharSequence source) {
+        final int length = source.length();
+        final int escapeCount = escapeCount(source, 0, length);
+        if (escapeCount == 0) {
+            return source.toString();
+        }
+
+        final char[] escaped = new char[Math.addExact(length, escapeCount)];
+        escapeInto(source, escaped, 0);
+        return new String(escaped);
+    }
+
+    /**
+     * Escape a batch of independent strings into a single array.
+     *
+     * <p>Uses the {@link ForkJoinPool#commonPool() common pool} for batches of at least {@link
+     * #DEFAULT_BULK_PARALLEL_THRESHOLD} strings.
+     *
+     * @param sources the texts to escape.
+     * @param offsets array of at least {@code sources.size() + 1} elements, populated with the
+     *     offsets into the returned array of each escaped text, followed by the total length.
+     * @return the escaped texts, back-to-back.
+     * @throws ArithmeticException if the total escaped length would exceed {@link
+     *     Integer#MAX_VALUE}.
+     * @see #escapeJsonBulk(List, int[], ForkJoinPool, int)
+     */
+    public static char[] escapeJsonBulk(
+            final List<? extends CharSequence> sources, final int[] offsets) {
+        return escapeJsonBulk(
+                sources, offsets, ForkJoinPool.commonPool(), DEFAULT_BULK_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Escape a batch of independent strings into a single array.
+     *
+     * <p>The escaped form of {@code sources.get(i)} is written to the returned array in the range
+     * {@code [offsets[i], offsets[i + 1])}.
+     *
+     * <p>Batches of at least {@code parallelThreshold} strings are split into tasks, which are run
+     * on {@code pool}. Smaller batches are escaped on the calling thread. The output is the same
+     * regardless of how the work is split.
+     *
+     * @param sources the texts to escape.
+     * @param offsets array of at least {@code sources.size() + 1} elements, populated with the
+     *     offsets into the returned array of each escaped text, followed by the total length.
+     * @param pool the pool to run parallel tasks on.
+     * @param parallelThreshold the minimum number of strings to escape in parallel.
+     * @return the escaped texts, back-to-back.
+     * @throws ArithmeticException if the total escaped length would exceed {@link
+     *     Integer#MAX_VALUE}.
+     */
+    public static char[] escapeJsonBulk(
+            final List<? extends CharSequence> sources,
+            final int[] offsets,
+            final ForkJoinPool pool,
+            final int parallelThreshold) {
+        return JsonBulkEscaper.escape(sources, offsets, pool, parallelThreshold);
+    }
+
+    /**
+     * Write the escaped form of {@code source} to {@code target}.
+     *
+     * @param source the text to escape.
+     * @param target the target to write the escaped text to.
+     * @throws org.creekservice.api.base.type.RuntimeIOException on failure to write to {@code
+     *     target}.
+     */
+    public static void escapeJson(final CharSequence source, final Appendable target) {
+        escapeJson(source, 0, source.length(), target);
+    }
+
+    /**
+     * Write the escaped form of the {@code source} range {@code [start, end)} to {@code target}.
+     *
+     * <p>Runs of characters that do not require escaping are written to {@code target} in bulk,
+     * without any intermediate buffer.
+     *
+     * @param source the text to escape.
+     * @param start the index of the first char in {@code source} to escape, inclusive.
+     * @param end the index of the last char in {@code source} to escape, exclusive.
+     * @param target the target to write the escaped text to.
+     * @throws IndexOutOfBoundsException if the range is not within {@code source}.
+     * @throws org.creekservice.api.base.type.RuntimeIOException on failure to write to {@code
+     *     target}.
+     */
+    public static void escapeJson(
+            final CharSequence source, final int start, final int end, final Appendable target) {
+        escapeJson(source, start, end, target, false);
+    }
+
+    /**
+     * Write the escaped form of {@code source} to {@code target}, such that the output is 7-bit
+     * ASCII.
+     *
+     * @param source the text to escape.
+     * @param target the target to write the escaped text to.
+     * @throws org.creekservice.api.base.type.RuntimeIOException on failure to write to {@code
+     *     target}.
+     * @see #escapeJsonAscii(StringBuilder, int)
+     */
+    public static void escapeJsonAscii(final CharSequence source, final Appendable target) {
+        escapeJsonAscii(source, 0, source.length(), target);
+    }
+
+    /**
+     * Write the escaped form of the {@code source} range {@code [start, end)} to {@code target},
+     * such that the output is 7-bit ASCII.
+     *
+     * @param source the text to escape.
+     * @param start the index of the first char in {@code source} to escape, inclusive.
+     * @param end the index of the last char in {@code source} to escape, exclusive.
+     * @param target the target to write the escaped text to.
+     * @throws IndexOutOfBoundsException if the range is not within {@code source}.
+     * @throws org.creekservice.api.base.type.RuntimeIOException on failure to write to {@code
+     *     target}.
+     * @see #escapeJsonAscii(StringBuilder, int)
+     */
+    public static void escapeJsonAscii(
+            final CharSequence source, final int start, final int end, final Appendable target) {
+        escapeJson(source, start, end, target, true);
+    }
+
+    /**
+     * Reverse {@link #escapeJson}, decoding any escape sequences in {@code source}.
+     *
+     * <p>If {@code source} contains no escape sequences it is returned unchanged, without copying.
+     *
+     * @param source the escaped text.
+     * @return the unescaped text.
+     * @throws IllegalArgumentException on invalid or incomplete escape sequences.
+     */
+    public static String unescapeJson(final String source) {
+        final int first = source.indexOf('\\');
+        if (first == -1) {
+            return source;
+        }
+
+        final StringBuilder sb = new StringBuilder(source.length());
+        sb.append(source, 0, first);
+        unescapeJson(source, first, source.length(), sb);
+        return sb.toString();
+    }
+
+    /**
+     * Write the unescaped form of the {@code source} range {@code [start, end)} to {@code target}.
+     *
+     * <p>Decodes the two char escape sequences, including {@code \/}, and unicode escape sequences,
+     * including surrogate pairs. Runs of characters without escape sequences are written to {@code
+     * target} in bulk.
+     *
+     * @param source the escaped text.
+     * @param start the index of the first char in {@code source} to unescape, inclusive.
+     * @param end the index of the last char in {@code source} to unescape, exclusive.
+     * @param target the target to write the unescaped text to.
+     * @throws IndexOutOfBoundsException if the range is not within {@code source}.
+     * @throws IllegalArgumentException on invalid or incomplete escape sequences.
+     * @throws org.creekservice.api.base.type.RuntimeIOException on failure to write to {@code
+     *     target}.
+     */
+    public static void unescapeJson(
+            final CharSequence source, final int start, final int end, final Appendable target) {
+        Objects.checkFromToIndex(start, end, source.length());
+        try {
+            int runStart = start;
+            for (int i = indexOfBackslash(source, start, end);
+                    i < end;
+                    i = indexOfBackslash(source, runStart, end)) {
+                appendRun(source, runStart, i, target);
+
+                if (i + 1 == end) {
+                    throw invalidEscape("Incomplete escape sequence", source, i, end);
+                }
+
+                final char c = source.charAt(i + 1);
+                if (c == 'u') {
+                    target.append(parseUnicodeEscape(source, i, end));
+                    runStart = i + 6;
+                } else {
+                    target.append(unescapeOf(c, source, i, end));
+                    runStart = i + 2;
+                }
+            }
+            appendRun(source, runStart, end, target);
+        } catch (final IOException e) {
+            throw runtimeIOException("Failed to write unescaped JSON", e);
+        }
+    }
+
+    /**
+     * Get the escape classification of a char.
+     *
+     * @param c the char to classify.
+     * @return {@link #NO_ESCAPE} if {@code c} does not require escaping, {@link #UNICODE_ESCAPE} if
+     *     it requires a unicode escape sequence, otherwise the char to follow the backslash in its
+     *     two char escape sequence.
+     */
+    static byte escapeOf(final char c) {
+        return c < ESCAPES.length ? ESCAPES[c] : NO_ESCAPE;
+    }
+
+    /**
+     * Get the escape classification of a char, when escaping to 7-bit ASCII.
+     *
+     * @param c the char to classify.
+     * @return as {@link #escapeOf}, except all non-ASCII chars are {@link #UNICODE_ESCAPE}.
+     */
+    static byte asciiEscapeOf(final char c) {
+        return c < 0x80 ? ESCAPES[c] : UNICODE_ESCAPE;
+    }
+
+    static char upperCaseHex(final int digit) {
+        if (digit < 0 || digit >= 16) {
+            throw new IllegalArgumentException("Invalid hex digit in ISO control character");
+        }
+        return HEX_DIGITS[digit];
+    }
+
+    private static void escapeJson(
+            final StringBuilder toEscape, final int startPos, final boolean ascii) {
+        final int escapeCount = escapeCount(toEscape, startPos, toEscape.length(), ascii);
         if (escapeCount == 0) {
             return;
         }
@@ -43,97 +330,241 @@ public final class Json {
         final int endPos = toEscape.length() - 1;
         toEscape.setLength(toEscape.length() + escapeCount);
 
-        escape(toEscape, endPos);
+        escape(toEscape, endPos, ascii);
+    }
+
+    private static void escapeJson(
+            final CharSequence source,
+            final int start,
+            final int end,
+            final Appendable target,
+            final boolean ascii) {
+        Objects.checkFromToIndex(start, end, source.length());
+        try {
+            int runStart = start;
+            for (int i = indexOfEscape(source, start, end, ascii);
+                    i < end;
+                    i = indexOfEscape(source, i + 1, end, ascii)) {
+                appendRun(source, runStart, i, target);
+                runStart = i + 1;
+
+                final char c = source.charAt(i);
+                final byte escape = ascii ? asciiEscapeOf(c) : escapeOf(c);
+                if (escape == UNICODE_ESCAPE) {
+                    target.append('\\')
+                            .append('u')
+                            .append(HEX_DIGITS[c >>> 12])
+                            .append(HEX_DIGITS[(c >>> 8) & 0xF])
+                            .append(HEX_DIGITS[(c >>> 4) & 0xF])
+                            .append(HEX_DIGITS[c & 0xF]);
+                } else {
+                    target.append('\\').append((char) escape);
+                }
+            }
+            appendRun(source, runStart, end, target);
+        } catch (final IOException e) {
+            throw runtimeIOException("Failed to write escaped JSON", e);
+        }
+    }
+
+    private static int indexOfEscape(
+            final CharSequence source, final int from, final int to, final boolean ascii) {
+        return ascii
+                ? JsonEscapeScanner.indexOfAsciiEscape(source, from, to)
+                : JsonEscapeScanner.indexOfEscape(source, from, to);
+    }
+
+    private static void appendRun(
+            final CharSequence source, final int start, final int end, final Appendable target)
+            throws IOException {
+        if (start == end) {
+            return;
+        }
+
+        if (source instanceof String && target instanceof Writer) {
+            // Writer.append(CharSequence, int, int) allocates a sub-sequence; write avoids this:
+            ((Writer) target).write((String) source, start, end - start);
+        } else {
+            target.append(source, start, end);
+        }
+    }
+
+    private static int indexOfBackslash(final CharSequence source, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            if (source.charAt(i) == '\\') {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    private static char unescapeOf(
+            final char c, final CharSequence source, final int pos, final int end) {
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                return c;
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            default:
+                throw invalidEscape("Invalid escape sequence", source, pos, end);
+        }
+    }
+
+    private static char parseUnicodeEscape(
+            final CharSequence source, final int pos, final int end) {
+        if (end - pos < 6) {
+            throw invalidEscape("Incomplete unicode escape sequence", source, pos, end);
+        }
+
+        int value = 0;
+        for (int i = pos + 2; i < pos + 6; i++) {
+            final int digit = hexValue(source.charAt(i));
+            if (digit == -1) {
+                throw invalidEscape("Invalid unicode escape sequence", source, pos, end);
+            }
+            value = (value << 4) | digit;
+        }
+        return (char) value;
+    }
+
+    private static int hexValue(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private static IllegalArgumentException invalidEscape(
+            final String msg, final CharSequence source, final int pos, final int end) {
+        return new IllegalArgumentException(
+                msg + " at index " + pos + ": " + source.subSequence(pos, Math.min(end, pos + 6)));
+    }
+
+    private static int copyRun(
+            final CharSequence source,
+            final int start,
+            final int end,
+            final char[] target,
+            final int pos) {
+        if (source instanceof String) {
+            ((String) source).getChars(start, end, target, pos);
+        } else if (source instanceof StringBuilder) {
+            ((StringBuilder) source).getChars(start, end, target, pos);
+        } else {
+            for (int i = start; i < end; i++) {
+                target[pos + i - start] = source.charAt(i);
+            }
+        }
+        return pos + end - start;
+    }
+
+    /**
+     * Escape {@code source} into {@code target}, which must have space for {@link
+     * #escapedLength(CharSequence)} chars from {@code pos}.
+     *
+     * @return the index after the last char written.
+     */
+    static int escapeInto(final CharSequence source, final char[] target, final int pos) {
+        final int length = source.length();
+        int next = pos;
+        int runStart = 0;
+        for (int i = JsonEscapeScanner.indexOfEscape(source, 0, length);
+                i < length;
+                i = JsonEscapeScanner.indexOfEscape(source, i + 1, length)) {
+            next = copyRun(source, runStart, i, target, next);
+            next = writeEscape(source.charAt(i), target, next);
+            runStart = i + 1;
+        }
+        return copyRun(source, runStart, length, target, next);
+    }
+
+    private static int writeEscape(final char c, final char[] target, final int pos) {
+        final byte escape = escapeOf(c);
+        target[pos] = '\\';
+        if (escape != UNICODE_ESCAPE) {
+            target[pos + 1] = (char) escape;
+            return pos + 2;
+        }
+
+        target[pos + 1] = 'u';
+        target[pos + 2] = HEX_DIGITS[c >>> 12];
+        target[pos + 3] = HEX_DIGITS[(c >>> 8) & 0xF];
+        target[pos + 4] = HEX_DIGITS[(c >>> 4) & 0xF];
+        target[pos + 5] = HEX_DIGITS[c & 0xF];
+        return pos + 6;
     }
 
-    private static int escapeCount(final StringBuilder toEscape, final int startPos) {
+    private static int escapeCount(final CharSequence toEscape, final int startPos, final int end) {
+        return escapeCount(toEscape, startPos, end, false);
+    }
+
+    private static int escapeCount(
+            final CharSequence toEscape, final int startPos, final int end, final boolean ascii) {
         int escapeCount = 0;
-        for (int i = startPos; i < toEscape.length(); i++) {
+        for (int i = indexOfEscape(toEscape, startPos, end, ascii);
+                i < end;
+                i = indexOfEscape(toEscape, i + 1, end, ascii)) {
             final char c = toEscape.charAt(i);
-            switch (c) {
-                case '"':
-                case '\\':
-                case '\t':
-                case '\n':
-                case '\r':
-                case '\b':
-                case '\f':
-                    escapeCount++;
-                    break;
-                default:
-                    if (Character.isISOControl(c)) {
-                        escapeCount += ISO_CONTROL_ESCAPE_COUNT;
-                    }
-            }
+            final byte escape = ascii ? asciiEscapeOf(c) : escapeOf(c);
+            escapeCount += escape == UNICODE_ESCAPE ? UNICODE_ESCAPE_COUNT : 1;
         }
         return escapeCount;
     }
 
     @SuppressWarnings("OverflowingLoopIndex")
-    private static void escape(final StringBuilder toEscape, final int endPos) {
+    private static void escape(
+            final StringBuilder toEscape, final int endPos, final boolean ascii) {
         int lastPos = toEscape.length() - 1;
         for (int i = endPos; lastPos > i; i--) {
             final char c = toEscape.charAt(i);
-            switch (c) {
-                case '"':
-                case '\\':
-                    lastPos = escapeAndDecrement(toEscape, lastPos, c);
-                    break;
-
-                case '\t':
-                    lastPos = escapeAndDecrement(toEscape, lastPos, 't');
-                    break;
-
-                case '\n':
-                    lastPos = escapeAndDecrement(toEscape, lastPos, 'n');
-                    break;
-
-                case '\r':
-                    lastPos = escapeAndDecrement(toEscape, lastPos, 'r');
-                    break;
-
-                case '\b':
-                    lastPos = escapeAndDecrement(toEscape, lastPos, 'b');
-                    break;
-
-                case '\f':
-                    lastPos = escapeAndDecrement(toEscape, lastPos, 'f');
-                    break;
-
-                default:
-                    if (Character.isISOControl(c)) {
-                        // ISO control characters are U+00xx, while JSON output format is "\\u00XX"
-                        toEscape.setCharAt(lastPos--, upperCaseHex(c & 0xF));
-                        toEscape.setCharAt(lastPos--, upperCaseHex((c & 0xF0) >> 4));
-                        toEscape.setCharAt(lastPos--, '0');
-                        toEscape.setCharAt(lastPos--, '0');
-                        toEscape.setCharAt(lastPos--, 'u');
-                        toEscape.setCharAt(lastPos--, '\\');
-                    } else {
-                        toEscape.setCharAt(lastPos, c);
-                        lastPos--;
-                    }
+            final byte escape = ascii ? asciiEscapeOf(c) : escapeOf(c);
+            if (escape == NO_ESCAPE) {
+                toEscape.setCharAt(lastPos--, c);
+            } else if (escape == UNICODE_ESCAPE) {
+                toEscape.setCharAt(lastPos--, HEX_DIGITS[c & 0xF]);
+                toEscape.setCharAt(lastPos--, HEX_DIGITS[(c >>> 4) & 0xF]);
+                toEscape.setCharAt(lastPos--, HEX_DIGITS[(c >>> 8) & 0xF]);
+                toEscape.setCharAt(lastPos--, HEX_DIGITS[c >>> 12]);
+                toEscape.setCharAt(lastPos--, 'u');
+                toEscape.setCharAt(lastPos--, '\\');
+            } else {
+                toEscape.setCharAt(lastPos--, (char) escape);
+                toEscape.setCharAt(lastPos--, '\\');
             }
         }
     }
 
-    private static int escapeAndDecrement(
-            final StringBuilder toAppendTo, final int lastPos, final char c) {
-        int pos = lastPos;
-        toAppendTo.setCharAt(pos--, c);
-        toAppendTo.setCharAt(pos--, '\\');
-        return pos;
-    }
-
-    private static char upperCaseHex(final int digit) {
-        if (digit < 0 || digit >= 16) {
-            throw new IllegalArgumentException("Invalid hex digit in ISO control character");
+    private static byte[] buildEscapeTable() {
+        final byte[] escapes = new byte[0xA0];
+        for (int c = 0; c < escapes.length; c++) {
+            if (Character.isISOControl(c)) {
+                escapes[c] = UNICODE_ESCAPE;
+            }
         }
 
-        if (digit < 10) {
-            return (char) ('0' + digit);
-        } else {
-            return (char) ('A' + digit - 10);
-        }
+        escapes['"'] = '"';
+        escapes['\\'] = '\\';
+        escapes['\t'] = 't';
+        escapes['\n'] = 'n';
+        escapes['\r'] = 'r';
+        escapes['\b'] = 'b';
+        escapes['\f'] = 'f';
+        return escapes;
     }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Escapes batches of strings into a single array, in parallel.
+ *
+ * <p>Works in three phases: the escaped length of each string is calculated, the lengths are summed
+ * into offsets, then each string is escaped into its own slice of the output. As each slice is
+ * fixed before any string is escaped, the output is deterministic, however the work is split.
+ */
+final class JsonBulkEscaper {
+
+    /** Splitting into more leaves than threads allows work stealing to balance uneven strings. */
+    private static final int LEAVES_PER_THREAD = 4;
+
+    private JsonBulkEscaper() {}
+
+    static char[] escape(
+            final List<? extends CharSequence> sources,
+            final int[] offsets,
+            final ForkJoinPool pool,
+            final int parallelThreshold) {
+        requireNonNull(pool, "pool");
+        final int count = sources.size();
+        if (offsets.length <= count) {
+            throw new IllegalArgumentException(
+                    "offsets must have at least "
+                            + (count + 1)
+                            + " elements, but had "
+                            + offsets.length);
+        }
+        if (parallelThreshold <= 0) {
+            throw new IllegalArgumentException(
+                    "parallelThreshold must be positive, but was " + parallelThreshold);
+        }
+
+        final boolean parallel = count >= parallelThreshold;
+        final int leafSize =
+                parallel ? Math.max(1, count / (pool.getParallelism() * LEAVES_PER_THREAD)) : count;
+
+        // Phase 1: escaped lengths, stored one element along, ready for the prefix sum:
+        run(new Task(sources, offsets, null, 0, count, leafSize), pool, parallel);
+
+        // Phase 2: offsets:
+        offsets[0] = 0;
+        for (int i = 1; i <= count; i++) {
+            offsets[i] = Math.addExact(offsets[i - 1], offsets[i]);
+        }
+
+        // Phase 3: escape into each slice:
+        final char[] output = new char[offsets[count]];
+        run(new Task(sources, offsets, output, 0, count, leafSize), pool, parallel);
+        return output;
+    }
+
+    private static void run(final Task task, final ForkJoinPool pool, final boolean parallel) {
+        if (parallel) {
+            pool.invoke(task);
+        } else {
+            task.compute();
+        }
+    }
+
+    /** Calculates the escaped lengths if {@code output} is null, otherwise escapes. */
+    private static final class Task extends RecursiveAction {
+
+        private final List<? extends CharSequence> sources;
+        private final int[] offsets;
+        private final char[] output;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        Task(
+                final List<? extends CharSequence> sources,
+                final int[] offsets,
+                final char[] output,
+                final int from,
+                final int to,
+                final int leafSize) {
+            this.sources = sources;
+            this.offsets = offsets;
+            this.output = output;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > leafSize) {
+                final int mid = (from + to) >>> 1;
+                invokeAll(
+                        new Task(sources, offsets, output, from, mid, leafSize),
+                        new Task(sources, offsets, output, mid, to, leafSize));
+                return;
+            }
+
+            if (output == null) {
+                for (int i = from; i < to; i++) {
+                    offsets[i + 1] = Json.escapedLength(sources.get(i));
+                }
+            } else {
+                for (int i = from; i < to; i++) {
+                    Json.escapeInto(sources.get(i), output, offsets[i]);
+                }
+            }
+        }
+    }
+}
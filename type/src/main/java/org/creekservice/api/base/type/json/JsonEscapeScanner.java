@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+/**
+ * Finds chars that require JSON escaping.
+ *
+ * <p>The multi-release jar contains a Java 21+ variant of this class, built from {@code
+ * src/main/java21}, that uses the Vector API when it is available.
+ */
+final class JsonEscapeScanner {
+
+    private JsonEscapeScanner() {}
+
+    /**
+     * Find the first char in the range {@code [from, to)} that requires escaping.
+     *
+     * @param source the text to search.
+     * @param from the index to start searching from, inclusive.
+     * @param to the index to search to, exclusive.
+     * @return the index of the first char requiring escaping, or {@code to} if there are none.
+     */
+    static int indexOfEscape(final CharSequence source, final int from, final int to) {
+        return ScalarJsonEscapeScanner.indexOfEscape(source, from, to);
+    }
+
+    /**
+     * Find the first char in the range {@code [from, to)} that requires escaping to produce 7-bit
+     * ASCII output.
+     *
+     * @param source the text to search.
+     * @param from the index to start searching from, inclusive.
+     * @param to the index to search to, exclusive.
+     * @return the index of the first char requiring escaping, or {@code to} if there are none.
+     */
+    static int indexOfAsciiEscape(final CharSequence source, final int from, final int to) {
+        return ScalarJsonEscapeScanner.indexOfAsciiEscape(source, from, to);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A precompiled JSON string token, e.g. a property name or enum value.
+ *
+ * <p>The name is escaped and encoded once, on construction. {@link JsonWriter} then writes the
+ * pre-encoded chars or UTF-8 bytes with a single bulk copy, rather than escaping the name on each
+ * use.
+ *
+ * <p>Create instances up front for known names, or obtain them from a {@link JsonNameCache}.
+ *
+ * <p>Consider this class private.
+ */
+public final class JsonName {
+
+    private final String name;
+    private final String quoted;
+    private final byte[] utf8;
+
+    /**
+     * Precompile a name.
+     *
+     * @param name the unescaped name.
+     * @return the precompiled name.
+     */
+    public static JsonName jsonName(final CharSequence name) {
+        return new JsonName(name.toString());
+    }
+
+    private JsonName(final String name) {
+        this.name = requireNonNull(name, "name");
+        final StringBuilder sb = new StringBuilder(name.length() + 2).append('"');
+        Json.escapeJson(name, sb);
+        this.quoted = sb.append('"').toString();
+        this.utf8 = quoted.getBytes(UTF_8);
+    }
+
+    /**
+     * @return the unescaped name.
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return the escaped name, in quotes, i.e. the JSON string.
+     */
+    public String quoted() {
+        return quoted;
+    }
+
+    /**
+     * @return the UTF-8 encoding of {@link #quoted()}. Callers must not modify the array.
+     */
+    byte[] utf8() {
+        return utf8;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return name.equals(((JsonName) o).name);
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return quoted;
+    }
+}
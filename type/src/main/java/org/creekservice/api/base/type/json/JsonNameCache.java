@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, thread-safe cache of {@link JsonName}s.
+ *
+ * <p>Useful where the same, but not statically known, set of names and enum values is written
+ * repeatedly, e.g. in serializers.
+ *
+ * <p>Each name hashes to a pair of adjacent slots. A newly cached name goes into the first slot,
+ * and the previous occupant, if any, moves to the second, evicting whatever was there. Lookups are
+ * therefore lock-free and the cache can never hold more than its capacity, so untrusted keys cannot
+ * grow it without limit. Names longer than {@link #MAX_CACHED_LENGTH} are precompiled but not
+ * cached.
+ *
+ * <p>Consider this class private.
+ */
+public final class JsonNameCache {
+
+    /** Names longer than this are not cached. */
+    public static final int MAX_CACHED_LENGTH = 256;
+
+    private static final int MAX_CAPACITY = 1 << 20;
+
+    private final AtomicReferenceArray<JsonName> slots;
+    private final int mask;
+
+    /**
+     * Create a cache.
+     *
+     * @param capacity the maximum number of cached names. Rounded up to a power of two.
+     * @return the cache.
+     */
+    public static JsonNameCache jsonNameCache(final int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException(
+                    "capacity must be between 1 and " + MAX_CAPACITY + ", but was " + capacity);
+        }
+        return new JsonNameCache(capacity);
+    }
+
+    private JsonNameCache(final int capacity) {
+        final int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(Math.max(size, 1));
+        this.mask = slots.length() - 1;
+    }
+
+    /**
+     * Get the precompiled form of {@code name}, precompiling and caching it if not already cached.
+     *
+     * @param name the unescaped name.
+     * @return the precompiled name.
+     */
+    public JsonName get(final CharSequence name) {
+        if (name.length() > MAX_CACHED_LENGTH) {
+            return JsonName.jsonName(name);
+        }
+
+        final int hash = hash(name);
+        final int first = (hash ^ (hash >>> 16)) & mask;
+        final JsonName primary = slots.getAcquire(first);
+        if (primary != null && primary.name().contentEquals(name)) {
+            return primary;
+        }
+
+        final int second = (first + 1) & mask;
+        final JsonName secondary = slots.getAcquire(second);
+        if (secondary != null && secondary.name().contentEquals(name)) {
+            return secondary;
+        }
+
+        // Benign race: concurrent misses may lose an entry, which is just re-compiled later.
+        final JsonName compiled = JsonName.jsonName(name);
+        if (primary != null) {
+            slots.setRelease(second, primary);
+        }
+        slots.setRelease(first, compiled);
+        return compiled;
+    }
+
+    /**
+     * @return the number of slots in the cache.
+     */
+    public int capacity() {
+        return slots.length();
+    }
+
+    private static int hash(final CharSequence name) {
+        if (name instanceof String) {
+            return name.hashCode();
+        }
+
+        // Same as String.hashCode, without creating a String:
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            hash = 31 * hash + name.charAt(i);
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Formats numbers as JSON, writing directly into a caller supplied {@code byte[]} or {@link
+ * StringBuilder}.
+ *
+ * <p>Longs are formatted without allocating.
+ *
+ * <p>Doubles are formatted in the same format as {@link Double#toString(double)}, e.g. {@code 1.0},
+ * {@code 0.001}, {@code 1.0E7}. NaN and infinite values are rejected, as JSON does not support
+ * them.
+ *
+ * <p>Doubles whose shortest round trip decimal has at most 13 significant digits, no more than 22
+ * decimal places and is below {@code 1e22}, which covers most metric values, are formatted as that
+ * decimal without allocating. Other doubles fall back to {@link Double#toString(double)}, which
+ * allocates, and is only guaranteed to produce the shortest round trip decimal on JDK 19+.
+ *
+ * <p>Instances are reusable, but not thread-safe.
+ *
+ * <p>Consider this class private.
+ */
+public final class JsonNumberFormatter {
+
+    /** The maximum number of bytes a {@code long} is formatted to. */
+    public static final int MAX_LONG_LENGTH = 20;
+
+    /** The maximum number of bytes a {@code double} is formatted to. */
+    public static final int MAX_DOUBLE_LENGTH = 24;
+
+    /** Powers of ten that are exactly representable as a double, i.e. up to {@code 1e22}. */
+    private static final double[] POW10 = buildPow10(22);
+
+    /**
+     * Exclusive upper bound of the decimal significands tried.
+     *
+     * <p>Keeps the error of the multiplication or division used to find each significand small
+     * enough that rounding it finds the only candidate, if there is one.
+     */
+    private static final double MAX_SIGNIFICAND = 0x1p44;
+
+    private static final double LOG10_2 = 0.30102999566398120;
+
+    private final byte[] scratch = new byte[MAX_DOUBLE_LENGTH];
+
+    /**
+     * Create instance
+     *
+     * @return new instance
+     */
+    public static JsonNumberFormatter create() {
+        return new JsonNumberFormatter();
+    }
+
+    private JsonNumberFormatter() {}
+
+    /**
+     * Format {@code value} into {@code target}.
+     *
+     * @param value the value to format.
+     * @param target the array to write to.
+     * @param offset the index to start writing at. At least {@link #MAX_LONG_LENGTH} bytes should
+     *     be available.
+     * @return the index after the last byte written.
+     * @throws IndexOutOfBoundsException if {@code target} is too small.
+     */
+    public int format(final long value, final byte[] target, final int offset) {
+        final int end = offset + stringSize(value);
+        int pos = end;
+
+        // Work with negative values, to handle Long.MIN_VALUE:
+        long q = value < 0 ? value : -value;
+        while (q <= -10) {
+            final long next = q / 10;
+            target[--pos] = (byte) ('0' + next * 10 - q);
+            q = next;
+        }
+        target[--pos] = (byte) ('0' - q);
+
+        if (value < 0) {
+            target[--pos] = '-';
+        }
+        return end;
+    }
+
+    /**
+     * Format {@code value} into {@code target}.
+     *
+     * @param value the value to format.
+     * @param target the array to write to.
+     * @param offset the index to start writing at. At least {@link #MAX_DOUBLE_LENGTH} bytes should
+     *     be available.
+     * @return the index after the last byte written.
+     * @throws IllegalArgumentException if {@code value} is NaN or infinite.
+     * @throws IndexOutOfBoundsException if {@code target} is too small.
+     */
+    public int format(final double value, final byte[] target, final int offset) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException(
+                    "JSON does not support non-finite numbers: " + value);
+        }
+
+        int pos = offset;
+        if (Double.doubleToRawLongBits(value) < 0) {
+            target[pos++] = '-';
+        }
+
+        final double magnitude = Math.abs(value);
+        if (magnitude == 0) {
+            target[pos++] = '0';
+            target[pos++] = '.';
+            target[pos++] = '0';
+            return pos;
+        }
+
+        final int end = formatShortDecimal(magnitude, target, pos);
+        return end < 0 ? formatWithJdk(magnitude, target, pos) : end;
+    }
+
+    /**
+     * Format {@code value} and append it to {@code target}.
+     *
+     * @param value the value to format.
+     * @param target the builder to append to.
+     * @return {@code target}.
+     */
+    public StringBuilder format(final long value, final StringBuilder target) {
+        return append(scratch, format(value, scratch, 0), target);
+    }
+
+    /**
+     * Format {@code value} and append it to {@code target}.
+     *
+     * @param value the value to format.
+     * @param target the builder to append to.
+     * @return {@code target}.
+     * @throws IllegalArgumentException if {@code value} is NaN or infinite.
+     */
+    public StringBuilder format(final double value, final StringBuilder target) {
+        return append(scratch, format(value, scratch, 0), target);
+    }
+
+    private static StringBuilder append(
+            final byte[] ascii, final int length, final StringBuilder target) {
+        for (int i = 0; i < length; i++) {
+            target.append((char) ascii[i]);
+        }
+        return target;
+    }
+
+    private static int stringSize(final long value) {
+        // Count on the negative value, to handle Long.MIN_VALUE:
+        int size = value < 0 ? 2 : 1;
+        for (long q = value < 0 ? value : -value; q <= -10; q /= 10) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Find and format the decimal {@code n * 10^s} with the fewest digits that round trips to
+     * {@code value}, trying each {@code s} from the largest possible down.
+     *
+     * <p>As {@code n} and {@code 10^|s|} are exact doubles, a single multiplication or division
+     * rounds the decimal to the nearest double, exactly as parsing it would. So whether a candidate
+     * round trips can be checked with plain double arithmetic.
+     *
+     * @param value the positive, finite value to format.
+     * @return the index after the last byte written, or {@code -1} if the decimal is out of range.
+     */
+    @SuppressFBWarnings(
+            value = "FE_FLOATING_POINT_EQUALITY",
+            justification = "exact equality is the round trip check")
+    private static int formatShortDecimal(final double value, final byte[] target, final int pos) {
+        // At least floor(log10(value)), so no larger scale has a candidate:
+        final int maxScale = (int) Math.floor((Math.getExponent(value) + 1) * LOG10_2);
+        if (maxScale >= POW10.length || maxScale < 1 - POW10.length) {
+            return -1;
+        }
+
+        for (int scale = maxScale; scale > -POW10.length; scale--) {
+            final double significand;
+            final boolean roundTrips;
+            if (scale >= 0) {
+                final double pow = POW10[scale];
+                if (pow <= 10 * Math.ulp(value)) {
+                    // Several candidates may round trip, and the closest would need finding:
+                    return -1;
+                }
+                significand = Math.rint(value / pow);
+                roundTrips = significand * pow == value;
+            } else {
+                final double pow = POW10[-scale];
+                significand = Math.rint(value * pow);
+                roundTrips = significand / pow == value;
+            }
+
+            if (significand >= MAX_SIGNIFICAND) {
+                return -1;
+            }
+
+            if (roundTrips) {
+                return formatDecimal((long) significand, scale, target, pos);
+            }
+        }
+        return -1;
+    }
+
+    /** Format the decimal {@code significand * 10^scale}. */
+    private static int formatDecimal(
+            final long significand, final int scale, final byte[] target, final int pos) {
+        long digits = significand;
+        int exponent = scale;
+        while (digits % 10 == 0) {
+            digits /= 10;
+            exponent++;
+        }
+
+        final int length = stringSize(digits);
+        // The value is 0.d1d2...dn * 10^e, where:
+        final int e = exponent + length;
+
+        if (-3 < e && e <= 0) {
+            // 10^-3 <= value < 1:
+            int end = pos;
+            target[end++] = '0';
+            target[end++] = '.';
+            for (int i = e; i < 0; i++) {
+                target[end++] = '0';
+            }
+            return writeDigits(digits, length, target, end);
+        }
+
+        if (0 < e && e <= 7) {
+            // 1 <= value < 10^7:
+            if (e < length) {
+                final int end = writeDigits(digits, length, target, pos + 1);
+                System.arraycopy(target, pos + 1, target, pos, e);
+                target[pos + e] = '.';
+                return end;
+            }
+
+            int end = writeDigits(digits, length, target, pos);
+            for (int i = length; i < e; i++) {
+                target[end++] = '0';
+            }
+            target[end++] = '.';
+            target[end++] = '0';
+            return end;
+        }
+
+        // Scientific notation, with one digit before the point:
+        int end = writeDigits(digits, length, target, pos + 1);
+        target[pos] = target[pos + 1];
+        target[pos + 1] = '.';
+        if (length == 1) {
+            target[end++] = '0';
+        }
+        target[end++] = 'E';
+        return writeExponent(e - 1, target, end);
+    }
+
+    private static int writeDigits(
+            final long digits, final int length, final byte[] target, final int pos) {
+        long remaining = digits;
+        for (int i = pos + length - 1; i >= pos; i--) {
+            target[i] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        return pos + length;
+    }
+
+    private static int writeExponent(final int exponent, final byte[] target, final int pos) {
+        int end = pos;
+        int remaining = exponent;
+        if (remaining < 0) {
+            target[end++] = '-';
+            remaining = -remaining;
+        }
+        if (remaining >= 10) {
+            target[end++] = (byte) ('0' + remaining / 10);
+        }
+        target[end++] = (byte) ('0' + remaining % 10);
+        return end;
+    }
+
+    private static int formatWithJdk(final double value, final byte[] target, final int pos) {
+        final String text = Double.toString(value);
+        for (int i = 0; i < text.length(); i++) {
+            target[pos + i] = (byte) text.charAt(i);
+        }
+        return pos + text.length();
+    }
+
+    private static double[] buildPow10(final int max) {
+        final double[] pow10 = new double[max + 1];
+        pow10[0] = 1;
+        for (int i = 1; i < pow10.length; i++) {
+            // Exact, as 5^22 < 2^53:
+            pow10[i] = pow10[i - 1] * 10;
+        }
+        return pow10;
+    }
+}
@@ -0,0 +1,879 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import static java.util.Objects.requireNonNull;
+import static org.creekservice.api.base.type.RuntimeIOException.runtimeIOException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Minimal, dependency free, pull-style JSON tokenizer.
+ *
+ * <p>Call {@link #next()} to advance to the next {@link Token}, then use the accessors to read the
+ * token's value.
+ *
+ * <p>The text of names and strings is exposed as a {@link CharSequence} view over the input where
+ * possible, i.e. where the string contains no escape sequences and, for byte input, no non-ASCII
+ * chars. Otherwise, the text is decoded into an internal reusable buffer. Either way, the returned
+ * text is only valid until the next call to {@link #next()}. Numbers are read directly into
+ * primitives.
+ *
+ * <p>Escape sequences are validated as strings are read, so invalid ones are rejected by {@link
+ * #next()}, including within values skipped by {@link #skipValue()}. Malformed UTF-8 in byte input,
+ * including overlong encodings and encoded surrogates, is decoded as the replacement char, U+FFFD.
+ *
+ * <p>Instances are not thread-safe.
+ *
+ * <p>Consider this class private.
+ */
+public final class JsonReader {
+
+    /** JSON token types. */
+    public enum Token {
+        BEGIN_OBJECT,
+        END_OBJECT,
+        BEGIN_ARRAY,
+        END_ARRAY,
+        NAME,
+        STRING,
+        NUMBER,
+        TRUE,
+        FALSE,
+        NULL,
+        END_DOCUMENT
+    }
+
+    private static final byte EMPTY_DOCUMENT = 0;
+    private static final byte NONEMPTY_DOCUMENT = 1;
+    private static final byte EMPTY_OBJECT = 2;
+    private static final byte NONEMPTY_OBJECT = 3;
+    private static final byte DANGLING_NAME = 4;
+    private static final byte EMPTY_ARRAY = 5;
+    private static final byte NONEMPTY_ARRAY = 6;
+
+    /** Substituted for malformed UTF-8 sequences. */
+    private static final char REPLACEMENT_CHAR = '\uFFFD';
+
+    /** Chars that may follow a backslash, other than {@code u}. */
+    private static final String SIMPLE_ESCAPES = "\"\\/bfnrt";
+
+    private static final long MAX_EXACT_MANTISSA = 999_999_999_999_999L;
+    private static final double[] EXACT_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+        1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final Input input;
+    private byte[] stack = new byte[16];
+    private int depth = 1;
+    private int pos;
+
+    private Token token;
+    private int tokenStart;
+    private int tokenEnd;
+    private boolean tokenHasEscape;
+    private boolean tokenIsAscii;
+    private boolean tokenIsInteger;
+
+    /**
+     * Create a reader over the supplied text.
+     *
+     * @param json the JSON text.
+     * @return the reader.
+     */
+    public static JsonReader jsonReader(final CharSequence json) {
+        return new JsonReader(new CharInput(json));
+    }
+
+    /**
+     * Create a reader over the supplied {@link Reader}.
+     *
+     * <p>The whole content of {@code json} is read into memory up front.
+     *
+     * @param json the source of the JSON text.
+     * @return the reader.
+     * @throws org.creekservice.api.base.type.RuntimeIOException on failure to read {@code json}.
+     */
+    public static JsonReader jsonReader(final Reader json) {
+        final StringBuilder sb = new StringBuilder();
+        final char[] buffer = new char[4096];
+        try {
+            int read;
+            while ((read = json.read(buffer)) != -1) {
+                sb.append(buffer, 0, read);
+            }
+        } catch (final IOException e) {
+            throw runtimeIOException("Failed to read JSON", e);
+        }
+        return jsonReader(sb);
+    }
+
+    /**
+     * Create a reader over the UTF-8 encoded bytes between the position and limit of {@code json}.
+     *
+     * <p>The buffer's position is not changed.
+     *
+     * @param json the UTF-8 encoded JSON.
+     * @return the reader.
+     */
+    public static JsonReader jsonReader(final ByteBuffer json) {
+        return new JsonReader(new ByteInput(json));
+    }
+
+    private JsonReader(final Input input) {
+        this.input = requireNonNull(input, "input");
+        stack[0] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Advance to the next token.
+     *
+     * @return the next token, which is {@link Token#END_DOCUMENT} once the top-level value has been
+     *     read.
+     * @throws IllegalArgumentException on invalid JSON.
+     */
+    public Token next() {
+        skipWhitespace();
+        tokenStart = pos;
+        token = nextToken();
+        return token;
+    }
+
+    /**
+     * @return the current token, or {@code null} if {@link #next()} has not been called.
+     */
+    public Token token() {
+        return token;
+    }
+
+    /**
+     * The text of the current token.
+     *
+     * <p>For names and strings, this is the unescaped text, without quotes. For numbers, it is the
+     * number as it appears in the input.
+     *
+     * <p>The returned text is only valid until the next call to {@link #next()}.
+     *
+     * @return the text.
+     * @throws IllegalStateException if the current token is not a name, string or number.
+     */
+    public CharSequence text() {
+        if (token == Token.NUMBER) {
+            return input.view(tokenStart, tokenEnd);
+        }
+        if (token != Token.NAME && token != Token.STRING) {
+            throw new IllegalStateException("Current token has no text: " + token);
+        }
+        return input.text(tokenStart, tokenEnd, tokenHasEscape, tokenIsAscii);
+    }
+
+    /**
+     * @return the text of the current token as a new {@link String}.
+     * @see #text()
+     */
+    public String stringValue() {
+        return text().toString();
+    }
+
+    /**
+     * @return the value of the current boolean token.
+     * @throws IllegalStateException if the current token is not a boolean.
+     */
+    public boolean booleanValue() {
+        if (token != Token.TRUE && token != Token.FALSE) {
+            throw new IllegalStateException("Current token is not a boolean: " + token);
+        }
+        return token == Token.TRUE;
+    }
+
+    /**
+     * @return the value of the current number token.
+     * @throws IllegalStateException if the current token is not a number.
+     * @throws IllegalArgumentException if the number is not an integer or is out of range.
+     */
+    public long longValue() {
+        requireNumber();
+        if (!tokenIsInteger) {
+            throw new IllegalArgumentException("Number is not an integer: " + text());
+        }
+
+        final boolean negative = input.at(tokenStart) == '-';
+        long value = 0;
+        for (int i = negative ? tokenStart + 1 : tokenStart; i < tokenEnd; i++) {
+            final int digit = input.at(i) - '0';
+            // Accumulate negatively, to handle Long.MIN_VALUE:
+            if (value < (Long.MIN_VALUE + digit) / 10) {
+                throw new IllegalArgumentException("Number out of range for long: " + text());
+            }
+            value = value * 10 - digit;
+        }
+
+        if (!negative) {
+            if (value == Long.MIN_VALUE) {
+                throw new IllegalArgumentException("Number out of range for long: " + text());
+            }
+            return -value;
+        }
+        return value;
+    }
+
+    /**
+     * @return the value of the current number token.
+     * @throws IllegalStateException if the current token is not a number.
+     * @throws IllegalArgumentException if the number is out of range.
+     */
+    public int intValue() {
+        final long value = longValue();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Number out of range for int: " + text());
+        }
+        return (int) value;
+    }
+
+    /**
+     * Get the value of the current number token.
+     *
+     * <p>Numbers with up to 15 significant digits and a small exponent are converted without
+     * allocation. Others fall back to {@link Double#parseDouble}.
+     *
+     * @return the value of the current number token.
+     * @throws IllegalStateException if the current token is not a number.
+     */
+    public double doubleValue() {
+        requireNumber();
+
+        final boolean negative = input.at(tokenStart) == '-';
+        final int digitsStart = negative ? tokenStart + 1 : tokenStart;
+        final int exponentStart = indexOfExponent(digitsStart);
+        final int dot = indexOfDot(digitsStart, exponentStart);
+        final int fractionDigits = dot < 0 ? 0 : exponentStart - dot - 1;
+        final int exponent =
+                (exponentStart == tokenEnd ? 0 : parseExponent(exponentStart + 1)) - fractionDigits;
+        final long mantissa = exactMantissa(digitsStart, exponentStart);
+
+        if (mantissa < 0 || Math.abs(exponent) >= EXACT_POWERS_OF_TEN.length) {
+            return Double.parseDouble(input.view(tokenStart, tokenEnd).toString());
+        }
+
+        final double value =
+                exponent < 0
+                        ? mantissa / EXACT_POWERS_OF_TEN[-exponent]
+                        : mantissa * EXACT_POWERS_OF_TEN[exponent];
+        return negative ? -value : value;
+    }
+
+    /**
+     * Skip the next value, including any nested values.
+     *
+     * <p>Call after reading a {@link Token#NAME} to skip the property's value, or within an array
+     * to skip the next element.
+     *
+     * @throws IllegalStateException if there is no value to skip.
+     */
+    public void skipValue() {
+        int nesting = 0;
+        do {
+            switch (next()) {
+                case BEGIN_OBJECT:
+                case BEGIN_ARRAY:
+                    nesting++;
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    nesting--;
+                    break;
+                case NAME:
+                    if (nesting == 0) {
+                        throw new IllegalStateException("Expected a value, not a name");
+                    }
+                    break;
+                case END_DOCUMENT:
+                    throw new IllegalStateException("No value to skip");
+                default:
+                    break;
+            }
+        } while (nesting > 0);
+
+        if (nesting < 0) {
+            throw new IllegalStateException("No value to skip");
+        }
+    }
+
+    private Token nextToken() {
+        final byte state = stack[depth - 1];
+        switch (state) {
+            case EMPTY_DOCUMENT:
+                stack[depth - 1] = NONEMPTY_DOCUMENT;
+                return readValue();
+            case NONEMPTY_DOCUMENT:
+                if (pos != input.length()) {
+                    throw invalid("Unexpected content after top-level value");
+                }
+                return Token.END_DOCUMENT;
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+            case DANGLING_NAME:
+                return nextInObject(state);
+            default:
+                return nextInArray(state);
+        }
+    }
+
+    private Token nextInObject(final byte state) {
+        if (state == DANGLING_NAME) {
+            consumeSeparator(':');
+            stack[depth - 1] = NONEMPTY_OBJECT;
+            return readValue();
+        }
+        if (tryEnd('}')) {
+            return Token.END_OBJECT;
+        }
+        if (state == NONEMPTY_OBJECT) {
+            consumeSeparator(',');
+        }
+        return readName();
+    }
+
+    private Token nextInArray(final byte state) {
+        if (tryEnd(']')) {
+            return Token.END_ARRAY;
+        }
+        if (state == NONEMPTY_ARRAY) {
+            consumeSeparator(',');
+        } else {
+            stack[depth - 1] = NONEMPTY_ARRAY;
+        }
+        return readValue();
+    }
+
+    private boolean tryEnd(final char end) {
+        if (pos < input.length() && input.at(pos) == end) {
+            pos++;
+            depth--;
+            return true;
+        }
+        return false;
+    }
+
+    private void consumeSeparator(final char separator) {
+        if (pos == input.length() || input.at(pos) != separator) {
+            throw invalid("Expected '" + separator + "'");
+        }
+        pos++;
+        skipWhitespace();
+        tokenStart = pos;
+    }
+
+    private Token readName() {
+        if (pos == input.length() || input.at(pos) != '"') {
+            throw invalid("Expected a name");
+        }
+        readString();
+        stack[depth - 1] = DANGLING_NAME;
+        return Token.NAME;
+    }
+
+    private Token readValue() {
+        if (pos == input.length()) {
+            throw invalid("Unexpected end of input");
+        }
+
+        final int c = input.at(pos);
+        switch (c) {
+            case '{':
+                pos++;
+                push(EMPTY_OBJECT);
+                return Token.BEGIN_OBJECT;
+            case '[':
+                pos++;
+                push(EMPTY_ARRAY);
+                return Token.BEGIN_ARRAY;
+            case '"':
+                readString();
+                return Token.STRING;
+            case 't':
+                return readLiteral("true", Token.TRUE);
+            case 'f':
+                return readLiteral("false", Token.FALSE);
+            case 'n':
+                return readLiteral("null", Token.NULL);
+            default:
+                readNumber();
+                return Token.NUMBER;
+        }
+    }
+
+    private void readString() {
+        final int length = input.length();
+        int i = pos + 1;
+        int maxChar = 0;
+        boolean hasEscape = false;
+        while (true) {
+            if (i >= length) {
+                throw invalid("Unterminated string");
+            }
+
+            final int c = input.at(i);
+            if (c == '"') {
+                break;
+            }
+            if (c < 0x20) {
+                throw invalid("Unescaped control character in string");
+            }
+            if (c == '\\') {
+                hasEscape = true;
+                i = requireValidEscape(i);
+            }
+            maxChar |= c;
+            i++;
+        }
+
+        tokenStart = pos + 1;
+        tokenEnd = i;
+        tokenHasEscape = hasEscape;
+        tokenIsAscii = maxChar < 0x80;
+        pos = i + 1;
+    }
+
+    /**
+     * @param backslash the index of the backslash starting the escape sequence.
+     * @return the index of the last char of the escape sequence.
+     */
+    private int requireValidEscape(final int backslash) {
+        final int length = input.length();
+        if (backslash + 1 >= length) {
+            throw invalid("Unterminated string");
+        }
+
+        final int c = input.at(backslash + 1);
+        if (c != 'u') {
+            if (SIMPLE_ESCAPES.indexOf(c) < 0) {
+                throw invalid("Invalid escape sequence in string");
+            }
+            return backslash + 1;
+        }
+
+        for (int i = backslash + 2; i < backslash + 6; i++) {
+            if (i >= length || !isHexDigit(input.at(i))) {
+                throw invalid("Invalid unicode escape sequence in string");
+            }
+        }
+        return backslash + 5;
+    }
+
+    private Token readLiteral(final String literal, final Token literalToken) {
+        final int end = pos + literal.length();
+        if (end > input.length()) {
+            throw invalid("Invalid literal");
+        }
+        for (int i = 0; i < literal.length(); i++) {
+            if (input.at(pos + i) != literal.charAt(i)) {
+                throw invalid("Invalid literal");
+            }
+        }
+        pos = end;
+        return literalToken;
+    }
+
+    private void readNumber() {
+        int i = pos;
+        if (i < input.length() && input.at(i) == '-') {
+            i++;
+        }
+
+        final int intStart = i;
+        i = skipDigits(i);
+        if (i == intStart || (input.at(intStart) == '0' && i - intStart > 1)) {
+            throw invalid("Invalid number");
+        }
+
+        final int intEnd = i;
+        i = skipFraction(i);
+        i = skipExponent(i);
+
+        tokenStart = pos;
+        tokenEnd = i;
+        tokenIsInteger = i == intEnd;
+        pos = i;
+    }
+
+    private int skipFraction(final int from) {
+        if (from < input.length() && input.at(from) == '.') {
+            return requireDigits(from + 1);
+        }
+        return from;
+    }
+
+    private int skipExponent(final int from) {
+        if (from == input.length() || (input.at(from) != 'e' && input.at(from) != 'E')) {
+            return from;
+        }
+
+        int i = from + 1;
+        if (i < input.length() && (input.at(i) == '+' || input.at(i) == '-')) {
+            i++;
+        }
+        return requireDigits(i);
+    }
+
+    private int skipDigits(final int from) {
+        int i = from;
+        while (i < input.length() && isDigit(input.at(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private int requireDigits(final int from) {
+        final int i = skipDigits(from);
+        if (i == from) {
+            throw invalid("Invalid number");
+        }
+        return i;
+    }
+
+    private int parseExponent(final int from) {
+        int i = from;
+        final boolean negative = input.at(i) == '-';
+        if (negative || input.at(i) == '+') {
+            i++;
+        }
+
+        int exponent = 0;
+        for (; i < tokenEnd && exponent < 1_000; i++) {
+            exponent = exponent * 10 + input.at(i) - '0';
+        }
+        return negative ? -exponent : exponent;
+    }
+
+    private int indexOfExponent(final int from) {
+        int i = from;
+        while (i < tokenEnd && input.at(i) != 'e' && input.at(i) != 'E') {
+            i++;
+        }
+        return i;
+    }
+
+    private int indexOfDot(final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            if (input.at(i) == '.') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the mantissa, ignoring any decimal point, or -1 if it has too many significant digits
+     *     to be converted exactly.
+     */
+    private long exactMantissa(final int from, final int to) {
+        long mantissa = 0;
+        for (int i = from; i < to; i++) {
+            final int c = input.at(i);
+            if (c != '.') {
+                mantissa = mantissa * 10 + c - '0';
+                if (mantissa > MAX_EXACT_MANTISSA) {
+                    return -1;
+                }
+            }
+        }
+        return mantissa;
+    }
+
+    private void requireNumber() {
+        if (token != Token.NUMBER) {
+            throw new IllegalStateException("Current token is not a number: " + token);
+        }
+    }
+
+    private void skipWhitespace() {
+        final int length = input.length();
+        while (pos < length) {
+            final int c = input.at(pos);
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private void push(final byte state) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = state;
+    }
+
+    private IllegalArgumentException invalid(final String msg) {
+        return new IllegalArgumentException("Invalid JSON at index " + pos + ": " + msg);
+    }
+
+    private static boolean isDigit(final int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHexDigit(final int c) {
+        final int lower = c | 0x20;
+        return isDigit(c) || (lower >= 'a' && lower <= 'f');
+    }
+
+    /** Random access to the input, as chars or unsigned bytes. */
+    private abstract static class Input {
+
+        final StringBuilder decoded = new StringBuilder();
+
+        abstract int length();
+
+        abstract int at(int index);
+
+        /**
+         * @return a view over the input range, which contains only ASCII if the input is bytes.
+         */
+        abstract CharSequence view(int start, int end);
+
+        /**
+         * @return the unescaped text of the string in the input range.
+         */
+        abstract CharSequence text(int start, int end, boolean hasEscape, boolean isAscii);
+    }
+
+    private static final class CharInput extends Input {
+
+        private final CharSequence chars;
+        private final View view = new View();
+
+        CharInput(final CharSequence chars) {
+            this.chars = requireNonNull(chars, "chars");
+        }
+
+        @Override
+        int length() {
+            return chars.length();
+        }
+
+        @Override
+        int at(final int index) {
+            return chars.charAt(index);
+        }
+
+        @Override
+        CharSequence view(final int start, final int end) {
+            return view.set(start, end);
+        }
+
+        @Override
+        CharSequence text(
+                final int start, final int end, final boolean hasEscape, final boolean isAscii) {
+            if (!hasEscape) {
+                return view(start, end);
+            }
+
+            decoded.setLength(0);
+            Json.unescapeJson(chars, start, end, decoded);
+            return decoded;
+        }
+
+        private final class View implements CharSequence {
+
+            private int start;
+            private int end;
+
+            View set(final int start, final int end) {
+                this.start = start;
+                this.end = end;
+                return this;
+            }
+
+            @Override
+            public int length() {
+                return end - start;
+            }
+
+            @Override
+            public char charAt(final int index) {
+                return chars.charAt(start + index);
+            }
+
+            @Override
+            public CharSequence subSequence(final int from, final int to) {
+                return chars.subSequence(start + from, start + to);
+            }
+
+            @Override
+            public String toString() {
+                return chars.subSequence(start, end).toString();
+            }
+        }
+    }
+
+    private static final class ByteInput extends Input {
+
+        private final ByteBuffer bytes;
+        private final byte[] array;
+        private final int offset;
+        private final int length;
+        private final AsciiView view = new AsciiView();
+        private final StringBuilder unescaped = new StringBuilder();
+
+        ByteInput(final ByteBuffer bytes) {
+            this.bytes = requireNonNull(bytes, "bytes");
+            this.array = bytes.hasArray() ? bytes.array() : null;
+            this.offset = array == null ? bytes.position() : bytes.arrayOffset() + bytes.position();
+            this.length = bytes.remaining();
+        }
+
+        @Override
+        int length() {
+            return length;
+        }
+
+        @Override
+        int at(final int index) {
+            if (array != null) {
+                return array[offset + index] & 0xFF;
+            }
+            return bytes.get(offset + index) & 0xFF;
+        }
+
+        @Override
+        CharSequence view(final int start, final int end) {
+            return view.set(start, end);
+        }
+
+        @Override
+        CharSequence text(
+                final int start, final int end, final boolean hasEscape, final boolean isAscii) {
+            if (!hasEscape && isAscii) {
+                return view(start, end);
+            }
+
+            decoded.setLength(0);
+            decodeUtf8(start, end);
+            if (!hasEscape) {
+                return decoded;
+            }
+
+            unescaped.setLength(0);
+            Json.unescapeJson(decoded, 0, decoded.length(), unescaped);
+            return unescaped;
+        }
+
+        private void decodeUtf8(final int start, final int end) {
+            int i = start;
+            while (i < end) {
+                final int b = at(i);
+                if (b < 0x80) {
+                    decoded.append((char) b);
+                    i++;
+                } else {
+                    i = decodeMultiByte(b, i, end);
+                }
+            }
+        }
+
+        private int decodeMultiByte(final int b, final int i, final int end) {
+            final int extraBytes;
+            final int minCodePoint;
+            int codePoint;
+            if ((b & 0xE0) == 0xC0) {
+                extraBytes = 1;
+                minCodePoint = 0x80;
+                codePoint = b & 0x1F;
+            } else if ((b & 0xF0) == 0xE0) {
+                extraBytes = 2;
+                minCodePoint = 0x800;
+                codePoint = b & 0x0F;
+            } else if ((b & 0xF8) == 0xF0) {
+                extraBytes = 3;
+                minCodePoint = Character.MIN_SUPPLEMENTARY_CODE_POINT;
+                codePoint = b & 0x07;
+            } else {
+                decoded.append(REPLACEMENT_CHAR);
+                return i + 1;
+            }
+
+            if (i + extraBytes >= end) {
+                decoded.append(REPLACEMENT_CHAR);
+                return i + 1;
+            }
+
+            for (int j = i + 1; j <= i + extraBytes; j++) {
+                final int continuation = at(j);
+                if ((continuation & 0xC0) != 0x80) {
+                    decoded.append(REPLACEMENT_CHAR);
+                    return i + 1;
+                }
+                codePoint = (codePoint << 6) | (continuation & 0x3F);
+            }
+
+            if (isValidScalar(codePoint, minCodePoint)) {
+                decoded.appendCodePoint(codePoint);
+            } else {
+                decoded.append(REPLACEMENT_CHAR);
+            }
+            return i + extraBytes + 1;
+        }
+
+        /** Rejects overlong encodings, surrogates and code points beyond U+10FFFF. */
+        private static boolean isValidScalar(final int codePoint, final int minCodePoint) {
+            return codePoint >= minCodePoint
+                    && codePoint <= Character.MAX_CODE_POINT
+                    && (codePoint < Character.MIN_SURROGATE || codePoint > Character.MAX_SURROGATE);
+        }
+
+        private final class AsciiView implements CharSequence {
+
+            private int start;
+            private int end;
+
+            AsciiView set(final int start, final int end) {
+                this.start = start;
+                this.end = end;
+                return this;
+            }
+
+            @Override
+            public int length() {
+                return end - start;
+            }
+
+            @Override
+            public char charAt(final int index) {
+                return (char) at(start + index);
+            }
+
+            @Override
+            public CharSequence subSequence(final int from, final int to) {
+                return toString().substring(from, to);
+            }
+
+            @Override
+            public String toString() {
+                final char[] chars = new char[end - start];
+                for (int i = 0; i < chars.length; i++) {
+                    chars[i] = (char) at(start + i);
+                }
+                return new String(chars);
+            }
+        }
+    }
+}
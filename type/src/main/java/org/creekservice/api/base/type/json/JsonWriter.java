@@ -0,0 +1,550 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import static java.util.Objects.requireNonNull;
+import static org.creekservice.api.base.type.RuntimeIOException.runtimeIOException;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Minimal, dependency free, streaming JSON writer.
+ *
+ * <p>Writes compact JSON to either an {@link Appendable}, e.g. a {@link StringBuilder} or {@link
+ * Writer}, or as UTF-8 to an {@link OutputStream}. Strings are escaped using {@link Json}.
+ *
+ * <p>Nesting state is held in a primitive stack, and numbers are formatted by a {@link
+ * JsonNumberFormatter} into an internal reusable buffer, so writing values does not allocate. A
+ * writer can be reused for subsequent documents by calling {@link #reset()}.
+ *
+ * <p>Instances are not thread-safe.
+ *
+ * <p>Consider this class private.
+ */
+public final class JsonWriter implements Flushable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private static final byte EMPTY_DOCUMENT = 0;
+    private static final byte NONEMPTY_DOCUMENT = 1;
+    private static final byte EMPTY_OBJECT = 2;
+    private static final byte NONEMPTY_OBJECT = 3;
+    private static final byte DANGLING_NAME = 4;
+    private static final byte EMPTY_ARRAY = 5;
+    private static final byte NONEMPTY_ARRAY = 6;
+
+    private final Sink sink;
+    private final JsonNumberFormatter formatter = JsonNumberFormatter.create();
+    private final byte[] number = new byte[JsonNumberFormatter.MAX_DOUBLE_LENGTH];
+    private byte[] stack = new byte[16];
+    private int depth = 1;
+
+    /**
+     * Create a writer that writes to an {@link Appendable}.
+     *
+     * @param target the target to write to.
+     * @return the writer.
+     */
+    public static JsonWriter jsonWriter(final Appendable target) {
+        return new JsonWriter(new CharSink(target));
+    }
+
+    /**
+     * Create a writer that writes UTF-8 encoded JSON to an {@link OutputStream}.
+     *
+     * <p>Output is buffered internally. Call {@link #flush()} to write any buffered output to
+     * {@code target}.
+     *
+     * @param target the stream to write to.
+     * @return the writer.
+     */
+    public static JsonWriter jsonWriter(final OutputStream target) {
+        return jsonWriter(target, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Create a writer that writes UTF-8 encoded JSON to an {@link OutputStream}.
+     *
+     * <p>Output is buffered internally. Call {@link #flush()} to write any buffered output to
+     * {@code target}.
+     *
+     * @param target the stream to write to.
+     * @param bufferSize the size of the internal buffer, in bytes.
+     * @return the writer.
+     */
+    public static JsonWriter jsonWriter(final OutputStream target, final int bufferSize) {
+        if (bufferSize < Utf8JsonEscaper.MAX_BYTES_PER_CHAR) {
+            throw new IllegalArgumentException(
+                    "bufferSize must be at least "
+                            + Utf8JsonEscaper.MAX_BYTES_PER_CHAR
+                            + ", but was "
+                            + bufferSize);
+        }
+        return new JsonWriter(new ByteSink(target, bufferSize));
+    }
+
+    private JsonWriter(final Sink sink) {
+        this.sink = requireNonNull(sink, "sink");
+        stack[0] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Begin a JSON object.
+     *
+     * @return self.
+     */
+    public JsonWriter beginObject() {
+        beforeValue();
+        push(EMPTY_OBJECT);
+        return write('{');
+    }
+
+    /**
+     * End the current JSON object.
+     *
+     * @return self.
+     */
+    public JsonWriter endObject() {
+        final byte state = peek();
+        if (state != EMPTY_OBJECT && state != NONEMPTY_OBJECT) {
+            throw new IllegalStateException("Not in an object, or a value is expected");
+        }
+        depth--;
+        return write('}');
+    }
+
+    /**
+     * Begin a JSON array.
+     *
+     * @return self.
+     */
+    public JsonWriter beginArray() {
+        beforeValue();
+        push(EMPTY_ARRAY);
+        return write('[');
+    }
+
+    /**
+     * End the current JSON array.
+     *
+     * @return self.
+     */
+    public JsonWriter endArray() {
+        final byte state = peek();
+        if (state != EMPTY_ARRAY && state != NONEMPTY_ARRAY) {
+            throw new IllegalStateException("Not in an array");
+        }
+        depth--;
+        return write(']');
+    }
+
+    /**
+     * Write the name of the next property in the current object.
+     *
+     * @param name the property name.
+     * @return self.
+     */
+    public JsonWriter name(final CharSequence name) {
+        requireNonNull(name, "name");
+        beforeName();
+
+        try {
+            sink.write('"');
+            sink.writeString(name);
+            sink.write('"');
+            sink.write(':');
+        } catch (final IOException e) {
+            throw runtimeIOException("Failed to write JSON", e);
+        }
+        return this;
+    }
+
+    /**
+     * Write the name of the next property in the current object, using its precompiled form.
+     *
+     * @param name the property name.
+     * @return self.
+     */
+    public JsonWriter name(final JsonName name) {
+        requireNonNull(name, "name");
+        beforeName();
+
+        try {
+            sink.writeName(name);
+            sink.write(':');
+        } catch (final IOException e) {
+            throw runtimeIOException("Failed to write JSON", e);
+        }
+        return this;
+    }
+
+    /**
+     * Write a string value.
+     *
+     * @param value the value, which may be {@code null}.
+     * @return self.
+     */
+    public JsonWriter value(final CharSequence value) {
+        if (value == null) {
+            return nullValue();
+        }
+
+        beforeValue();
+        try {
+            sink.write('"');
+            sink.writeString(value);
+            sink.write('"');
+        } catch (final IOException e) {
+            throw runtimeIOException("Failed to write JSON", e);
+        }
+        return this;
+    }
+
+    /**
+     * Write a string value, using its precompiled form.
+     *
+     * @param value the value, which may be {@code null}.
+     * @return self.
+     */
+    public JsonWriter value(final JsonName value) {
+        if (value == null) {
+            return nullValue();
+        }
+
+        beforeValue();
+        try {
+            sink.writeName(value);
+        } catch (final IOException e) {
+            throw runtimeIOException("Failed to write JSON", e);
+        }
+        return this;
+    }
+
+    /**
+     * Write a number value.
+     *
+     * @param value the value.
+     * @return self.
+     */
+    public JsonWriter value(final long value) {
+        beforeValue();
+        return writeNumber(formatter.format(value, number, 0));
+    }
+
+    /**
+     * Write a number value.
+     *
+     * @param value the value.
+     * @return self.
+     * @throws IllegalArgumentException if {@code value} is NaN or infinite, which JSON does not
+     *     support.
+     */
+    public JsonWriter value(final double value) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException(
+                    "JSON does not support non-finite numbers: " + value);
+        }
+
+        beforeValue();
+        return writeNumber(formatter.format(value, number, 0));
+    }
+
+    /**
+     * Write a boolean value.
+     *
+     * @param value the value.
+     * @return self.
+     */
+    public JsonWriter value(final boolean value) {
+        beforeValue();
+        return writeAscii(value ? "true" : "false");
+    }
+
+    /**
+     * Write a {@code null} value.
+     *
+     * @return self.
+     */
+    public JsonWriter nullValue() {
+        beforeValue();
+        return writeAscii("null");
+    }
+
+    /**
+     * Reset the writer's nesting state, ready to write a new document.
+     *
+     * <p>Any partially written document is abandoned, not terminated. Output still buffered within
+     * the writer is discarded. Output already passed to the target is not affected.
+     *
+     * @return self.
+     */
+    public JsonWriter reset() {
+        depth = 1;
+        stack[0] = EMPTY_DOCUMENT;
+        sink.discard();
+        return this;
+    }
+
+    /**
+     * @return {@code true} if a single, complete, top-level value has been written.
+     */
+    boolean isComplete() {
+        return depth == 1 && stack[0] == NONEMPTY_DOCUMENT;
+    }
+
+    /**
+     * Flush any buffered output to the target, and flush the target, if it is {@link Flushable}.
+     */
+    @Override
+    public void flush() {
+        try {
+            sink.flush();
+        } catch (final IOException e) {
+            throw runtimeIOException("Failed to flush JSON", e);
+        }
+    }
+
+    private void beforeName() {
+        final byte state = peek();
+        if (state == NONEMPTY_OBJECT) {
+            write(',');
+        } else if (state != EMPTY_OBJECT) {
+            throw new IllegalStateException("Not in an object, or a value is expected");
+        }
+        stack[depth - 1] = DANGLING_NAME;
+    }
+
+    private void beforeValue() {
+        switch (peek()) {
+            case EMPTY_DOCUMENT:
+                stack[depth - 1] = NONEMPTY_DOCUMENT;
+                break;
+            case EMPTY_ARRAY:
+                stack[depth - 1] = NONEMPTY_ARRAY;
+                break;
+            case NONEMPTY_ARRAY:
+                write(',');
+                break;
+            case DANGLING_NAME:
+                stack[depth - 1] = NONEMPTY_OBJECT;
+                break;
+            case NONEMPTY_DOCUMENT:
+                throw new IllegalStateException("JSON document already has a top-level value");
+            default:
+                throw new IllegalStateException("Expected a name, not a value");
+        }
+    }
+
+    private byte peek() {
+        return stack[depth - 1];
+    }
+
+    private void push(final byte state) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = state;
+    }
+
+    private JsonWriter write(final char c) {
+        try {
+            sink.write(c);
+        } catch (final IOException e) {
+            throw runtimeIOException("Failed to write JSON", e);
+        }
+        return this;
+    }
+
+    private JsonWriter writeAscii(final CharSequence text) {
+        try {
+            sink.writeAscii(text);
+        } catch (final IOException e) {
+            throw runtimeIOException("Failed to write JSON", e);
+        }
+        return this;
+    }
+
+    private JsonWriter writeNumber(final int length) {
+        try {
+            sink.writeAscii(number, length);
+        } catch (final IOException e) {
+            throw runtimeIOException("Failed to write JSON", e);
+        }
+        return this;
+    }
+
+    private interface Sink {
+
+        void write(char c) throws IOException;
+
+        void writeAscii(CharSequence text) throws IOException;
+
+        void writeAscii(byte[] text, int length) throws IOException;
+
+        void writeString(CharSequence text) throws IOException;
+
+        void writeName(JsonName name) throws IOException;
+
+        void flush() throws IOException;
+
+        void discard();
+    }
+
+    private static final class CharSink implements Sink {
+
+        private final Appendable target;
+        private final char[] chars = new char[32];
+
+        CharSink(final Appendable target) {
+            this.target = requireNonNull(target, "target");
+        }
+
+        @Override
+        public void write(final char c) throws IOException {
+            target.append(c);
+        }
+
+        @Override
+        public void writeAscii(final CharSequence text) throws IOException {
+            target.append(text);
+        }
+
+        @Override
+        public void writeAscii(final byte[] text, final int length) throws IOException {
+            if (target instanceof Writer) {
+                for (int i = 0; i < length; i++) {
+                    chars[i] = (char) text[i];
+                }
+                ((Writer) target).write(chars, 0, length);
+            } else {
+                for (int i = 0; i < length; i++) {
+                    target.append((char) text[i]);
+                }
+            }
+        }
+
+        @Override
+        public void writeString(final CharSequence text) {
+            Json.escapeJson(text, target);
+        }
+
+        @Override
+        public void writeName(final JsonName name) throws IOException {
+            target.append(name.quoted());
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (target instanceof Flushable) {
+                ((Flushable) target).flush();
+            }
+        }
+
+        @Override
+        public void discard() {
+            // Nothing buffered.
+        }
+    }
+
+    private static final class ByteSink implements Sink {
+
+        private final OutputStream target;
+        private final byte[] buffer;
+        private final Utf8JsonEscaper escaper = Utf8JsonEscaper.create();
+        private int pos;
+
+        ByteSink(final OutputStream target, final int bufferSize) {
+            this.target = requireNonNull(target, "target");
+            this.buffer = new byte[bufferSize];
+        }
+
+        @Override
+        public void write(final char c) throws IOException {
+            if (pos == buffer.length) {
+                flushBuffer();
+            }
+            buffer[pos++] = (byte) c;
+        }
+
+        @Override
+        public void writeAscii(final CharSequence text) throws IOException {
+            final int length = text.length();
+            for (int i = 0; i < length; i++) {
+                write(text.charAt(i));
+            }
+        }
+
+        @Override
+        public void writeAscii(final byte[] text, final int length) throws IOException {
+            if (length > buffer.length - pos) {
+                flushBuffer();
+            }
+            if (length > buffer.length) {
+                target.write(text, 0, length);
+                return;
+            }
+            System.arraycopy(text, 0, buffer, pos, length);
+            pos += length;
+        }
+
+        @Override
+        public void writeString(final CharSequence text) throws IOException {
+            final int end = text.length();
+            int start = 0;
+            while (!escaper.escape(text, start, end, buffer, pos, buffer.length - pos)) {
+                pos += escaper.bytesWritten();
+                start = escaper.sourcePosition();
+                flushBuffer();
+            }
+            pos += escaper.bytesWritten();
+        }
+
+        @Override
+        public void writeName(final JsonName name) throws IOException {
+            final byte[] bytes = name.utf8();
+            if (bytes.length > buffer.length - pos) {
+                flushBuffer();
+                if (bytes.length > buffer.length) {
+                    target.write(bytes);
+                    return;
+                }
+            }
+            System.arraycopy(bytes, 0, buffer, pos, bytes.length);
+            pos += bytes.length;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            flushBuffer();
+            target.flush();
+        }
+
+        @Override
+        public void discard() {
+            pos = 0;
+        }
+
+        private void flushBuffer() throws IOException {
+            target.write(buffer, 0, pos);
+            pos = 0;
+        }
+    }
+}
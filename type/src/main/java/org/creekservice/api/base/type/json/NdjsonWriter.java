@@ -0,0 +1,397 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import static java.util.Objects.requireNonNull;
+import static org.creekservice.api.base.type.RuntimeIOException.runtimeIOException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe writer of newline delimited JSON (NDJSON) records to a {@link WritableByteChannel},
+ * e.g. a {@link FileChannel}.
+ *
+ * <p>Each record is encoded by the calling thread, using a per-thread {@link JsonWriter}, then
+ * appended to a shared direct {@link ByteBuffer}. The buffer is written to the channel when it
+ * fills, when its oldest record has been buffered for longer than the configured max latency, or on
+ * {@link #flush()} or {@link #sync()}.
+ *
+ * <p>Writes to the channel use group commit: the buffer is double-buffered, so producers continue
+ * appending while a write is in progress, and concurrent calls to {@link #sync()} share a single
+ * write and, for a {@link FileChannel}, a single {@link FileChannel#force(boolean) force}.
+ *
+ * <p>The channel is owned by the caller, and is not closed by {@link #close()}.
+ *
+ * <p>Consider this class private.
+ */
+public final class NdjsonWriter implements Flushable, Closeable {
+
+    private static final long MIN_CHECK_INTERVAL_NANOS = 100_000;
+
+    private final WritableByteChannel channel;
+    private final long maxLatencyNanos;
+    private final int capacity;
+    private final ThreadLocal<Encoder> encoders = ThreadLocal.withInitial(Encoder::new);
+
+    /**
+     * Guards {@link #active}, {@link #appended}, {@link #oldestNanos} and setting {@link #closed}.
+     */
+    private final ReentrantLock appendLock = new ReentrantLock();
+
+    /** Guards {@link #spare}, {@link #synced} and channel access. */
+    private final ReentrantLock ioLock = new ReentrantLock();
+
+    private final Thread flusher;
+
+    private ByteBuffer active;
+    private ByteBuffer spare;
+    private long appended;
+    private long oldestNanos;
+    private long synced;
+    private volatile boolean closed;
+    private volatile IOException failure;
+
+    /**
+     * Create a writer.
+     *
+     * @param channel the channel to write to.
+     * @param bufferSize the size, in bytes, of each of the two internal buffers, i.e. the size
+     *     threshold at which buffered records are written to the channel.
+     * @param maxLatency the max time a record is buffered before being written to the channel.
+     * @return the writer.
+     */
+    public static NdjsonWriter ndjsonWriter(
+            final WritableByteChannel channel, final int bufferSize, final Duration maxLatency) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException(
+                    "bufferSize must be positive, but was " + bufferSize);
+        }
+        if (maxLatency.isNegative() || maxLatency.isZero()) {
+            throw new IllegalArgumentException(
+                    "maxLatency must be positive, but was " + maxLatency);
+        }
+
+        final NdjsonWriter writer = new NdjsonWriter(channel, bufferSize, maxLatency.toNanos());
+        writer.flusher.start();
+        return writer;
+    }
+
+    private NdjsonWriter(
+            final WritableByteChannel channel, final int bufferSize, final long maxLatencyNanos) {
+        this.channel = requireNonNull(channel, "channel");
+        this.capacity = bufferSize;
+        this.maxLatencyNanos = maxLatencyNanos;
+        this.active = ByteBuffer.allocateDirect(bufferSize);
+        this.spare = ByteBuffer.allocateDirect(bufferSize);
+        this.flusher = new Thread(this::flushPeriodically, "creek-ndjson-flusher");
+        this.flusher.setDaemon(true);
+    }
+
+    /**
+     * Write a record.
+     *
+     * <p>{@code record} should write a single top-level JSON value to the supplied writer. It is
+     * followed by a newline.
+     *
+     * <p>The record is buffered. Call {@link #sync()} to ensure it has been written.
+     *
+     * @param record callback to write the record.
+     * @throws IllegalStateException if the writer is closed, or {@code record} did not write a
+     *     single, complete, top-level JSON value.
+     * @throws org.creekservice.api.base.type.RuntimeIOException on failure to write to the channel,
+     *     including any earlier failure of a background write.
+     */
+    public void write(final Consumer<JsonWriter> record) {
+        throwIfClosedOrFailed();
+
+        final Encoder encoder = encoders.get();
+        encoder.encode(record);
+        append(encoder.bytes(), encoder.length());
+    }
+
+    /**
+     * Write any buffered records to the channel.
+     *
+     * @throws org.creekservice.api.base.type.RuntimeIOException on failure to write to the channel.
+     */
+    @Override
+    public void flush() {
+        throwIfFailed();
+        ioLock.lock();
+        try {
+            writeOut(false);
+        } finally {
+            ioLock.unlock();
+        }
+    }
+
+    /**
+     * Ensure all records written before this call are written to the channel and, for a {@link
+     * FileChannel}, forced to storage.
+     *
+     * <p>Concurrent callers share a single write and force: a caller whose records were covered by
+     * another thread's force returns without doing any IO.
+     *
+     * @throws org.creekservice.api.base.type.RuntimeIOException on failure to write to the channel.
+     */
+    public void sync() {
+        throwIfFailed();
+
+        final long target;
+        appendLock.lock();
+        try {
+            target = appended;
+        } finally {
+            appendLock.unlock();
+        }
+
+        ioLock.lock();
+        try {
+            if (synced < target) {
+                writeOut(true);
+            }
+        } finally {
+            ioLock.unlock();
+        }
+    }
+
+    /**
+     * Stop the background flusher, then {@link #sync()} any buffered records.
+     *
+     * <p>A concurrent {@link #write} either has its record included in the final sync, or throws.
+     *
+     * <p>The channel is not closed.
+     *
+     * @throws org.creekservice.api.base.type.RuntimeIOException on failure to write to the channel,
+     *     including any earlier failure of a background write.
+     */
+    @Override
+    public void close() {
+        // Under the append lock, so no record can be appended after the final sync:
+        appendLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            appendLock.unlock();
+        }
+
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sync();
+    }
+
+    private void append(final byte[] bytes, final int length) {
+        if (length > capacity) {
+            writeOversized(bytes, length);
+            return;
+        }
+
+        while (true) {
+            appendLock.lock();
+            try {
+                throwIfClosed();
+                if (active.remaining() >= length) {
+                    if (active.position() == 0) {
+                        oldestNanos = System.nanoTime();
+                    }
+                    active.put(bytes, 0, length);
+                    appended += length;
+                    return;
+                }
+            } finally {
+                appendLock.unlock();
+            }
+
+            // Buffer full: write it out, or wait for the thread already doing so:
+            ioLock.lock();
+            try {
+                writeOut(false);
+            } finally {
+                ioLock.unlock();
+            }
+        }
+    }
+
+    private void writeOversized(final byte[] bytes, final int length) {
+        ioLock.lock();
+        try {
+            appendLock.lock();
+            try {
+                throwIfClosed();
+                writeFully(active);
+                drain(ByteBuffer.wrap(bytes, 0, length));
+                appended += length;
+            } finally {
+                appendLock.unlock();
+            }
+        } finally {
+            ioLock.unlock();
+        }
+    }
+
+    /** Swap the buffers, and write the previously active one out. Caller must hold ioLock. */
+    private void writeOut(final boolean force) {
+        final ByteBuffer toWrite;
+        final long seq;
+        appendLock.lock();
+        try {
+            toWrite = active;
+            active = spare;
+            spare = toWrite;
+            seq = appended;
+        } finally {
+            appendLock.unlock();
+        }
+
+        writeFully(toWrite);
+
+        if (force && channel instanceof FileChannel) {
+            try {
+                ((FileChannel) channel).force(false);
+            } catch (final IOException e) {
+                throw fail(e);
+            }
+        }
+
+        if (force) {
+            synced = seq;
+        }
+    }
+
+    private void writeFully(final ByteBuffer buffer) {
+        buffer.flip();
+        try {
+            drain(buffer);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    private void drain(final ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (final IOException e) {
+            throw fail(e);
+        }
+    }
+
+    private void flushPeriodically() {
+        while (!closed && failure == null) {
+            LockSupport.parkNanos(this, Math.max(maxLatencyNanos / 2, MIN_CHECK_INTERVAL_NANOS));
+
+            final boolean due;
+            appendLock.lock();
+            try {
+                due = active.position() != 0 && System.nanoTime() - oldestNanos >= maxLatencyNanos;
+            } finally {
+                appendLock.unlock();
+            }
+
+            if (due) {
+                try {
+                    flush();
+                } catch (final RuntimeException e) {
+                    // Recorded in failure, and rethrown to producers:
+                    return;
+                }
+            }
+        }
+    }
+
+    private RuntimeException fail(final IOException e) {
+        failure = e;
+        return runtimeIOException("Failed to write NDJSON", e);
+    }
+
+    private void throwIfClosedOrFailed() {
+        throwIfClosed();
+        throwIfFailed();
+    }
+
+    private void throwIfClosed() {
+        if (closed) {
+            throw new IllegalStateException("NDJSON writer is closed");
+        }
+    }
+
+    private void throwIfFailed() {
+        final IOException e = failure;
+        if (e != null) {
+            throw runtimeIOException("NDJSON writer previously failed", e);
+        }
+    }
+
+    /** Per-thread record encoder. */
+    private static final class Encoder {
+
+        private final Buffer buffer = new Buffer();
+        private final JsonWriter writer = JsonWriter.jsonWriter(buffer, 512);
+
+        void encode(final Consumer<JsonWriter> record) {
+            // Discards any partial output left by a previous record that failed:
+            buffer.reset();
+            writer.reset();
+
+            record.accept(writer);
+            if (!writer.isComplete()) {
+                throw new IllegalStateException(
+                        "record must write a single, complete, top-level JSON value");
+            }
+            writer.flush();
+            buffer.write('\n');
+        }
+
+        byte[] bytes() {
+            return buffer.bytes();
+        }
+
+        int length() {
+            return buffer.size();
+        }
+    }
+
+    /** Exposes the internal array, to avoid a copy. */
+    private static final class Buffer extends ByteArrayOutputStream {
+
+        Buffer() {
+            super(512);
+        }
+
+        byte[] bytes() {
+            return buf;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Escapes JSON string content and encodes it as UTF-8 in a single pass, writing directly into a
+ * caller supplied {@code byte[]} or {@link ByteBuffer}.
+ *
+ * <p>The escaping rules match {@link Json#escapeJson(CharSequence, Appendable)}. Unpaired
+ * surrogates are encoded as {@code ?}, matching {@link String#getBytes}.
+ *
+ * <p>Escaping is resumable: if the target fills up, {@code escape} returns {@code false} and {@link
+ * #sourcePosition()} returns the index of the next char to escape. Escape sequences and multi-byte
+ * characters are never split across calls, so a target with fewer than {@link #MAX_BYTES_PER_CHAR}
+ * bytes remaining may not make progress.
+ *
+ * <p>Instances are reusable, but not thread-safe.
+ *
+ * <p>Consider this class private.
+ */
+public final class Utf8JsonEscaper {
+
+    /** The maximum number of bytes a single char, or surrogate pair, is escaped to. */
+    public static final int MAX_BYTES_PER_CHAR = 6;
+
+    private static final int SCRATCH_SIZE = 1024;
+    private static final byte UNMAPPABLE = '?';
+
+    private byte[] scratch;
+    private int sourcePosition;
+    private int bytesWritten;
+
+    /**
+     * Create instance
+     *
+     * @return new instance
+     */
+    public static Utf8JsonEscaper create() {
+        return new Utf8JsonEscaper();
+    }
+
+    private Utf8JsonEscaper() {}
+
+    /**
+     * Escape and encode all of {@code source} into the remaining space in {@code target}.
+     *
+     * @param source the text to escape.
+     * @param target the buffer to write to. Its position is advanced by the number of bytes
+     *     written.
+     * @return {@code true} if all of {@code source} was written, {@code false} if {@code target}
+     *     filled up first.
+     */
+    public boolean escape(final CharSequence source, final ByteBuffer target) {
+        return escape(source, 0, source.length(), target);
+    }
+
+    /**
+     * Escape and encode the {@code source} range {@code [start, end)} into the remaining space in
+     * {@code target}.
+     *
+     * <p>Heap buffers are written to directly. Direct buffers are written to in bulk, in chunks,
+     * via an internal reusable scratch array.
+     *
+     * @param source the text to escape.
+     * @param start the index of the first char in {@code source} to escape, inclusive.
+     * @param end the index of the last char in {@code source} to escape, exclusive.
+     * @param target the buffer to write to. Its position is advanced by the number of bytes
+     *     written.
+     * @return {@code true} if all of the range was written, {@code false} if {@code target} filled
+     *     up first.
+     */
+    public boolean escape(
+            final CharSequence source, final int start, final int end, final ByteBuffer target) {
+        if (target.hasArray()) {
+            final int position = target.position();
+            final boolean complete =
+                    escape(
+                            source,
+                            start,
+                            end,
+                            target.array(),
+                            target.arrayOffset() + position,
+                            target.remaining());
+            target.position(position + bytesWritten);
+            return complete;
+        }
+
+        if (scratch == null) {
+            scratch = new byte[SCRATCH_SIZE];
+        }
+
+        int total = 0;
+        int from = start;
+        boolean complete;
+        do {
+            complete =
+                    escape(
+                            source,
+                            from,
+                            end,
+                            scratch,
+                            0,
+                            Math.min(scratch.length, target.remaining()));
+            target.put(scratch, 0, bytesWritten);
+            total += bytesWritten;
+            from = sourcePosition;
+        } while (!complete && bytesWritten != 0);
+
+        bytesWritten = total;
+        return complete;
+    }
+
+    /**
+     * Escape and encode all of {@code source} into {@code target}, starting at {@code offset}.
+     *
+     * @param source the text to escape.
+     * @param target the array to write to.
+     * @param offset the index in {@code target} to start writing at.
+     * @return {@code true} if all of {@code source} was written, {@code false} if {@code target}
+     *     filled up first.
+     */
+    public boolean escape(final CharSequence source, final byte[] target, final int offset) {
+        return escape(source, 0, source.length(), target, offset, target.length - offset);
+    }
+
+    /**
+     * Escape and encode the {@code source} range {@code [start, end)} into {@code target}.
+     *
+     * @param source the text to escape.
+     * @param start the index of the first char in {@code source} to escape, inclusive.
+     * @param end the index of the last char in {@code source} to escape, exclusive.
+     * @param target the array to write to.
+     * @param offset the index in {@code target} to start writing at.
+     * @param length the maximum number of bytes to write.
+     * @return {@code true} if all of the range was written, {@code false} if {@code target} filled
+     *     up first.
+     */
+    public boolean escape(
+            final CharSequence source,
+            final int start,
+            final int end,
+            final byte[] target,
+            final int offset,
+            final int length) {
+        Objects.checkFromToIndex(start, end, source.length());
+        Objects.checkFromIndexSize(offset, length, target.length);
+
+        final int limit = offset + length;
+        int pos = offset;
+        int i = start;
+        while (i < end) {
+            final char c = source.charAt(i);
+            if (c < 0x80 && Json.escapeOf(c) == Json.NO_ESCAPE) {
+                if (pos == limit) {
+                    break;
+                }
+                target[pos++] = (byte) c;
+                i++;
+                continue;
+            }
+
+            final int written = encode(source, i, end, target, pos, limit);
+            if (written == 0) {
+                break;
+            }
+
+            i += written == 4 ? 2 : 1;
+            pos += written;
+        }
+
+        sourcePosition = i;
+        bytesWritten = pos - offset;
+        return i == end;
+    }
+
+    /**
+     * @return the index in the source of the next char to escape, i.e. where to resume from if the
+     *     last call to {@code escape} returned {@code false}.
+     */
+    public int sourcePosition() {
+        return sourcePosition;
+    }
+
+    /**
+     * @return the number of bytes written by the last call to {@code escape}.
+     */
+    public int bytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Encode a char that is either non-ASCII or requires escaping.
+     *
+     * @return the number of bytes written, which is 4 if a surrogate pair was consumed, or zero if
+     *     there was insufficient space.
+     */
+    private static int encode(
+            final CharSequence source,
+            final int i,
+            final int end,
+            final byte[] target,
+            final int pos,
+            final int limit) {
+        final char c = source.charAt(i);
+        final byte escape = Json.escapeOf(c);
+        if (escape == Json.UNICODE_ESCAPE) {
+            return putUnicodeEscape(target, pos, limit, c);
+        }
+
+        if (escape != Json.NO_ESCAPE) {
+            return put(target, pos, limit, (byte) '\\', escape);
+        }
+
+        if (c < 0x800) {
+            return put(target, pos, limit, (byte) (0xC0 | (c >> 6)), (byte) (0x80 | (c & 0x3F)));
+        }
+
+        if (!Character.isSurrogate(c)) {
+            if (limit - pos < 3) {
+                return 0;
+            }
+            target[pos] = (byte) (0xE0 | (c >> 12));
+            target[pos + 1] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            target[pos + 2] = (byte) (0x80 | (c & 0x3F));
+            return 3;
+        }
+
+        final char next = i + 1 < end ? source.charAt(i + 1) : 0;
+        if (Character.isHighSurrogate(c) && Character.isLowSurrogate(next)) {
+            return putCodePoint(target, pos, limit, Character.toCodePoint(c, next));
+        }
+
+        return put(target, pos, limit, UNMAPPABLE);
+    }
+
+    private static int put(final byte[] target, final int pos, final int limit, final byte b) {
+        if (pos == limit) {
+            return 0;
+        }
+        target[pos] = b;
+        return 1;
+    }
+
+    private static int put(
+            final byte[] target, final int pos, final int limit, final byte b0, final byte b1) {
+        if (limit - pos < 2) {
+            return 0;
+        }
+        target[pos] = b0;
+        target[pos + 1] = b1;
+        return 2;
+    }
+
+    private static int putUnicodeEscape(
+            final byte[] target, final int pos, final int limit, final char c) {
+        if (limit - pos < 6) {
+            return 0;
+        }
+        target[pos] = '\\';
+        target[pos + 1] = 'u';
+        target[pos + 2] = '0';
+        target[pos + 3] = '0';
+        target[pos + 4] = (byte) Json.upperCaseHex((c & 0xF0) >> 4);
+        target[pos + 5] = (byte) Json.upperCaseHex(c & 0xF);
+        return 6;
+    }
+
+    private static int putCodePoint(
+            final byte[] target, final int pos, final int limit, final int codePoint) {
+        if (limit - pos < 4) {
+            return 0;
+        }
+        target[pos] = (byte) (0xF0 | (codePoint >> 18));
+        target[pos + 1] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        target[pos + 2] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        target[pos + 3] = (byte) (0x80 | (codePoint & 0x3F));
+        return 4;
+    }
+}
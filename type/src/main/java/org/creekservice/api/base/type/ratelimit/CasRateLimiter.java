@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.ratelimit;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.creekservice.api.base.type.temporal.Clock;
+
+/**
+ * Base type for lock-free rate limiters, whose state is held in a single {@code long} per stripe.
+ *
+ * <p>With multiple stripes, the rate is split across stripes. Each thread starts with its own
+ * stripe, falling back to the others if it has no permits left, reducing contention on any one
+ * stripe.
+ */
+abstract class CasRateLimiter implements RateLimiter {
+
+    /** Returned by {@link #next} to reject the request. */
+    static final long REJECT = Long.MIN_VALUE;
+
+    /** The max number of stripes. */
+    static final int MAX_STRIPES = 1024;
+
+    /** Stripes are spaced by 8 longs, i.e. a 64 byte cache line, to avoid false sharing. */
+    private static final int STRIDE = 8;
+
+    private final Clock clock;
+    private final int stripes;
+    private final AtomicLongArray states;
+
+    CasRateLimiter(final Clock clock, final int stripes, final long initialState) {
+        this.clock = requireNonNull(clock, "clock");
+        this.stripes = stripes;
+        this.states = new AtomicLongArray((stripes + 1) * STRIDE);
+        for (int i = 0; i < stripes; i++) {
+            states.set(indexOf(i), initialState);
+        }
+    }
+
+    @Override
+    public final boolean tryAcquire(final int permits) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("permits must be positive, but was " + permits);
+        }
+
+        final long now = clock.epochNanos();
+        if (stripes == 1) {
+            return tryAcquire(0, permits, now);
+        }
+
+        final int first =
+                Math.floorMod(mix(System.identityHashCode(Thread.currentThread())), stripes);
+        for (int i = 0; i < stripes; i++) {
+            final int stripe = first + i < stripes ? first + i : first + i - stripes;
+            if (tryAcquire(stripe, permits, now)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the number of stripes.
+     */
+    public final int stripes() {
+        return stripes;
+    }
+
+    /**
+     * Calculate the next state of a stripe.
+     *
+     * @param stripe the stripe.
+     * @param state the current state of the stripe.
+     * @param now the current time, in epoch nanos.
+     * @param permits the number of permits requested.
+     * @return the next state, or {@link #REJECT}.
+     */
+    abstract long next(int stripe, long state, long now, int permits);
+
+    /**
+     * Get a stripe's high-water mark.
+     *
+     * <p>The mark is held in the same cache line as the stripe's state, so reading it costs little.
+     * It is read after the state, so reflects any raise that preceded the state's update.
+     *
+     * @param stripe the stripe.
+     * @return the mark, initially zero.
+     */
+    final long highWaterMark(final int stripe) {
+        return states.get(indexOf(stripe) + 1);
+    }
+
+    /**
+     * Raise a stripe's high-water mark to at least {@code value}.
+     *
+     * <p>Call from {@link #next} before returning a state that relies on the mark.
+     *
+     * @param stripe the stripe.
+     * @param value the new minimum value of the mark.
+     */
+    final void raiseHighWaterMark(final int stripe, final long value) {
+        final int index = indexOf(stripe) + 1;
+        long current = states.get(index);
+        while (current < value && !states.compareAndSet(index, current, value)) {
+            current = states.get(index);
+        }
+    }
+
+    /**
+     * Validate a stripe count.
+     *
+     * @return {@code stripes}.
+     */
+    static int requireStripes(final int stripes) {
+        if (stripes < 1 || stripes > MAX_STRIPES) {
+            throw new IllegalArgumentException(
+                    "stripes must be between 1 and " + MAX_STRIPES + ", but was " + stripes);
+        }
+        return stripes;
+    }
+
+    /**
+     * Split {@code total} across stripes, as evenly as possible.
+     *
+     * @return the share of {@code stripe}.
+     */
+    static long share(final long total, final int stripes, final int stripe) {
+        return total / stripes + (stripe < total % stripes ? 1 : 0);
+    }
+
+    private boolean tryAcquire(final int stripe, final int permits, final long now) {
+        final int index = indexOf(stripe);
+        while (true) {
+            final long current = states.get(index);
+            final long next = next(stripe, current, now, permits);
+            if (next == REJECT) {
+                return false;
+            }
+            if (states.compareAndSet(index, current, next)) {
+                return true;
+            }
+        }
+    }
+
+    private static int indexOf(final int stripe) {
+        // Leading padding avoids sharing a line with the array header:
+        return (stripe + 1) * STRIDE;
+    }
+
+    private static int mix(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
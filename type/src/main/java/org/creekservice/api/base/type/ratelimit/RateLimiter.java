@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.ratelimit;
+
+/** Limits the rate at which permits are granted. */
+public interface RateLimiter {
+
+    /**
+     * Try to acquire a single permit, without blocking.
+     *
+     * @return {@code true} if acquired.
+     */
+    default boolean tryAcquire() {
+        return tryAcquire(1);
+    }
+
+    /**
+     * Try to acquire {@code permits} permits, without blocking.
+     *
+     * <p>Either all, or none, of the permits are acquired.
+     *
+     * @param permits the number of permits, which must be positive.
+     * @return {@code true} if acquired.
+     */
+    boolean tryAcquire(int permits);
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.ratelimit;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import org.creekservice.api.base.type.temporal.Clock;
+
+/**
+ * Lock-free sliding window rate limiter.
+ *
+ * <p>Grants at most {@code limit} permits in any {@code window}, estimated from the count of the
+ * current fixed window plus a share of the previous window's count, in proportion to how much of
+ * the sliding window overlaps it. Acquiring a permit never allocates.
+ *
+ * <p>The state, i.e. the low bits of the current window index and both counts, is packed into a
+ * single {@code long}, limiting each count to {@link #MAX_LIMIT}. The full window index is
+ * recovered from a per-stripe high-water mark of the latest window, so arbitrarily long idle
+ * periods are handled correctly.
+ *
+ * <p>A striped limiter splits the limit across stripes, to scale under contention. Requests for
+ * more permits than a single stripe's limit are always rejected.
+ *
+ * <p>If the clock goes backwards, requests are counted against the current window until the clock
+ * catches up.
+ */
+public final class SlidingWindowRateLimiter extends CasRateLimiter {
+
+    /** The max limit, per stripe. */
+    public static final long MAX_LIMIT = (1L << 20) - 1;
+
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = MAX_LIMIT;
+    private static final int INDEX_SHIFT = COUNT_BITS * 2;
+    private static final long INDEX_MASK = (1L << (Long.SIZE - 1 - INDEX_SHIFT)) - 1;
+
+    private final long originNanos;
+    private final long windowNanos;
+    private final long[] limits;
+
+    /**
+     * Create a limiter.
+     *
+     * @param clock the source of the current time.
+     * @param limit the max permits per window, up to {@link #MAX_LIMIT}.
+     * @param window the window.
+     * @return the limiter.
+     */
+    public static SlidingWindowRateLimiter create(
+            final Clock clock, final long limit, final Duration window) {
+        return createStriped(clock, limit, window, 1);
+    }
+
+    /**
+     * Create a striped limiter, which scales better under contention.
+     *
+     * @param clock the source of the current time.
+     * @param limit the max permits per window. Split across stripes, each of which is limited to
+     *     {@link #MAX_LIMIT}.
+     * @param window the window.
+     * @param stripes the number of stripes.
+     * @return the limiter.
+     */
+    public static SlidingWindowRateLimiter createStriped(
+            final Clock clock, final long limit, final Duration window, final int stripes) {
+        return new SlidingWindowRateLimiter(clock, limit, window, requireStripes(stripes));
+    }
+
+    private SlidingWindowRateLimiter(
+            final Clock clock, final long limit, final Duration window, final int stripes) {
+        super(clock, stripes, 0L);
+        requireNonNull(window, "window");
+        if (limit < stripes || share(limit, stripes, 0) > MAX_LIMIT) {
+            throw new IllegalArgumentException(
+                    "limit must be between the number of stripes, "
+                            + stripes
+                            + ", and "
+                            + MAX_LIMIT * stripes
+                            + ", but was "
+                            + limit);
+        }
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("window must be positive, but was " + window);
+        }
+
+        this.originNanos = clock.epochNanos();
+        this.windowNanos = window.toNanos();
+        this.limits = new long[stripes];
+        for (int i = 0; i < stripes; i++) {
+            limits[i] = share(limit, stripes, i);
+        }
+    }
+
+    @Override
+    long next(final int stripe, final long state, final long now, final int permits) {
+        final long sinceOrigin = now - originNanos;
+        final long index = Math.floorDiv(sinceOrigin, windowNanos);
+
+        // The state's window is at or just before the latest window, and shares its low bits:
+        final long latest = highWaterMark(stripe);
+        final long stateIndex = latest - ((latest - (state >>> INDEX_SHIFT)) & INDEX_MASK);
+        final long age = index - stateIndex;
+
+        final long previous;
+        final long current;
+        final long window;
+        if (age <= 0) {
+            window = stateIndex;
+            previous = (state >>> COUNT_BITS) & COUNT_MASK;
+            current = state & COUNT_MASK;
+        } else {
+            window = index;
+            previous = age == 1 ? state & COUNT_MASK : 0;
+            current = 0;
+        }
+
+        final double remaining =
+                age < 0
+                        ? 1.0
+                        : 1.0 - (double) Math.floorMod(sinceOrigin, windowNanos) / windowNanos;
+        final long updated = current + permits;
+        if (updated + previous * remaining > limits[stripe]) {
+            return REJECT;
+        }
+
+        // Raised before the state is updated, so readers of the new state see the new mark:
+        raiseHighWaterMark(stripe, window);
+        return ((window & INDEX_MASK) << INDEX_SHIFT) | (previous << COUNT_BITS) | updated;
+    }
+}
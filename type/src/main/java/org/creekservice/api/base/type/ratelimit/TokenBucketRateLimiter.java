@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.ratelimit;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import org.creekservice.api.base.type.temporal.Clock;
+
+/**
+ * Lock-free token bucket rate limiter.
+ *
+ * <p>The bucket holds up to {@code capacity} permits and is refilled at {@code permits} per {@code
+ * period}. Acquiring a permit never allocates.
+ *
+ * <p>Implemented as the generic cell rate algorithm (GCRA), which is equivalent to a token bucket,
+ * but whose state is a single {@code long}: the time at which the bucket will next be full. The
+ * refill interval is rounded down to a whole nanosecond.
+ *
+ * <p>A striped limiter splits the rate and capacity across stripes, to scale under contention.
+ * Requests for more permits than a single stripe's capacity are always rejected.
+ *
+ * <p>Use a clock that does not go backwards, e.g. {@link
+ * org.creekservice.api.base.type.temporal.MonotonicClock}, otherwise permits are not refilled until
+ * the clock catches up.
+ */
+public final class TokenBucketRateLimiter extends CasRateLimiter {
+
+    private final long[] intervalNanos;
+    private final long[] capacities;
+    private final long[] toleranceNanos;
+
+    /**
+     * Create a limiter.
+     *
+     * @param clock the source of the current time.
+     * @param permits the number of permits added to the bucket per {@code period}.
+     * @param period the refill period.
+     * @param capacity the max number of permits the bucket can hold. The bucket starts full.
+     * @return the limiter.
+     */
+    public static TokenBucketRateLimiter create(
+            final Clock clock, final long permits, final Duration period, final long capacity) {
+        return createStriped(clock, permits, period, capacity, 1);
+    }
+
+    /**
+     * Create a striped limiter, which scales better under contention.
+     *
+     * @param clock the source of the current time.
+     * @param permits the number of permits added to the bucket per {@code period}. Split across
+     *     stripes.
+     * @param period the refill period.
+     * @param capacity the max number of permits the bucket can hold. Split across stripes. The
+     *     bucket starts full.
+     * @param stripes the number of stripes.
+     * @return the limiter.
+     */
+    public static TokenBucketRateLimiter createStriped(
+            final Clock clock,
+            final long permits,
+            final Duration period,
+            final long capacity,
+            final int stripes) {
+        return new TokenBucketRateLimiter(
+                clock, permits, period, capacity, requireStripes(stripes));
+    }
+
+    private TokenBucketRateLimiter(
+            final Clock clock,
+            final long permits,
+            final Duration period,
+            final long capacity,
+            final int stripes) {
+        super(clock, stripes, clock.epochNanos());
+        requireNonNull(period, "period");
+        if (permits < stripes) {
+            throw new IllegalArgumentException(
+                    "permits must be at least the number of stripes, "
+                            + stripes
+                            + ", but was "
+                            + permits);
+        }
+        if (capacity < stripes) {
+            throw new IllegalArgumentException(
+                    "capacity must be at least the number of stripes, "
+                            + stripes
+                            + ", but was "
+                            + capacity);
+        }
+
+        final long periodNanos = period.toNanos();
+        this.intervalNanos = new long[stripes];
+        this.capacities = new long[stripes];
+        this.toleranceNanos = new long[stripes];
+        for (int i = 0; i < stripes; i++) {
+            final long interval = periodNanos / share(permits, stripes, i);
+            if (interval <= 0) {
+                throw new IllegalArgumentException(
+                        "period too short for permits: " + period + ", " + permits);
+            }
+            intervalNanos[i] = interval;
+            capacities[i] = share(capacity, stripes, i);
+            toleranceNanos[i] = Math.multiplyExact(capacities[i], interval);
+        }
+    }
+
+    @Override
+    long next(final int stripe, final long state, final long now, final int permits) {
+        if (permits > capacities[stripe]) {
+            return REJECT;
+        }
+
+        // The theoretical arrival time: when the bucket would be full again:
+        final long tat = Math.max(state, now) + permits * intervalNanos[stripe];
+        return tat - now > toleranceNanos[stripe] ? REJECT : tat;
+    }
+}
@@ -28,4 +28,41 @@ public interface Clock {
      * @return current time.
      */
     Instant get();
+
+    /**
+     * Get current time as milliseconds since the epoch.
+     *
+     * <p>Implementations should override to avoid the allocation of the default implementation.
+     *
+     * @return current time, in milliseconds since 1970-01-01T00:00:00Z.
+     */
+    default long epochMillis() {
+        return get().toEpochMilli();
+    }
+
+    /**
+     * Get current time as nanoseconds since the epoch.
+     *
+     * <p>Implementations should override to avoid the allocation of the default implementation.
+     *
+     * @return current time, in nanoseconds since 1970-01-01T00:00:00Z.
+     * @throws ArithmeticException if the time is too far from the epoch to fit in a {@code long},
+     *     i.e. after the year 2262.
+     */
+    default long epochNanos() {
+        return epochNanos(get());
+    }
+
+    /**
+     * Convert an instant to nanoseconds since the epoch.
+     *
+     * @param instant the instant to convert.
+     * @return nanoseconds since 1970-01-01T00:00:00Z.
+     * @throws ArithmeticException if the instant is too far from the epoch to fit in a {@code
+     *     long}.
+     */
+    static long epochNanos(final Instant instant) {
+        return Math.addExact(
+                Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.temporal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Clock that trades accuracy for speed, by caching the current time.
+ *
+ * <p>While running, a background daemon thread refreshes a shared {@link Instant} once per {@link
+ * #resolution()}, making {@link #get()}, {@link #epochMillis()} and {@link #epochNanos()} a single
+ * volatile read, with no allocation.
+ *
+ * <p>The time returned by {@link #get()} lags the real time by up to {@link #resolution()}, plus
+ * any delay in the background thread being scheduled. Use {@link AccurateClock} where this is not
+ * acceptable.
+ *
+ * <p>When not running, {@link #get()} falls back to {@link Instant#now()}.
+ */
+public final class CoarseClock implements Clock, AutoCloseable {
+
+    /** The minimum supported resolution. */
+    public static final Duration MIN_RESOLUTION = Duration.ofNanos(100_000);
+
+    private final Duration resolution;
+    private final long resolutionNanos;
+    private volatile Instant current;
+    private volatile Thread refresher;
+
+    /**
+     * Create a clock. Call {@link #start()} to start caching.
+     *
+     * @param resolution how often the cached time is refreshed. Must be at least {@link
+     *     #MIN_RESOLUTION}.
+     * @return the clock.
+     */
+    public static CoarseClock create(final Duration resolution) {
+        return new CoarseClock(resolution);
+    }
+
+    private CoarseClock(final Duration resolution) {
+        this.resolution = requireNonNull(resolution, "resolution");
+        if (resolution.compareTo(MIN_RESOLUTION) < 0) {
+            throw new IllegalArgumentException(
+                    "resolution must be at least " + MIN_RESOLUTION + ", but was " + resolution);
+        }
+        this.resolutionNanos = resolution.toNanos();
+    }
+
+    @Override
+    public Instant get() {
+        final Instant now = current;
+        return now == null ? Instant.now() : now;
+    }
+
+    @Override
+    public long epochMillis() {
+        final Instant now = current;
+        return now == null ? System.currentTimeMillis() : now.toEpochMilli();
+    }
+
+    @Override
+    public long epochNanos() {
+        final Instant now = current;
+        return Clock.epochNanos(now == null ? Instant.now() : now);
+    }
+
+    /**
+     * @return how often the cached time is refreshed, i.e. the max staleness of the time returned
+     *     by {@link #get()}, excluding thread scheduling delays.
+     */
+    public Duration resolution() {
+        return resolution;
+    }
+
+    /**
+     * @return {@code true} if the background thread is caching the time.
+     */
+    public boolean isRunning() {
+        return refresher != null;
+    }
+
+    /**
+     * Start the background thread caching the current time.
+     *
+     * <p>Has no effect if already running.
+     *
+     * @return self, for method chaining.
+     */
+    public synchronized CoarseClock start() {
+        if (refresher == null) {
+            current = Instant.now();
+            refresher = new Thread(this::refreshPeriodically, "creek-coarse-clock");
+            refresher.setDaemon(true);
+            refresher.start();
+        }
+        return this;
+    }
+
+    /**
+     * Stop the background thread.
+     *
+     * <p>Subsequent calls to {@link #get()} return the accurate time. Has no effect if not running.
+     *
+     * <p>Waits for the background thread to exit, even if interrupted. The interrupt status is
+     * preserved.
+     */
+    public synchronized void stop() {
+        final Thread thread = refresher;
+        if (thread == null) {
+            return;
+        }
+
+        refresher = null;
+        LockSupport.unpark(thread);
+
+        // Join uninterruptibly, as the thread must have exited before current can be cleared:
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        current = null;
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Same as {@link #stop()}. */
+    @Override
+    public void close() {
+        stop();
+    }
+
+    private void refreshPeriodically() {
+        final Thread self = Thread.currentThread();
+        while (refresher == self) {
+            current = Instant.now();
+            LockSupport.parkNanos(this, resolutionNanos);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.temporal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hybrid logical clock (HLC), for ordering events across nodes.
+ *
+ * <p>Timestamps combine physical time, in epoch milliseconds, with a logical counter that orders
+ * events within the same millisecond, packed into a single {@code long}: the top 48 bits hold the
+ * millis, the bottom 16 the counter. Timestamps can be compared as plain {@code long}s.
+ *
+ * <p>Timestamps issued by a clock are unique and strictly increasing, even if the physical clock
+ * stalls or goes backwards. Calling {@link #update(long)} with timestamps received from other nodes
+ * ensures any event caused by a received event is ordered after it, without coordination.
+ *
+ * <p>Should the counter overflow, it carries into the millis, i.e. the clock runs slightly ahead of
+ * physical time, rather than losing ordering.
+ *
+ * <p>Lock-free and allocation free.
+ */
+public final class HybridLogicalClock {
+
+    /** The number of bits holding the logical counter. */
+    public static final int LOGICAL_BITS = 16;
+
+    private static final long LOGICAL_MASK = (1L << LOGICAL_BITS) - 1;
+
+    private final Clock physical;
+    private final long maxDriftMillis;
+    private final AtomicLong last = new AtomicLong();
+
+    /**
+     * Create a clock, which accepts remote timestamps however far ahead they are.
+     *
+     * @param physical the source of physical time.
+     * @return the clock.
+     */
+    public static HybridLogicalClock create(final Clock physical) {
+        return new HybridLogicalClock(physical, Long.MAX_VALUE);
+    }
+
+    /**
+     * Create a clock, which rejects remote timestamps too far ahead of physical time.
+     *
+     * <p>This protects the clock from being dragged forward by a node whose clock is badly wrong.
+     *
+     * @param physical the source of physical time.
+     * @param maxDrift the max amount a remote timestamp can be ahead of physical time.
+     * @return the clock.
+     */
+    public static HybridLogicalClock create(final Clock physical, final Duration maxDrift) {
+        requireNonNull(maxDrift, "maxDrift");
+        if (maxDrift.isNegative()) {
+            throw new IllegalArgumentException(
+                    "maxDrift must not be negative, but was " + maxDrift);
+        }
+        return new HybridLogicalClock(physical, maxDrift.toMillis());
+    }
+
+    private HybridLogicalClock(final Clock physical, final long maxDriftMillis) {
+        this.physical = requireNonNull(physical, "physical");
+        this.maxDriftMillis = maxDriftMillis;
+    }
+
+    /**
+     * Issue a timestamp for a local or send event.
+     *
+     * @return a timestamp greater than any previously issued or received by this clock.
+     * @throws ArithmeticException if the clock has already issued the max timestamp.
+     */
+    public long now() {
+        return last.accumulateAndGet(physicalNow(), HybridLogicalClock::tick);
+    }
+
+    /**
+     * Issue a timestamp for the receipt of a remote event.
+     *
+     * @param remote the timestamp of the remote event.
+     * @return a timestamp greater than {@code remote} and any previously issued or received by this
+     *     clock.
+     * @throws IllegalArgumentException if {@code remote} is negative, is {@link Long#MAX_VALUE}, so
+     *     has no greater timestamp, or is more than the max drift ahead of physical time.
+     * @throws ArithmeticException if the clock has already issued the max timestamp.
+     */
+    public long update(final long remote) {
+        if (remote < 0 || remote == Long.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "remote must be between 0 and " + (Long.MAX_VALUE - 1) + ", but was " + remote);
+        }
+
+        final long now = physicalNow();
+        if (physicalMillis(remote) - physicalMillis(now) > maxDriftMillis) {
+            throw new IllegalArgumentException(
+                    "Remote timestamp exceeds max drift. remote: "
+                            + toString(remote)
+                            + ", physical: "
+                            + toString(now));
+        }
+
+        return last.accumulateAndGet(Math.max(now, remote + 1), HybridLogicalClock::tick);
+    }
+
+    /**
+     * @return the last timestamp issued by this clock, or zero if none.
+     */
+    public long last() {
+        return last.get();
+    }
+
+    /**
+     * @param timestamp the timestamp.
+     * @return the physical part of {@code timestamp}, in epoch millis.
+     */
+    public static long physicalMillis(final long timestamp) {
+        return timestamp >>> LOGICAL_BITS;
+    }
+
+    /**
+     * @param timestamp the timestamp.
+     * @return the logical counter part of {@code timestamp}.
+     */
+    public static int logical(final long timestamp) {
+        return (int) (timestamp & LOGICAL_MASK);
+    }
+
+    /**
+     * @param timestamp the timestamp.
+     * @return the physical part of {@code timestamp}, as an instant.
+     */
+    public static Instant toInstant(final long timestamp) {
+        return Instant.ofEpochMilli(physicalMillis(timestamp));
+    }
+
+    /**
+     * @param timestamp the timestamp.
+     * @return human-readable form of the timestamp, e.g. {@code 2026-01-01T00:00:00Z#3}.
+     */
+    public static String toString(final long timestamp) {
+        return toInstant(timestamp) + "#" + logical(timestamp);
+    }
+
+    private long physicalNow() {
+        return physical.epochMillis() << LOGICAL_BITS;
+    }
+
+    private static long tick(final long previous, final long candidate) {
+        return Math.max(Math.addExact(previous, 1), candidate);
+    }
+}
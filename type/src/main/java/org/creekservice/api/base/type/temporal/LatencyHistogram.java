@@ -0,0 +1,317 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.temporal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+
+/**
+ * Fixed memory, lock-free histogram of latencies, in nanoseconds.
+ *
+ * <p>Values are counted in log-linear buckets: each power of two range is split into linear
+ * sub-buckets, giving a fixed relative precision across the whole range, as with HdrHistogram.
+ * Values above the highest trackable value are counted in the highest bucket. Negative values are
+ * counted as zero.
+ *
+ * <p>To avoid contention, counts are recorded into one of several stripes, selected by the
+ * recording thread. Stripes are merged when a {@link #snapshot()} is taken. Recording never
+ * allocates or blocks.
+ *
+ * <p>Memory use is {@code stripes * bucketCount() * 8} bytes. With the defaults of two significant
+ * digits and a highest trackable value of one hour, a stripe holds 4562 buckets.
+ */
+public final class LatencyHistogram {
+
+    /** The default highest trackable value. */
+    public static final Duration DEFAULT_HIGHEST_TRACKABLE = Duration.ofHours(1);
+
+    /** The default number of significant digits of precision. */
+    public static final int DEFAULT_SIGNIFICANT_DIGITS = 2;
+
+    private static final int MAX_SIGNIFICANT_DIGITS = 4;
+    private static final int MAX_STRIPES = 1024;
+
+    private final int subBucketBits;
+    private final int bucketCount;
+    private final long highestTrackable;
+    private final int stripes;
+    private final AtomicLongArray counts;
+
+    /**
+     * Create a histogram with default settings and a stripe per available processor.
+     *
+     * @return the histogram.
+     */
+    public static LatencyHistogram create() {
+        return create(
+                DEFAULT_HIGHEST_TRACKABLE,
+                DEFAULT_SIGNIFICANT_DIGITS,
+                Math.min(Runtime.getRuntime().availableProcessors(), MAX_STRIPES));
+    }
+
+    /**
+     * Create a histogram.
+     *
+     * @param highestTrackable the highest value to track. Higher values are counted as this value.
+     * @param significantDigits the number of significant decimal digits of precision, between 1 and
+     *     4. For example, 2 gives a relative error below 1%.
+     * @param stripes the number of stripes to spread recording across, between 1 and 1024.
+     * @return the histogram.
+     */
+    public static LatencyHistogram create(
+            final Duration highestTrackable, final int significantDigits, final int stripes) {
+        return new LatencyHistogram(highestTrackable, significantDigits, stripes);
+    }
+
+    private LatencyHistogram(
+            final Duration highestTrackable, final int significantDigits, final int stripes) {
+        requireNonNull(highestTrackable, "highestTrackable");
+        if (highestTrackable.isNegative() || highestTrackable.isZero()) {
+            throw new IllegalArgumentException(
+                    "highestTrackable must be positive, but was " + highestTrackable);
+        }
+        if (significantDigits < 1 || significantDigits > MAX_SIGNIFICANT_DIGITS) {
+            throw new IllegalArgumentException(
+                    "significantDigits must be between 1 and "
+                            + MAX_SIGNIFICANT_DIGITS
+                            + ", but was "
+                            + significantDigits);
+        }
+        if (stripes < 1 || stripes > MAX_STRIPES) {
+            throw new IllegalArgumentException(
+                    "stripes must be between 1 and " + MAX_STRIPES + ", but was " + stripes);
+        }
+
+        // Enough sub-buckets to distinguish 2 * 10^digits values in each power of two range:
+        final long singleUnitResolution = 2 * (long) Math.pow(10, significantDigits);
+        this.subBucketBits = Long.SIZE - Long.numberOfLeadingZeros(singleUnitResolution - 1);
+        this.highestTrackable = highestTrackable.toNanos();
+        this.bucketCount = indexOf(this.highestTrackable) + 1;
+        this.stripes = stripes;
+        this.counts = new AtomicLongArray(Math.multiplyExact(bucketCount, stripes));
+    }
+
+    /**
+     * @return the number of buckets per stripe.
+     */
+    public int bucketCount() {
+        return bucketCount;
+    }
+
+    /**
+     * @return the number of stripes.
+     */
+    public int stripes() {
+        return stripes;
+    }
+
+    /**
+     * Record a latency.
+     *
+     * @param nanos the latency, in nanoseconds.
+     */
+    public void record(final long nanos) {
+        final int index = indexOf(Math.min(Math.max(nanos, 0), highestTrackable));
+        counts.getAndIncrement(stripeOffset() + index);
+    }
+
+    /**
+     * Record a latency.
+     *
+     * @param latency the latency.
+     */
+    public void record(final Duration latency) {
+        record(saturatedNanos(latency));
+    }
+
+    /**
+     * Take a snapshot of the counts recorded so far.
+     *
+     * <p>The snapshot is not atomic: values recorded concurrently may or may not be included.
+     *
+     * @return the snapshot.
+     */
+    public Snapshot snapshot() {
+        return snapshot(false);
+    }
+
+    /**
+     * Take a snapshot of the counts recorded so far, and reset the counts.
+     *
+     * <p>Each recorded value is included in exactly one snapshot, making this suitable for
+     * reporting the latencies of successive intervals.
+     *
+     * @return the snapshot.
+     */
+    public Snapshot snapshotAndReset() {
+        return snapshot(true);
+    }
+
+    private Snapshot snapshot(final boolean reset) {
+        final long[] merged = new long[bucketCount];
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            final int offset = stripe * bucketCount;
+            for (int i = 0; i < bucketCount; i++) {
+                merged[i] += reset ? counts.getAndSet(offset + i, 0) : counts.get(offset + i);
+            }
+        }
+        return new Snapshot(this, merged);
+    }
+
+    private int stripeOffset() {
+        if (stripes == 1) {
+            return 0;
+        }
+        final int hash = System.identityHashCode(Thread.currentThread());
+        return Math.floorMod(hash ^ (hash >>> 16), stripes) * bucketCount;
+    }
+
+    /**
+     * @return the highest value that is recorded in the same bucket as {@code value}.
+     */
+    @VisibleForTesting
+    long highestEquivalentValue(final long value) {
+        return highestEquivalent(indexOf(value));
+    }
+
+    /**
+     * Values below {@code 2^subBucketBits} get their own bucket. Larger values are shifted right
+     * until they fit in the top half of that range, and the shift selects the set of buckets.
+     */
+    private int indexOf(final long value) {
+        final int msb = Long.SIZE - 1 - Long.numberOfLeadingZeros(value | 1);
+        final int shift = Math.max(0, msb - subBucketBits + 1);
+        return (shift << (subBucketBits - 1)) + (int) (value >>> shift);
+    }
+
+    private long lowestEquivalent(final int index) {
+        if (index < 1 << subBucketBits) {
+            return index;
+        }
+        final int shift = (index >>> (subBucketBits - 1)) - 1;
+        return (long) (index - (shift << (subBucketBits - 1))) << shift;
+    }
+
+    private long highestEquivalent(final int index) {
+        return index + 1 < bucketCount
+                ? lowestEquivalent(index + 1) - 1
+                : Math.max(highestTrackable, lowestEquivalent(index));
+    }
+
+    private static long saturatedNanos(final Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (final ArithmeticException e) {
+            return duration.isNegative() ? 0 : Long.MAX_VALUE;
+        }
+    }
+
+    /** Immutable snapshot of a histogram's counts. */
+    public static final class Snapshot {
+
+        private final LatencyHistogram histogram;
+        private final long[] counts;
+        private final long total;
+
+        private Snapshot(final LatencyHistogram histogram, final long[] counts) {
+            this.histogram = histogram;
+            this.counts = counts;
+            long sum = 0;
+            for (final long count : counts) {
+                sum += count;
+            }
+            this.total = sum;
+        }
+
+        /**
+         * @return the number of values recorded.
+         */
+        public long count() {
+            return total;
+        }
+
+        /**
+         * Get the value at a percentile.
+         *
+         * <p>Returns the highest value equivalent to the recorded value at the percentile, i.e. the
+         * upper bound of its bucket, so is never lower than the recorded value.
+         *
+         * @param percentile the percentile, between 0 and 100.
+         * @return the value, in nanoseconds, or zero if no values are recorded.
+         */
+        public long valueAtPercentile(final double percentile) {
+            if (!(percentile >= 0 && percentile <= 100)) {
+                throw new IllegalArgumentException(
+                        "percentile must be between 0 and 100, but was " + percentile);
+            }
+            if (total == 0) {
+                return 0;
+            }
+
+            final long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                if (cumulative >= target) {
+                    return histogram.highestEquivalent(i);
+                }
+            }
+            return histogram.highestEquivalent(counts.length - 1);
+        }
+
+        /**
+         * @return the lowest equivalent of the lowest recorded value, or zero if none.
+         */
+        public long min() {
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) {
+                    return histogram.lowestEquivalent(i);
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * @return the highest equivalent of the highest recorded value, or zero if none.
+         */
+        public long max() {
+            return total == 0 ? 0 : valueAtPercentile(100);
+        }
+
+        /**
+         * @return the mean of the recorded values, using the mid-point of each bucket.
+         */
+        public double mean() {
+            if (total == 0) {
+                return 0;
+            }
+
+            double sum = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) {
+                    final long low = histogram.lowestEquivalent(i);
+                    final long high = histogram.highestEquivalent(i);
+                    sum += counts[i] * (low + (high - low) / 2.0);
+                }
+            }
+            return sum / total;
+        }
+    }
+}
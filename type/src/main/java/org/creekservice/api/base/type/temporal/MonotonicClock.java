@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.temporal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+
+/**
+ * Wall clock that never goes backwards.
+ *
+ * <p>The wall time is read once, then advanced using {@link System#nanoTime()}. Once per {@link
+ * #resyncInterval()} the clock is compared to the wall time again:
+ *
+ * <ul>
+ *   <li>If the clock is behind, it steps forward to the wall time.
+ *   <li>If the clock is ahead, e.g. after the system clock is adjusted backwards by NTP, the clock
+ *       is slowed by up to {@link #maxSlewPpm()} parts per million until the wall time catches up.
+ *       It never steps backwards.
+ * </ul>
+ *
+ * <p>The resync is done on the calling thread, by whichever thread first reads the clock once the
+ * interval has elapsed. No background thread is required. Reads are lock free and do not allocate,
+ * except {@link #get()}, which allocates the returned {@link Instant}.
+ *
+ * <p>Times returned by any thread never go backwards, assuming {@link System#nanoTime()} is
+ * consistent across threads, which is the case on all mainstream platforms.
+ */
+public final class MonotonicClock implements Clock {
+
+    /** The default interval between resyncs with the wall time. */
+    public static final Duration DEFAULT_RESYNC_INTERVAL = Duration.ofSeconds(1);
+
+    /** The default max slew rate, which matches the max slew of NTP's {@code adjtime}. */
+    public static final int DEFAULT_MAX_SLEW_PPM = 500;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final long PPM = 1_000_000L;
+    private static final Duration MIN_RESYNC_INTERVAL = Duration.ofMillis(1);
+    private static final Duration MAX_RESYNC_INTERVAL = Duration.ofHours(1);
+    private static final int MAX_SLEW_PPM = 500_000;
+
+    private final LongSupplier ticker;
+    private final LongSupplier wall;
+    private final long intervalNanos;
+    private final int maxSlewPpm;
+    private final AtomicReference<Anchor> anchor;
+
+    /**
+     * Create a clock, with the default resync interval and max slew.
+     *
+     * @return the clock.
+     */
+    public static MonotonicClock create() {
+        return create(DEFAULT_RESYNC_INTERVAL, DEFAULT_MAX_SLEW_PPM);
+    }
+
+    /**
+     * Create a clock.
+     *
+     * @param resyncInterval how often to compare the clock with the wall time, between 1ms and 1
+     *     hour.
+     * @param maxSlewPpm the max rate, in parts per million, at which the clock is slowed when ahead
+     *     of wall time, between 1 and 500,000.
+     * @return the clock.
+     */
+    public static MonotonicClock create(final Duration resyncInterval, final int maxSlewPpm) {
+        return new MonotonicClock(
+                resyncInterval,
+                maxSlewPpm,
+                System::nanoTime,
+                () -> Clock.epochNanos(Instant.now()));
+    }
+
+    @VisibleForTesting
+    static MonotonicClock create(
+            final Duration resyncInterval,
+            final int maxSlewPpm,
+            final LongSupplier ticker,
+            final LongSupplier wall) {
+        return new MonotonicClock(resyncInterval, maxSlewPpm, ticker, wall);
+    }
+
+    private MonotonicClock(
+            final Duration resyncInterval,
+            final int maxSlewPpm,
+            final LongSupplier ticker,
+            final LongSupplier wall) {
+        requireNonNull(resyncInterval, "resyncInterval");
+        if (resyncInterval.compareTo(MIN_RESYNC_INTERVAL) < 0
+                || resyncInterval.compareTo(MAX_RESYNC_INTERVAL) > 0) {
+            throw new IllegalArgumentException(
+                    "resyncInterval must be between "
+                            + MIN_RESYNC_INTERVAL
+                            + " and "
+                            + MAX_RESYNC_INTERVAL
+                            + ", but was "
+                            + resyncInterval);
+        }
+        if (maxSlewPpm < 1 || maxSlewPpm > MAX_SLEW_PPM) {
+            throw new IllegalArgumentException(
+                    "maxSlewPpm must be between 1 and " + MAX_SLEW_PPM + ", but was " + maxSlewPpm);
+        }
+        this.ticker = requireNonNull(ticker, "ticker");
+        this.wall = requireNonNull(wall, "wall");
+        this.intervalNanos = resyncInterval.toNanos();
+        this.maxSlewPpm = maxSlewPpm;
+
+        final long now = ticker.getAsLong();
+        this.anchor =
+                new AtomicReference<>(new Anchor(now, wall.getAsLong(), 0, now + intervalNanos));
+    }
+
+    @Override
+    public Instant get() {
+        final long nanos = epochNanos();
+        return Instant.ofEpochSecond(
+                Math.floorDiv(nanos, NANOS_PER_SECOND), Math.floorMod(nanos, NANOS_PER_SECOND));
+    }
+
+    @Override
+    public long epochMillis() {
+        return Math.floorDiv(epochNanos(), NANOS_PER_MILLI);
+    }
+
+    @Override
+    public long epochNanos() {
+        // Anchor must be read before the ticker, so that now is never before its pivot:
+        final Anchor current = anchor.get();
+        final long now = ticker.getAsLong();
+        return now - current.expiryNanos < 0 ? current.epochNanos(now) : resync(current);
+    }
+
+    /**
+     * @return how often the clock is compared to the wall time.
+     */
+    public Duration resyncInterval() {
+        return Duration.ofNanos(intervalNanos);
+    }
+
+    /**
+     * @return the max rate, in parts per million, at which the clock is slowed.
+     */
+    public int maxSlewPpm() {
+        return maxSlewPpm;
+    }
+
+    private long resync(final Anchor expired) {
+        Anchor current = expired;
+        while (true) {
+            final long now = ticker.getAsLong();
+            if (now - current.expiryNanos < 0) {
+                return current.epochNanos(now);
+            }
+
+            final Anchor next = next(current, now);
+            if (anchor.compareAndSet(current, next)) {
+                return next.epochNanos(now);
+            }
+            current = anchor.get();
+        }
+    }
+
+    /**
+     * Create the anchor that follows {@code expired}.
+     *
+     * <p>The new anchor pivots at {@code now}. Any reader using the new anchor reads the ticker
+     * after it is published, so never evaluates it before its pivot. Readers of the expired anchor
+     * only evaluate it before its expiry. Starting the new anchor no lower than the expired anchor
+     * at its expiry means no reader can see time go backwards.
+     */
+    private Anchor next(final Anchor expired, final long now) {
+        final long projected =
+                expired.epochNanos(expired.expiryNanos) + (now - expired.expiryNanos);
+        final long actual = wall.getAsLong();
+        final long ahead = projected - actual;
+        final long expiry = now + intervalNanos;
+
+        if (ahead <= 0) {
+            return new Anchor(now, actual, 0, expiry);
+        }
+
+        final long slew =
+                ahead >= intervalNanos
+                        ? maxSlewPpm
+                        : Math.min(maxSlewPpm, ceilDiv(ahead * PPM, intervalNanos));
+        return new Anchor(now, projected, (int) -slew, expiry);
+    }
+
+    private static long ceilDiv(final long x, final long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    /**
+     * Maps ticker values from {@code pivotNanos}, up to {@code expiryNanos}, to wall time.
+     *
+     * <p>The mapping is non-decreasing, as {@code slewPpm} is in the range (-1,000,000, 0].
+     */
+    private static final class Anchor {
+
+        private final long pivotNanos;
+        private final long pivotEpochNanos;
+        private final int slewPpm;
+        private final long expiryNanos;
+
+        Anchor(
+                final long pivotNanos,
+                final long pivotEpochNanos,
+                final int slewPpm,
+                final long expiryNanos) {
+            this.pivotNanos = pivotNanos;
+            this.pivotEpochNanos = pivotEpochNanos;
+            this.slewPpm = slewPpm;
+            this.expiryNanos = expiryNanos;
+        }
+
+        long epochNanos(final long now) {
+            final long elapsed = now - pivotNanos;
+            return pivotEpochNanos + elapsed + elapsed * slewPpm / PPM;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.temporal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+
+/**
+ * Measures elapsed time using a {@link Clock}.
+ *
+ * <p>Use a clock that does not go backwards, e.g. {@link MonotonicClock}. Negative elapsed times,
+ * caused by a clock going backwards, are reported as zero.
+ *
+ * <p>Not thread-safe. A stopwatch that does not escape the method that creates it is normally
+ * optimised away by the JIT, so timing a hot path need not allocate.
+ */
+public final class Stopwatch {
+
+    private final Clock clock;
+    private long startNanos;
+
+    /**
+     * Create and start a stopwatch.
+     *
+     * @param clock the clock to measure time with.
+     * @return the started stopwatch.
+     */
+    public static Stopwatch start(final Clock clock) {
+        return new Stopwatch(clock);
+    }
+
+    private Stopwatch(final Clock clock) {
+        this.clock = requireNonNull(clock, "clock");
+        this.startNanos = clock.epochNanos();
+    }
+
+    /**
+     * @return the nanoseconds elapsed since the stopwatch was started.
+     */
+    public long elapsedNanos() {
+        return Math.max(0, clock.epochNanos() - startNanos);
+    }
+
+    /**
+     * @return the time elapsed since the stopwatch was started.
+     */
+    public Duration elapsed() {
+        return Duration.ofNanos(elapsedNanos());
+    }
+
+    /**
+     * Restart the stopwatch.
+     *
+     * @return the nanoseconds elapsed before the restart.
+     */
+    public long lap() {
+        final long now = clock.epochNanos();
+        final long elapsed = Math.max(0, now - startNanos);
+        startNanos = now;
+        return elapsed;
+    }
+
+    /**
+     * Record the elapsed time in a histogram.
+     *
+     * @param histogram the histogram to record to.
+     * @return the nanoseconds elapsed.
+     */
+    public long recordTo(final LatencyHistogram histogram) {
+        final long elapsed = elapsedNanos();
+        histogram.record(elapsed);
+        return elapsed;
+    }
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.temporal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hierarchical timing wheel, for scheduling large numbers of timeouts.
+ *
+ * <p>Scheduling and cancelling a timeout are O(1), unlike the O(log n) of a heap based scheduler.
+ * The trade-off is that deadlines are rounded up to the next {@link #tick()}.
+ *
+ * <p>Time is read from the supplied {@link Clock}. The wheel has no thread of its own: the owner
+ * calls {@link #advance()} periodically, e.g. once per tick, which runs any expired tasks on the
+ * calling thread. Using a controllable clock makes the wheel deterministic in tests.
+ *
+ * <p>Timeouts can be scheduled and cancelled from any thread. {@link #advance()} should only be
+ * called from one thread at a time.
+ *
+ * <p>Timeouts due within {@code wheelSize} ticks are held in the first wheel. Later timeouts are
+ * held in coarser wheels, each covering {@code wheelSize} times the span of the last, and cascade
+ * down into finer wheels as their deadline approaches.
+ */
+public final class TimingWheel {
+
+    /** The max supported wheel size. */
+    public static final int MAX_WHEEL_SIZE = 1 << 16;
+
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private final Clock clock;
+    private final long tickNanos;
+    private final long startNanos;
+    private final int bits;
+    private final int mask;
+    private final Timeout[][] wheels;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Guarded by {@link #lock}: the last tick processed by {@link #advance()}. */
+    private long currentTick;
+
+    /** Guarded by {@link #lock}. */
+    private int size;
+
+    /**
+     * Create a wheel.
+     *
+     * @param clock the source of the current time.
+     * @param tick the resolution of the wheel. Deadlines are rounded up to the next tick.
+     * @param wheelSize the number of buckets per wheel. Rounded up to a power of two, with a max of
+     *     {@link #MAX_WHEEL_SIZE}.
+     * @return the wheel.
+     */
+    public static TimingWheel create(final Clock clock, final Duration tick, final int wheelSize) {
+        return new TimingWheel(clock, tick, wheelSize);
+    }
+
+    private TimingWheel(final Clock clock, final Duration tick, final int wheelSize) {
+        this.clock = requireNonNull(clock, "clock");
+        if (tick.isNegative() || tick.isZero()) {
+            throw new IllegalArgumentException("tick must be positive, but was " + tick);
+        }
+        if (wheelSize < 2 || wheelSize > MAX_WHEEL_SIZE) {
+            throw new IllegalArgumentException(
+                    "wheelSize must be between 2 and " + MAX_WHEEL_SIZE + ", but was " + wheelSize);
+        }
+        this.tickNanos = tick.toNanos();
+        this.bits = Integer.SIZE - Integer.numberOfLeadingZeros(wheelSize - 1);
+        this.mask = (1 << bits) - 1;
+        this.wheels = new Timeout[(Long.SIZE - 2) / bits + 1][];
+        this.startNanos = clock.epochNanos();
+    }
+
+    /**
+     * @return the resolution of the wheel.
+     */
+    public Duration tick() {
+        return Duration.ofNanos(tickNanos);
+    }
+
+    /**
+     * @return the number of buckets per wheel.
+     */
+    public int wheelSize() {
+        return mask + 1;
+    }
+
+    /**
+     * @return the number of pending timeouts.
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Schedule a task to run once {@code delay} has elapsed.
+     *
+     * <p>The task is run by the first call to {@link #advance()} after the deadline, rounded up to
+     * the next tick, has passed. Negative delays are treated as zero.
+     *
+     * @param task the task to run.
+     * @param delay the delay.
+     * @return the timeout, which can be used to cancel the task.
+     */
+    public Timeout schedule(final Runnable task, final Duration delay) {
+        requireNonNull(task, "task");
+        final long deadlineNanos = saturatedAdd(clock.epochNanos(), saturatedNanos(delay));
+        final long deadlineTick = ceilDiv(deadlineNanos - startNanos, tickNanos);
+
+        lock.lock();
+        try {
+            final Timeout timeout =
+                    new Timeout(this, task, Math.max(deadlineTick, currentTick + 1));
+            insert(timeout);
+            size++;
+            return timeout;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Advance the wheel to the current time, running any expired tasks.
+     *
+     * <p>Tasks are run on the calling thread, outside of any lock, so may schedule or cancel other
+     * timeouts. If any task throws, the remaining expired tasks are still run and the first
+     * exception is rethrown, with any others suppressed.
+     *
+     * @return the number of tasks run.
+     */
+    public int advance() {
+        final long nowTick = Math.floorDiv(clock.epochNanos() - startNanos, tickNanos);
+        final Timeout expired;
+
+        lock.lock();
+        try {
+            expired = advanceTo(nowTick);
+        } finally {
+            lock.unlock();
+        }
+
+        return run(expired);
+    }
+
+    /**
+     * @return chain of expired timeouts. Caller must hold lock.
+     */
+    private Timeout advanceTo(final long nowTick) {
+        final Timeout head = new Timeout(null, null, 0);
+        Timeout tail = head;
+        while (size > 0) {
+            final long next = nextTick(nowTick);
+            if (next > nowTick) {
+                break;
+            }
+
+            currentTick = next;
+            cascade(next);
+            tail = expire(next, tail);
+        }
+
+        // Nothing to do on any remaining ticks, so skip them:
+        currentTick = Math.max(currentTick, nowTick);
+        return head.next;
+    }
+
+    /**
+     * Find the next tick with work to do, i.e. a bucket to expire or cascade, jumping over ticks
+     * with nothing to do. Caller must hold lock.
+     *
+     * @return the next tick with work, or {@link Long#MAX_VALUE} if there is none up to {@code
+     *     limit}.
+     */
+    private long nextTick(final long limit) {
+        long next = Long.MAX_VALUE;
+        for (int level = 0; level < wheels.length; level++) {
+            final Timeout[] buckets = wheels[level];
+            if (buckets != null) {
+                next = Math.min(next, nextTick(buckets, level, Math.min(limit, next)));
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Scans at most one rotation of the level's buckets, and no further than {@code limit}.
+     *
+     * @return the next tick the level has a non-empty bucket to process, or {@link Long#MAX_VALUE}.
+     */
+    private long nextTick(final Timeout[] buckets, final int level, final long limit) {
+        // A level's buckets are processed on ticks that are multiples of the level's span:
+        final int shift = bits * level;
+        final long from = (currentTick >>> shift) + 1;
+        final long to = Math.min(limit >>> shift, from + mask);
+        for (long slot = from; slot <= to; slot++) {
+            if (buckets[(int) slot & mask] != null) {
+                return slot << shift;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private void cascade(final long tick) {
+        for (int level = 1; level < wheels.length; level++) {
+            if (((tick >>> (bits * (level - 1))) & mask) != 0) {
+                return;
+            }
+
+            final Timeout[] buckets = wheels[level];
+            if (buckets == null) {
+                continue;
+            }
+
+            final int index = (int) (tick >>> (bits * level)) & mask;
+            Timeout timeout = buckets[index];
+            buckets[index] = null;
+            while (timeout != null) {
+                final Timeout next = timeout.next;
+                insert(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+    private Timeout expire(final long tick, final Timeout tail) {
+        final Timeout[] buckets = wheels[0];
+        if (buckets == null) {
+            return tail;
+        }
+
+        final int index = (int) tick & mask;
+        Timeout timeout = buckets[index];
+        buckets[index] = null;
+
+        Timeout last = tail;
+        while (timeout != null) {
+            timeout.state = EXPIRED;
+            timeout.prev = null;
+            last.next = timeout;
+            last = timeout;
+            timeout = timeout.next;
+            size--;
+        }
+        last.next = null;
+        return last;
+    }
+
+    private static int run(final Timeout expired) {
+        int count = 0;
+        RuntimeException error = null;
+        for (Timeout timeout = expired; timeout != null; timeout = timeout.next) {
+            count++;
+            try {
+                timeout.task.run();
+            } catch (final RuntimeException e) {
+                if (error == null) {
+                    error = e;
+                } else {
+                    error.addSuppressed(e);
+                }
+            }
+        }
+
+        if (error != null) {
+            throw error;
+        }
+        return count;
+    }
+
+    /** Caller must hold lock. */
+    private void insert(final Timeout timeout) {
+        final long remaining = Math.max(0, timeout.deadlineTick - currentTick);
+        final int level =
+                remaining == 0 ? 0 : (Long.SIZE - 1 - Long.numberOfLeadingZeros(remaining)) / bits;
+        final int index = (int) (timeout.deadlineTick >>> (bits * level)) & mask;
+
+        Timeout[] buckets = wheels[level];
+        if (buckets == null) {
+            buckets = new Timeout[mask + 1];
+            wheels[level] = buckets;
+        }
+
+        final Timeout head = buckets[index];
+        timeout.level = level;
+        timeout.index = index;
+        timeout.prev = null;
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        buckets[index] = timeout;
+    }
+
+    private boolean cancel(final Timeout timeout) {
+        lock.lock();
+        try {
+            if (timeout.state != PENDING) {
+                return false;
+            }
+
+            timeout.state = CANCELLED;
+            if (timeout.prev == null) {
+                wheels[timeout.level][timeout.index] = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            size--;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static long saturatedNanos(final Duration delay) {
+        if (delay.isNegative()) {
+            return 0;
+        }
+        try {
+            return delay.toNanos();
+        } catch (final ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static long saturatedAdd(final long a, final long b) {
+        final long sum = a + b;
+        return ((a ^ sum) & (b ^ sum)) < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private static long ceilDiv(final long x, final long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    /** A scheduled task. */
+    public static final class Timeout {
+
+        private final TimingWheel wheel;
+        private final Runnable task;
+        private final long deadlineTick;
+        private volatile int state;
+        private int level;
+        private int index;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(final TimingWheel wheel, final Runnable task, final long deadlineTick) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        /**
+         * Cancel the timeout.
+         *
+         * @return {@code true} if cancelled, {@code false} if already cancelled or expired.
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+
+        /**
+         * @return {@code true} if the timeout was cancelled.
+         */
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        /**
+         * @return {@code true} if the timeout expired, i.e. its task has been, or is being, run.
+         */
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.temporal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Clock whose time only changes when told to, for deterministic tests.
+ *
+ * <p>Time is held as epoch nanos, so is limited to the years 1677 to 2262. Thread-safe.
+ *
+ * <p>Use with a {@link VirtualScheduler} to also run scheduled tasks as time advances.
+ */
+public final class VirtualClock implements Clock {
+
+    private final AtomicLong nanos;
+
+    /**
+     * Create a clock starting at the epoch.
+     *
+     * @return the clock.
+     */
+    public static VirtualClock create() {
+        return create(Instant.EPOCH);
+    }
+
+    /**
+     * Create a clock.
+     *
+     * @param start the initial time.
+     * @return the clock.
+     */
+    public static VirtualClock create(final Instant start) {
+        return new VirtualClock(Clock.epochNanos(requireNonNull(start, "start")));
+    }
+
+    private VirtualClock(final long nanos) {
+        this.nanos = new AtomicLong(nanos);
+    }
+
+    @Override
+    public Instant get() {
+        final long now = nanos.get();
+        return Instant.ofEpochSecond(
+                Math.floorDiv(now, 1_000_000_000L), Math.floorMod(now, 1_000_000_000L));
+    }
+
+    @Override
+    public long epochMillis() {
+        return Math.floorDiv(nanos.get(), 1_000_000L);
+    }
+
+    @Override
+    public long epochNanos() {
+        return nanos.get();
+    }
+
+    /**
+     * Advance time by {@code amount}.
+     *
+     * <p>Use {@link #set(Instant)} to simulate a clock going backwards.
+     *
+     * @param amount the amount to advance time by, which must not be negative.
+     * @return the new time, in epoch nanos.
+     * @throws ArithmeticException if the new time is beyond what epoch nanos can hold.
+     */
+    public long advance(final Duration amount) {
+        if (amount.isNegative()) {
+            throw new IllegalArgumentException("amount must not be negative, but was " + amount);
+        }
+        final long delta = amount.toNanos();
+        return nanos.updateAndGet(current -> Math.addExact(current, delta));
+    }
+
+    /**
+     * Set the time.
+     *
+     * @param time the new time.
+     */
+    public void set(final Instant time) {
+        setEpochNanos(Clock.epochNanos(time));
+    }
+
+    /**
+     * Set the time.
+     *
+     * @param epochNanos the new time, in epoch nanos.
+     */
+    public void setEpochNanos(final long epochNanos) {
+        nanos.set(epochNanos);
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.temporal;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Scheduled executor driven by a {@link VirtualClock}, for fast, deterministic tests of
+ * time-dependent code.
+ *
+ * <p>Tasks never run in the background. They run synchronously, on the calling thread, when {@link
+ * #advance(Duration)}, {@link #advanceTo(Instant)} or {@link #runDueTasks()} is called. Tasks run
+ * in order of their scheduled time, and in submission order for equal times. The clock is set to
+ * each task's scheduled time before it runs. Tasks submitted via {@link #execute(Runnable)} or
+ * {@code submit} are due immediately, but also only run when time is advanced or due tasks are run.
+ *
+ * <p>Tasks can be scheduled from any thread. Time should only be advanced by one thread at a time.
+ */
+public final class VirtualScheduler extends AbstractExecutorService
+        implements ScheduledExecutorService {
+
+    private final VirtualClock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Task<?>> queue = new PriorityQueue<>();
+    private long sequence;
+    private volatile boolean shutdown;
+
+    /**
+     * Create a scheduler.
+     *
+     * @param clock the clock, which is advanced as tasks run.
+     * @return the scheduler.
+     */
+    public static VirtualScheduler create(final VirtualClock clock) {
+        return new VirtualScheduler(clock);
+    }
+
+    private VirtualScheduler(final VirtualClock clock) {
+        this.clock = requireNonNull(clock, "clock");
+    }
+
+    /**
+     * @return the number of tasks waiting to run.
+     */
+    public int pending() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Advance time by {@code amount}, running any tasks that become due.
+     *
+     * @param amount the amount to advance time by, which must not be negative.
+     * @return the number of tasks run.
+     */
+    public int advance(final Duration amount) {
+        if (amount.isNegative()) {
+            throw new IllegalArgumentException("amount must not be negative, but was " + amount);
+        }
+        return advanceToNanos(Math.addExact(clock.epochNanos(), amount.toNanos()));
+    }
+
+    /**
+     * Advance time to {@code time}, running any tasks that become due.
+     *
+     * <p>Time is not moved backwards if {@code time} is in the past, though due tasks are run.
+     *
+     * @param time the time to advance to.
+     * @return the number of tasks run.
+     */
+    public int advanceTo(final Instant time) {
+        return advanceToNanos(Clock.epochNanos(time));
+    }
+
+    /**
+     * Run any tasks that are due, without advancing time.
+     *
+     * @return the number of tasks run.
+     */
+    public int runDueTasks() {
+        return advanceToNanos(clock.epochNanos());
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(
+            final Runnable command, final long delay, final TimeUnit unit) {
+        return enqueue(new Task<Void>(Executors.callable(command, null), due(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(
+            final Callable<V> callable, final long delay, final TimeUnit unit) {
+        return enqueue(new Task<>(callable, due(delay, unit), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(
+            final Runnable command,
+            final long initialDelay,
+            final long period,
+            final TimeUnit unit) {
+        return enqueue(
+                new Task<Void>(
+                        Executors.callable(command, null),
+                        due(initialDelay, unit),
+                        positive(period, unit, "period")));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(
+            final Runnable command,
+            final long initialDelay,
+            final long delay,
+            final TimeUnit unit) {
+        // With no real passage of time while a task runs, fixed delay behaves as fixed rate,
+        // except if the task itself advances the clock:
+        return enqueue(
+                new Task<Void>(
+                        Executors.callable(command, null),
+                        due(initialDelay, unit),
+                        -positive(delay, unit, "delay")));
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        schedule(command, 0, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        lock.lock();
+        try {
+            final List<Runnable> pending = new ArrayList<>(queue);
+            queue.clear();
+            return pending;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && pending() == 0;
+    }
+
+    /** Returns immediately: waiting would not advance virtual time. */
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) {
+        return isTerminated();
+    }
+
+    private int advanceToNanos(final long target) {
+        int count = 0;
+        Task<?> task;
+        while ((task = pollDue(target)) != null) {
+            if (task.time > clock.epochNanos()) {
+                clock.setEpochNanos(task.time);
+            }
+            task.run();
+            count++;
+        }
+
+        if (target > clock.epochNanos()) {
+            clock.setEpochNanos(target);
+        }
+        return count;
+    }
+
+    private Task<?> pollDue(final long target) {
+        lock.lock();
+        try {
+            final Task<?> head = queue.peek();
+            return head != null && head.time <= target ? queue.poll() : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <V> Task<V> enqueue(final Task<V> task) {
+        lock.lock();
+        try {
+            if (shutdown) {
+                throw new RejectedExecutionException("Scheduler is shutdown");
+            }
+            task.sequence = sequence++;
+            queue.add(task);
+            return task;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void requeue(final Task<?> task) {
+        lock.lock();
+        try {
+            if (!shutdown) {
+                task.sequence = sequence++;
+                queue.add(task);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(final Task<?> task) {
+        lock.lock();
+        try {
+            queue.remove(task);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long due(final long delay, final TimeUnit unit) {
+        return saturatedAdd(clock.epochNanos(), Math.max(0, unit.toNanos(delay)));
+    }
+
+    /** Like {@code ScheduledThreadPoolExecutor}, far future times saturate rather than wrap. */
+    private static long saturatedAdd(final long a, final long b) {
+        final long sum = a + b;
+        return ((a ^ sum) & (b ^ sum)) < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private static long positive(final long amount, final TimeUnit unit, final String name) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException(name + " must be positive, but was " + amount);
+        }
+        return unit.toNanos(amount);
+    }
+
+    /**
+     * A scheduled task.
+     *
+     * <p>{@code period} is zero for one-shot tasks, positive for fixed rate and negative for fixed
+     * delay.
+     */
+    @SuppressFBWarnings(
+            value = "EQ_COMPARETO_USE_OBJECT_EQUALS",
+            justification = "Only the same task compares as equal, as sequences are unique")
+    private final class Task<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+        private final long period;
+        private volatile long time;
+        private long sequence;
+
+        Task(final Callable<V> callable, final long time, final long period) {
+            super(callable);
+            this.time = time;
+            this.period = period;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public long getDelay(final TimeUnit unit) {
+            return unit.convert(time - clock.epochNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(final Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            if (other instanceof Task) {
+                final Task<?> that = (Task<?>) other;
+                final int byTime = Long.compare(time, that.time);
+                return byTime != 0 ? byTime : Long.compare(sequence, that.sequence);
+            }
+            return Long.compare(
+                    getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            final boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                remove(this);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public void run() {
+            if (!isPeriodic()) {
+                super.run();
+            } else if (runAndReset()) {
+                time = saturatedAdd(period > 0 ? time : clock.epochNanos(), Math.abs(period));
+                requeue(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+/**
+ * Java 21+ variant of the class that finds chars that require JSON escaping.
+ *
+ * <p>Uses the Vector API, via {@link VectorJsonEscapeScanner}, to scan long strings, if the
+ * incubating {@code jdk.incubator.vector} module has been added to the JVM, e.g. by running with
+ * {@code --add-modules jdk.incubator.vector}. Otherwise, falls back to the scalar scan.
+ */
+final class JsonEscapeScanner {
+
+    /** Below this length the overhead of copying the chars out of the source is not worth it. */
+    private static final int MIN_VECTOR_LENGTH = 32;
+
+    private static final boolean VECTOR_API_AVAILABLE = vectorApiAvailable();
+
+    private JsonEscapeScanner() {}
+
+    /**
+     * Find the first char in the range {@code [from, to)} that requires escaping.
+     *
+     * @param source the text to search.
+     * @param from the index to start searching from, inclusive.
+     * @param to the index to search to, exclusive.
+     * @return the index of the first char requiring escaping, or {@code to} if there are none.
+     */
+    static int indexOfEscape(final CharSequence source, final int from, final int to) {
+        if (VECTOR_API_AVAILABLE
+                && to - from >= MIN_VECTOR_LENGTH
+                && (source instanceof String || source instanceof StringBuilder)) {
+            return VectorJsonEscapeScanner.indexOfEscape(source, from, to, false);
+        }
+
+        return ScalarJsonEscapeScanner.indexOfEscape(source, from, to);
+    }
+
+    /**
+     * Find the first char in the range {@code [from, to)} that requires escaping to produce 7-bit
+     * ASCII output.
+     *
+     * @param source the text to search.
+     * @param from the index to start searching from, inclusive.
+     * @param to the index to search to, exclusive.
+     * @return the index of the first char requiring escaping, or {@code to} if there are none.
+     */
+    static int indexOfAsciiEscape(final CharSequence source, final int from, final int to) {
+        if (VECTOR_API_AVAILABLE
+                && to - from >= MIN_VECTOR_LENGTH
+                && (source instanceof String || source instanceof StringBuilder)) {
+            return VectorJsonEscapeScanner.indexOfEscape(source, from, to, true);
+        }
+
+        return ScalarJsonEscapeScanner.indexOfAsciiEscape(source, from, to);
+    }
+
+    private static boolean vectorApiAvailable() {
+        return ModuleLayer.boot()
+                .findModule("jdk.incubator.vector")
+                .map(
+                        vectorModule -> {
+                            // Only needed when running on the module path:
+                            JsonEscapeScanner.class.getModule().addReads(vectorModule);
+                            return true;
+                        })
+                .orElse(false);
+    }
+}
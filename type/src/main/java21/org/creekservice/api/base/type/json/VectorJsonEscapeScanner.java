@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API based scan for chars that require JSON escaping.
+ *
+ * <p>Tests 8 to 32 chars at a time, depending on the hardware's preferred vector size.
+ *
+ * <p>Chars are copied in chunks out of the source and into a buffer local to the scan, as neither
+ * {@link String} nor {@link StringBuilder} expose their internal arrays. The copy is a bulk
+ * intrinsic, so much cheaper than the scalar scan it replaces. Each scan starts with a chunk of
+ * four vectors, doubling on each miss, so the chars copied stay proportional to the chars scanned.
+ * The buffer grows with the chunk size, so a scan that finds an escape in its first chunk only
+ * allocates a small buffer, and no scan allocates more than twice the maximum chunk size.
+ *
+ * <p>Where escapes are dense, the next one is often only a few chars away. So the first few chars
+ * are checked with a scalar scan, avoiding the per-chunk setup cost entirely.
+ *
+ * <p>Only load this class if the {@code jdk.incubator.vector} module is available.
+ */
+final class VectorJsonEscapeScanner {
+
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+    private static final int CHUNK_SIZE = 256;
+    private static final int SCALAR_PREFIX = 8;
+
+    private VectorJsonEscapeScanner() {}
+
+    /**
+     * Find the first char in the range {@code [from, to)} that requires escaping.
+     *
+     * @param source the text to search. Must be a {@link String} or {@link StringBuilder}.
+     * @param from the index to start searching from, inclusive.
+     * @param to the index to search to, exclusive.
+     * @param ascii {@code true} if all non-ASCII chars require escaping.
+     * @return the index of the first char requiring escaping, or {@code to} if there are none.
+     */
+    static int indexOfEscape(
+            final CharSequence source, final int from, final int to, final boolean ascii) {
+        final int prefixEnd = Math.min(to, from + SCALAR_PREFIX);
+        final int prefixIdx =
+                ascii
+                        ? ScalarJsonEscapeScanner.indexOfAsciiEscape(source, from, prefixEnd)
+                        : ScalarJsonEscapeScanner.indexOfEscape(source, from, prefixEnd);
+        if (prefixIdx != prefixEnd) {
+            return prefixIdx;
+        }
+
+        // Vector scan restarts at `from`, keeping chunks whole multiples of the vector length:
+        int size = SPECIES.length() * 4;
+        char[] chunk = new char[Math.min(size, to - from)];
+        int base = from;
+        while (base < to) {
+            final int length = Math.min(size, to - base);
+            if (chunk.length < length) {
+                chunk = new char[length];
+            }
+            copy(source, base, base + length, chunk);
+
+            final int idx =
+                    ascii ? indexOfAsciiEscape(chunk, length) : indexOfEscape(chunk, length);
+            if (idx != length) {
+                return base + idx;
+            }
+
+            base += length;
+            size = Math.min(size * 2, CHUNK_SIZE);
+        }
+        return to;
+    }
+
+    private static void copy(
+            final CharSequence source, final int from, final int to, final char[] chunk) {
+        if (source instanceof String text) {
+            text.getChars(from, to, chunk, 0);
+        } else {
+            ((StringBuilder) source).getChars(from, to, chunk, 0);
+        }
+    }
+
+    private static int indexOfEscape(final char[] chars, final int length) {
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final ShortVector v = ShortVector.fromCharArray(SPECIES, chars, i);
+            final VectorMask<Short> escapes =
+                    v.compare(VectorOperators.UNSIGNED_LT, 0x20)
+                            .or(v.eq((short) '"'))
+                            .or(v.eq((short) '\\'))
+                            // ISO control chars U+007F to U+009F:
+                            .or(v.sub((short) 0x7F).compare(VectorOperators.UNSIGNED_LT, 0x21));
+
+            if (escapes.anyTrue()) {
+                return i + escapes.firstTrue();
+            }
+        }
+
+        for (; i < length; i++) {
+            if (Json.escapeOf(chars[i]) != Json.NO_ESCAPE) {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    private static int indexOfAsciiEscape(final char[] chars, final int length) {
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final ShortVector v = ShortVector.fromCharArray(SPECIES, chars, i);
+            final VectorMask<Short> escapes =
+                    v.compare(VectorOperators.UNSIGNED_LT, 0x20)
+                            .or(v.eq((short) '"'))
+                            .or(v.eq((short) '\\'))
+                            // DEL and everything beyond ASCII:
+                            .or(v.compare(VectorOperators.UNSIGNED_GE, 0x7F));
+
+            if (escapes.anyTrue()) {
+                return i + escapes.firstTrue();
+            }
+        }
+
+        for (; i < length; i++) {
+            if (Json.asciiEscapeOf(chars[i]) != Json.NO_ESCAPE) {
+                return i;
+            }
+        }
+        return length;
+    }
+}
@@ -17,19 +17,40 @@
 package org.creekservice.api.base.type;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import org.creekservice.api.base.type.temporal.VirtualClock;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -129,6 +150,635 @@ class SuppliersTest {
         verify(inner, times(1)).get();
     }
 
+    @Test
+    void shouldNotPinVirtualThreadCarriersWhileLoading() throws Exception {
+        // Given:
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CompletableFuture<Object> blockFuture = new CompletableFuture<>();
+        final AtomicInteger loads = new AtomicInteger();
+        memoized =
+                Suppliers.memoize(
+                        () -> {
+                            loads.incrementAndGet();
+                            loading.countDown();
+                            return blockFuture.join();
+                        });
+
+        final ExecutorService executor = virtualThreadPerTaskExecutor();
+        try {
+            final List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                results.add(executor.submit(memoized::get));
+            }
+            loading.await();
+
+            // When:
+            executor.submit(() -> blockFuture.complete("It worked"));
+
+            // Then:
+            for (final Future<?> result : results) {
+                assertThat(result.get(30, SECONDS), is("It worked"));
+            }
+            assertThat(loads.get(), is(1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldCacheUntilExpiry() {
+        // Given:
+        final VirtualClock clock = VirtualClock.create();
+        memoized = Suppliers.memoizeWithExpiration(inner, Duration.ofSeconds(10), clock);
+        memoized.get();
+        clock.advance(Duration.ofSeconds(10).minusNanos(1));
+
+        // When:
+        final Object result = memoized.get();
+
+        // Then:
+        verify(inner, times(1)).get();
+        assertThat(result, is("It worked"));
+    }
+
+    @Test
+    void shouldReloadOnExpiry() {
+        // Given:
+        final VirtualClock clock = VirtualClock.create();
+        memoized = Suppliers.memoizeWithExpiration(inner, Duration.ofSeconds(10), clock);
+        memoized.get();
+        clock.advance(Duration.ofSeconds(10));
+        when(inner.get()).thenReturn("reloaded");
+
+        // When:
+        final Object result = memoized.get();
+
+        // Then:
+        verify(inner, times(2)).get();
+        assertThat(result, is("reloaded"));
+    }
+
+    @Test
+    void shouldMeasureTtlFromEndOfLoad() {
+        // Given:
+        final VirtualClock clock = VirtualClock.create();
+        when(inner.get())
+                .thenAnswer(
+                        inv -> {
+                            clock.advance(Duration.ofSeconds(5));
+                            return "It worked";
+                        });
+        memoized = Suppliers.memoizeWithExpiration(inner, Duration.ofSeconds(10), clock);
+        memoized.get();
+        clock.advance(Duration.ofSeconds(9));
+
+        // When:
+        memoized.get();
+
+        // Then:
+        verify(inner, times(1)).get();
+    }
+
+    @Test
+    void shouldCacheNullsWithExpiration() {
+        // Given:
+        final VirtualClock clock = VirtualClock.create();
+        when(inner.get()).thenReturn(null);
+        memoized = Suppliers.memoizeWithExpiration(inner, Duration.ofSeconds(10), clock);
+
+        // When:
+        final Object firstResult = memoized.get();
+        final Object secondResult = memoized.get();
+
+        // Then:
+        assertThat(firstResult, is(nullValue()));
+        assertThat(secondResult, is(nullValue()));
+        verify(inner, times(1)).get();
+    }
+
+    @Test
+    void shouldReturnStaleValueWhileAnotherCallerReloads() throws Exception {
+        // Given:
+        final VirtualClock clock = VirtualClock.create();
+        memoized = Suppliers.memoizeWithExpiration(inner, Duration.ofSeconds(10), clock);
+        memoized.get();
+        clock.advance(Duration.ofSeconds(10));
+
+        final CompletableFuture<Object> reloading = new CompletableFuture<>();
+        final CompletableFuture<Object> blockFuture = new CompletableFuture<>();
+        when(inner.get())
+                .thenAnswer(
+                        inv -> {
+                            reloading.complete(null);
+                            return blockFuture.get();
+                        });
+
+        final Future<?> reloadResult = startThreadToGetValue();
+        reloading.get();
+
+        // When:
+        final Object staleResult = memoized.get();
+
+        // Then:
+        assertThat(staleResult, is("It worked"));
+
+        // When:
+        blockFuture.complete("reloaded");
+
+        // Then:
+        assertThat(reloadResult.get(), is("reloaded"));
+        assertThat(memoized.get(), is("reloaded"));
+        verify(inner, times(2)).get();
+    }
+
+    @Test
+    void shouldBlockAllCallersOnFirstLoad() throws Exception {
+        // Given:
+        memoized =
+                Suppliers.memoizeWithExpiration(
+                        inner, Duration.ofSeconds(10), VirtualClock.create());
+        final CompletableFuture<Object> blockFuture = new CompletableFuture<>();
+        when(inner.get()).thenAnswer(inv -> blockFuture.get());
+
+        final Future<?> firstResult = startThreadToGetValue();
+        final Future<?> secondResult = startThreadToGetValue();
+
+        // When:
+        blockFuture.complete("It worked");
+
+        // Then:
+        assertThat(firstResult.get(), is("It worked"));
+        assertThat(secondResult.get(), is("It worked"));
+        verify(inner, times(1)).get();
+    }
+
+    @Test
+    void shouldRetryIfReloadThrows() {
+        // Given:
+        final VirtualClock clock = VirtualClock.create();
+        memoized = Suppliers.memoizeWithExpiration(inner, Duration.ofSeconds(10), clock);
+        memoized.get();
+        clock.advance(Duration.ofSeconds(10));
+        when(inner.get()).thenThrow(new IllegalStateException("Boom")).thenReturn("reloaded");
+
+        // When:
+        final Exception e = assertThrows(IllegalStateException.class, memoized::get);
+
+        // Then:
+        assertThat(e.getMessage(), is("Boom"));
+        assertThat(memoized.get(), is("reloaded"));
+        verify(inner, times(3)).get();
+    }
+
+    @Test
+    void shouldNotOverflowWithHugeTtl() {
+        // Given:
+        final VirtualClock clock = VirtualClock.create();
+        memoized = Suppliers.memoizeWithExpiration(inner, Duration.ofDays(365 * 1000), clock);
+        memoized.get();
+        clock.advance(Duration.ofDays(365 * 100));
+
+        // When:
+        memoized.get();
+
+        // Then:
+        verify(inner, times(1)).get();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, -1})
+    void shouldThrowOnNonPositiveTtl(final long ttlNanos) {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () ->
+                                Suppliers.memoizeWithExpiration(
+                                        inner, Duration.ofNanos(ttlNanos), VirtualClock.create()));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("ttl must be positive, but was "));
+    }
+
+    @Test
+    void shouldWrapToStringWithExpiration() {
+        // Given:
+        inner =
+                new Supplier<>() {
+                    @Override
+                    public Object get() {
+                        return null;
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "inner";
+                    }
+                };
+        memoized = Suppliers.memoizeWithExpiration(inner, Duration.ofSeconds(10));
+
+        // When:
+        final String text = memoized.toString();
+
+        // Then:
+        assertThat(text, is("Suppliers.memoizeWithExpiration(inner, PT10S)"));
+    }
+
+    @Test
+    void shouldLoadOnFirstGetWithRefresh() {
+        // Given:
+        final RefreshingSupplier<Object> refreshing =
+                Suppliers.memoizeWithRefresh(
+                        inner,
+                        Duration.ofSeconds(10),
+                        Duration.ofSeconds(2),
+                        VirtualClock.create(),
+                        Runnable::run);
+
+        // When:
+        final Object result = refreshing.get();
+
+        // Then:
+        assertThat(result, is("It worked"));
+        verify(inner, times(1)).get();
+    }
+
+    @Test
+    void shouldNotRefreshBeforeRefreshWindow() {
+        // Given:
+        final VirtualClock clock = VirtualClock.create();
+        final RefreshingSupplier<Object> refreshing =
+                Suppliers.memoizeWithRefresh(
+                        inner, Duration.ofSeconds(10), Duration.ofSeconds(2), clock, Runnable::run);
+        refreshing.get();
+        clock.advance(Duration.ofSeconds(8).minusNanos(1));
+
+        // When:
+        refreshing.get();
+
+        // Then:
+        verify(inner, times(1)).get();
+    }
+
+    @Test
+    void shouldRefreshInBackgroundWithinRefreshWindow() {
+        // Given:
+        final VirtualClock clock = VirtualClock.create();
+        final List<Runnable> tasks = new ArrayList<>();
+        final RefreshingSupplier<Object> refreshing =
+                Suppliers.memoizeWithRefresh(
+                        inner, Duration.ofSeconds(10), Duration.ofSeconds(2), clock, tasks::add);
+        loadValue(refreshing, tasks);
+        clock.advance(Duration.ofSeconds(8));
+        when(inner.get()).thenReturn("refreshed");
+
+        // When:
+        final Object first = refreshing.get();
+        final Object second = refreshing.get();
+
+        // Then:
+        assertThat(first, is("It worked"));
+        assertThat(second, is("It worked"));
+        assertThat(tasks, hasSize(1));
+
+        // When:
+        tasks.remove(0).run();
+
+        // Then:
+        assertThat(refreshing.get(), is("refreshed"));
+        assertThat(tasks, is(empty()));
+        verify(inner, times(2)).get();
+    }
+
+    @Test
+    void shouldBlockOnRefreshOnceExpired() {
+        // Given:
+        final VirtualClock clock = VirtualClock.create();
+        final RefreshingSupplier<Object> refreshing =
+                Suppliers.memoizeWithRefresh(
+                        inner, Duration.ofSeconds(10), Duration.ofSeconds(2), clock, Runnable::run);
+        refreshing.get();
+        clock.advance(Duration.ofSeconds(10));
+        when(inner.get()).thenReturn("refreshed");
+
+        // When:
+        final Object result = refreshing.get();
+
+        // Then:
+        assertThat(result, is("refreshed"));
+        verify(inner, times(2)).get();
+    }
+
+    @Test
+    void shouldKeepCurrentValueIfRefreshFails() {
+        // Given:
+        final VirtualClock clock = VirtualClock.create();
+        final List<Runnable> tasks = new ArrayList<>();
+        final RefreshingSupplier<Object> refreshing =
+                Suppliers.memoizeWithRefresh(
+                        inner, Duration.ofSeconds(10), Duration.ofSeconds(2), clock, tasks::add);
+        loadValue(refreshing, tasks);
+        clock.advance(Duration.ofSeconds(8));
+        when(inner.get()).thenThrow(new IllegalStateException("Boom"));
+
+        final CompletableFuture<Object> refreshed = refreshing.refresh();
+
+        // When:
+        tasks.remove(0).run();
+
+        // Then:
+        final Exception e = assertThrows(ExecutionException.class, refreshed::get);
+        assertThat(e.getCause().getMessage(), is("Boom"));
+        assertThat(refreshing.get(), is("It worked"));
+        assertThat("should back off", tasks, is(empty()));
+
+        // When:
+        clock.advance(Duration.ofMillis(500));
+
+        // Then:
+        assertThat(refreshing.get(), is("It worked"));
+        assertThat("should retry", tasks, hasSize(1));
+    }
+
+    @Test
+    void shouldBoundRefreshesWhileDelegateKeepsFailing() {
+        // Given:
+        final VirtualClock clock = VirtualClock.create();
+        final AtomicInteger submitted = new AtomicInteger();
+        final List<Throwable> failures = new ArrayList<>();
+        final RefreshingSupplier<Object> refreshing =
+                Suppliers.memoizeWithRefresh(
+                        inner,
+                        Duration.ofSeconds(10),
+                        Duration.ofSeconds(2),
+                        clock,
+                        task -> {
+                            submitted.incrementAndGet();
+                            task.run();
+                        },
+                        failures::add);
+        refreshing.get();
+        clock.advance(Duration.ofSeconds(8));
+        when(inner.get()).thenThrow(new IllegalStateException("Boom"));
+
+        // When:
+        for (int i = 0; i < 2_000; i++) {
+            assertThat(refreshing.get(), is("It worked"));
+            clock.advance(Duration.ofMillis(1));
+        }
+
+        // Then: initial load, then refreshes at 8s, 8.5s and 9.5s, backing off 0.5s, 1s then 2s:
+        assertThat(submitted.get(), is(4));
+        assertThat(failures, hasSize(3));
+        assertThat(failures.get(0).getMessage(), is("Boom"));
+    }
+
+    @Test
+    void shouldRethrowFailureWithoutRefreshingWhileBackingOffWithNoValue() {
+        // Given:
+        final VirtualClock clock = VirtualClock.create();
+        final AtomicInteger submitted = new AtomicInteger();
+        when(inner.get()).thenThrow(new IllegalStateException("Boom"));
+        final RefreshingSupplier<Object> refreshing =
+                Suppliers.memoizeWithRefresh(
+                        inner,
+                        Duration.ofSeconds(10),
+                        Duration.ofSeconds(2),
+                        clock,
+                        task -> {
+                            submitted.incrementAndGet();
+                            task.run();
+                        },
+                        failure -> {});
+        assertThrows(IllegalStateException.class, refreshing::get);
+
+        // When:
+        final Exception e = assertThrows(IllegalStateException.class, refreshing::get);
+
+        // Then:
+        assertThat(e.getMessage(), is("Boom"));
+        assertThat(submitted.get(), is(1));
+
+        // When:
+        clock.advance(Duration.ofMillis(500));
+        doReturn("recovered").when(inner).get();
+
+        // Then:
+        assertThat(refreshing.get(), is("recovered"));
+        assertThat(submitted.get(), is(2));
+    }
+
+    @Test
+    void shouldRefreshExplicitlyWhileBackingOff() {
+        // Given:
+        final VirtualClock clock = VirtualClock.create();
+        final List<Runnable> tasks = new ArrayList<>();
+        final RefreshingSupplier<Object> refreshing =
+                Suppliers.memoizeWithRefresh(
+                        inner,
+                        Duration.ofSeconds(10),
+                        Duration.ofSeconds(2),
+                        clock,
+                        tasks::add,
+                        failure -> {});
+        loadValue(refreshing, tasks);
+        when(inner.get()).thenThrow(new IllegalStateException("Boom"));
+        loadValue(refreshing, tasks);
+
+        // When:
+        refreshing.refresh();
+
+        // Then:
+        assertThat(tasks, hasSize(1));
+    }
+
+    @Test
+    void shouldThrowIfFirstLoadFails() {
+        // Given:
+        when(inner.get()).thenThrow(new IllegalStateException("Boom"));
+        final RefreshingSupplier<Object> refreshing =
+                Suppliers.memoizeWithRefresh(
+                        inner,
+                        Duration.ofSeconds(10),
+                        Duration.ofSeconds(2),
+                        VirtualClock.create(),
+                        Runnable::run);
+
+        // When:
+        final Exception e = assertThrows(IllegalStateException.class, refreshing::get);
+
+        // Then:
+        assertThat(e.getMessage(), is("Boom"));
+    }
+
+    @Test
+    void shouldThrowIfExecutorRejectsRefresh() {
+        // Given:
+        final Executor rejecting =
+                task -> {
+                    throw new RejectedExecutionException("Full");
+                };
+        final RefreshingSupplier<Object> refreshing =
+                Suppliers.memoizeWithRefresh(
+                        inner,
+                        Duration.ofSeconds(10),
+                        Duration.ofSeconds(2),
+                        VirtualClock.create(),
+                        rejecting);
+
+        // When:
+        final Exception e = assertThrows(RejectedExecutionException.class, refreshing::get);
+
+        // Then:
+        assertThat(e.getMessage(), is("Full"));
+    }
+
+    @Test
+    void shouldGetAsyncWithoutBlocking() throws Exception {
+        // Given:
+        final List<Runnable> tasks = new ArrayList<>();
+        final RefreshingSupplier<Object> refreshing =
+                Suppliers.memoizeWithRefresh(
+                        inner,
+                        Duration.ofSeconds(10),
+                        Duration.ofSeconds(2),
+                        VirtualClock.create(),
+                        tasks::add);
+
+        // When:
+        final CompletableFuture<Object> pending = refreshing.getAsync();
+
+        // Then:
+        assertThat(pending.isDone(), is(false));
+
+        // When:
+        tasks.remove(0).run();
+
+        // Then:
+        assertThat(pending.get(), is("It worked"));
+        assertThat(refreshing.getAsync().isDone(), is(true));
+        assertThat(refreshing.getAsync().get(), is("It worked"));
+    }
+
+    @Test
+    void shouldStartRefreshOnGetAsyncWithinRefreshWindow() throws Exception {
+        // Given:
+        final VirtualClock clock = VirtualClock.create();
+        final List<Runnable> tasks = new ArrayList<>();
+        final RefreshingSupplier<Object> refreshing =
+                Suppliers.memoizeWithRefresh(
+                        inner, Duration.ofSeconds(10), Duration.ofSeconds(2), clock, tasks::add);
+        loadValue(refreshing, tasks);
+        clock.advance(Duration.ofSeconds(9));
+
+        // When:
+        final CompletableFuture<Object> result = refreshing.getAsync();
+
+        // Then:
+        assertThat(result.get(), is("It worked"));
+        assertThat(tasks, hasSize(1));
+    }
+
+    @Test
+    void shouldNotAllowCallersToCompleteSharedRefresh() throws Exception {
+        // Given:
+        final List<Runnable> tasks = new ArrayList<>();
+        final RefreshingSupplier<Object> refreshing =
+                Suppliers.memoizeWithRefresh(
+                        inner,
+                        Duration.ofSeconds(10),
+                        Duration.ofSeconds(2),
+                        VirtualClock.create(),
+                        tasks::add);
+        final CompletableFuture<Object> first = refreshing.refresh();
+        final CompletableFuture<Object> second = refreshing.refresh();
+
+        // When:
+        first.complete("hijacked");
+        tasks.remove(0).run();
+
+        // Then:
+        assertThat(second.get(), is("It worked"));
+        assertThat(refreshing.get(), is("It worked"));
+    }
+
+    @Test
+    void shouldRefreshOnDefaultExecutor() {
+        // Given:
+        final List<String> threadNames = new ArrayList<>();
+        final RefreshingSupplier<Object> refreshing =
+                Suppliers.memoizeWithRefresh(
+                        () -> {
+                            threadNames.add(Thread.currentThread().getName());
+                            return "It worked";
+                        },
+                        Duration.ofHours(1),
+                        Duration.ofMinutes(1));
+
+        // When:
+        final Object result = refreshing.get();
+
+        // Then:
+        assertThat(result, is("It worked"));
+        assertThat(threadNames, contains("creek-supplier-refresh"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1, 0, 10_000, 10_001})
+    void shouldThrowOnInvalidRefreshAhead(final long refreshAheadMs) {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () ->
+                                Suppliers.memoizeWithRefresh(
+                                        inner,
+                                        Duration.ofSeconds(10),
+                                        Duration.ofMillis(refreshAheadMs)));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                containsString("refreshAhead must be between 0 and PT10S (exclusive), but was "));
+    }
+
+    @Test
+    void shouldWrapToStringWithRefresh() {
+        // Given:
+        inner =
+                new Supplier<>() {
+                    @Override
+                    public Object get() {
+                        return null;
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "inner";
+                    }
+                };
+
+        // When:
+        final String text =
+                Suppliers.memoizeWithRefresh(inner, Duration.ofSeconds(10), Duration.ofSeconds(2))
+                        .toString();
+
+        // Then:
+        assertThat(text, is("Suppliers.memoizeWithRefresh(inner, PT10S, PT2S)"));
+    }
+
+    private static void loadValue(
+            final RefreshingSupplier<Object> refreshing, final List<Runnable> tasks) {
+        refreshing.refresh();
+        tasks.remove(0).run();
+    }
+
+    private static ExecutorService virtualThreadPerTaskExecutor() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "Requires virtual threads");
+        return (ExecutorService)
+                Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+
     private Future<?> startThreadToGetValue() {
         final CompletableFuture<Object> result = new CompletableFuture<>();
         new Thread(() -> result.complete(memoized.get())).start();
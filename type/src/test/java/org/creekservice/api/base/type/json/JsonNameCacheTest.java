@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class JsonNameCacheTest {
+
+    @Test
+    void shouldReturnCachedInstance() {
+        // Given:
+        final JsonNameCache cache = JsonNameCache.jsonNameCache(16);
+        final JsonName first = cache.get("name");
+
+        // When:
+        final JsonName second = cache.get(new StringBuilder("name"));
+
+        // Then:
+        assertThat(second, is(sameInstance(first)));
+        assertThat(second.quoted(), is("\"name\""));
+    }
+
+    @Test
+    void shouldEvictOnCollision() {
+        // Given: "Aa" and "BB" have the same hash:
+        final JsonNameCache cache = JsonNameCache.jsonNameCache(1);
+        final JsonName aa = cache.get("Aa");
+
+        // When:
+        final JsonName bb = cache.get("BB");
+
+        // Then:
+        assertThat(bb.name(), is("BB"));
+        assertThat(cache.get("BB"), is(sameInstance(bb)));
+        assertThat(cache.get("Aa"), is(not(sameInstance(aa))));
+    }
+
+    @Test
+    void shouldKeepBothNamesThatShareASlot() {
+        // Given: "Aa" and "BB" have the same hash:
+        final JsonNameCache cache = JsonNameCache.jsonNameCache(16);
+        final JsonName aa = cache.get("Aa");
+        final JsonName bb = cache.get("BB");
+
+        // Then:
+        assertThat(cache.get("Aa"), is(sameInstance(aa)));
+        assertThat(cache.get("BB"), is(sameInstance(bb)));
+    }
+
+    @Test
+    void shouldNotGrowBeyondCapacity() {
+        // Given:
+        final JsonNameCache cache = JsonNameCache.jsonNameCache(8);
+
+        // When:
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(cache.get("key-" + i).name(), is("key-" + i));
+        }
+
+        // Then:
+        assertThat(cache.capacity(), is(8));
+    }
+
+    @Test
+    void shouldNotCacheLongNames() {
+        // Given:
+        final JsonNameCache cache = JsonNameCache.jsonNameCache(8);
+        final String name = "x".repeat(JsonNameCache.MAX_CACHED_LENGTH + 1);
+
+        // When:
+        final JsonName result = cache.get(name);
+
+        // Then:
+        assertThat(result.name(), is(name));
+        assertThat(cache.get(name), is(not(sameInstance(result))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 100, 1024})
+    void shouldRoundCapacityUpToPowerOfTwo(final int capacity) {
+        // When:
+        final int actual = JsonNameCache.jsonNameCache(capacity).capacity();
+
+        // Then:
+        assertThat(Integer.bitCount(actual), is(1));
+        assertThat(actual >= capacity && actual < capacity * 2, is(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, (1 << 20) + 1})
+    void shouldThrowOnInvalidCapacity(final int capacity) {
+        assertThrows(IllegalArgumentException.class, () -> JsonNameCache.jsonNameCache(capacity));
+    }
+
+    @Test
+    void shouldBeThreadSafe() throws Exception {
+        // Given:
+        final JsonNameCache cache = JsonNameCache.jsonNameCache(4);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            // When:
+            for (int t = 0; t < 4; t++) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    for (int i = 0; i < 10_000; i++) {
+                                        final String name = "key-" + (i % 16);
+                                        assertThat(cache.get(name).name(), is(name));
+                                    }
+                                }));
+            }
+
+            // Then:
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
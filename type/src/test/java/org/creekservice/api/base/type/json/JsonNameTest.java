@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import org.junit.jupiter.api.Test;
+
+class JsonNameTest {
+
+    @Test
+    void shouldExposeName() {
+        assertThat(JsonName.jsonName(new StringBuilder("a\"b")).name(), is("a\"b"));
+    }
+
+    @Test
+    void shouldPrecompileQuotedEscapedForm() {
+        assertThat(JsonName.jsonName("a\"b\n").quoted(), is("\"a\\\"b\\n\""));
+    }
+
+    @Test
+    void shouldPrecompileUtf8Form() {
+        // Given:
+        final JsonName name = JsonName.jsonName("\u00E9\t\u20AC");
+
+        // Then:
+        assertThat(new String(name.utf8(), UTF_8), is("\"\u00E9\\t\u20AC\""));
+    }
+
+    @Test
+    void shouldImplementEqualsOnName() {
+        assertThat(JsonName.jsonName("a"), is(JsonName.jsonName(new StringBuilder("a"))));
+        assertThat(JsonName.jsonName("a").hashCode(), is(JsonName.jsonName("a").hashCode()));
+        assertThat(JsonName.jsonName("a"), is(not(JsonName.jsonName("b"))));
+    }
+
+    @Test
+    void shouldImplementToString() {
+        assertThat(JsonName.jsonName("a").toString(), is("\"a\""));
+    }
+}
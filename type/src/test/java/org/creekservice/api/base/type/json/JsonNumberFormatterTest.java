@@ -0,0 +1,234 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class JsonNumberFormatterTest {
+
+    private JsonNumberFormatter formatter;
+
+    @BeforeEach
+    void setUp() {
+        formatter = JsonNumberFormatter.create();
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            longs = {
+                0,
+                1,
+                -1,
+                9,
+                10,
+                -10,
+                99,
+                100,
+                123_456_789_012L,
+                -999_999_999_999_999_999L,
+                Long.MAX_VALUE,
+                Long.MIN_VALUE
+            })
+    void shouldFormatLongs(final long value) {
+        assertThat(format(value), is(Long.toString(value)));
+        assertThat(
+                formatter.format(value, new StringBuilder("x")).toString(),
+                is("x" + Long.toString(value)));
+    }
+
+    @Test
+    void shouldFormatLongAtOffset() {
+        // Given:
+        final byte[] target = new byte[4 + JsonNumberFormatter.MAX_LONG_LENGTH];
+
+        // When:
+        final int end = formatter.format(Long.MIN_VALUE, target, 4);
+
+        // Then:
+        assertThat(end, is(4 + JsonNumberFormatter.MAX_LONG_LENGTH));
+        assertThat(new String(target, 4, end - 4, US_ASCII), is(Long.toString(Long.MIN_VALUE)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0.0, 0.0",
+        "-0.0, -0.0",
+        "1, 1.0",
+        "-1, -1.0",
+        "0.1, 0.1",
+        "0.001, 0.001",
+        "0.0001, 1.0E-4",
+        "123.456, 123.456",
+        "9999999, 9999999.0",
+        "10000000, 1.0E7",
+        "12345678.5, 1.23456785E7",
+        "1e22, 1.0E22",
+        "0.000123, 1.23E-4",
+        "9007199254740993, 9.007199254740992E15",
+        "4.9e-324, 4.9E-324",
+        "1.7976931348623157e308, 1.7976931348623157E308",
+        "2.2250738585072014E-308, 2.2250738585072014E-308",
+        "0.30000000000000004, 0.30000000000000004",
+        "1.0E-100, 1.0E-100",
+        "-273.15, -273.15"
+    })
+    void shouldFormatDoubles(final double value, final String expected) {
+        assertThat(format(value), is(expected));
+        assertThat(formatter.format(value, new StringBuilder()).toString(), is(expected));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1e23, 1.0E23", "2e23, 2.0E23", "5e-324, 4.9E-324"})
+    void shouldFormatShortestDoublesOutsideFastPathOnJava19Plus(
+            final double value, final String expected) {
+        // Double.toString is only guaranteed to be the shortest round-trip on JDK 19+:
+        assumeTrue(Runtime.version().feature() >= 19);
+
+        assertThat(format(value), is(expected));
+    }
+
+    @Test
+    void shouldFormatShortDecimalsAsShortestRoundTrip() {
+        // Given:
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            // Up to 13 digits, no more than 22 decimal places, and below 1e22:
+            final BigDecimal decimal = randomDecimal(random, 13, -9, 22);
+            final double value = decimal.doubleValue();
+
+            // When:
+            final String formatted = format(value);
+
+            // Then:
+            assertThat(formatted, Double.parseDouble(formatted), is(value));
+            assertThat(
+                    decimal + " -> " + formatted,
+                    new BigDecimal(formatted).stripTrailingZeros().precision(),
+                    is(lessThanOrEqualTo(decimal.stripTrailingZeros().precision())));
+        }
+    }
+
+    @Test
+    void shouldFormatDoublesThatRoundTrip() {
+        // Given:
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            final double value = Double.longBitsToDouble(random.nextLong());
+            if (!Double.isFinite(value)) {
+                continue;
+            }
+
+            // When:
+            final String formatted = format(value);
+
+            // Then:
+            assertThat(formatted, Double.parseDouble(formatted), is(value));
+        }
+    }
+
+    @Test
+    void shouldMatchDoubleToStringOnJava19Plus() {
+        // Double.toString is only guaranteed to be the shortest round-trip on JDK 19+:
+        assumeTrue(Runtime.version().feature() >= 19);
+
+        // Given:
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            final double value = Double.longBitsToDouble(random.nextLong());
+            if (Double.isFinite(value)) {
+                // Then:
+                assertThat(format(value), is(Double.toString(value)));
+            }
+        }
+    }
+
+    @Test
+    void shouldMatchDoubleToStringForShortDecimalsOnJava19Plus() {
+        assumeTrue(Runtime.version().feature() >= 19);
+
+        // Given:
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            // Spans the edges of the range formatted without Double.toString:
+            final double value = randomDecimal(random, 16, -25, 25).doubleValue();
+
+            // Then:
+            assertThat(format(value), is(Double.toString(value)));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY})
+    void shouldThrowOnNonFiniteDoubles(final double value) {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> formatter.format(value, new byte[32], 0));
+
+        // Then:
+        assertThat(e.getMessage(), is("JSON does not support non-finite numbers: " + value));
+    }
+
+    @Test
+    void shouldFormatAtOffset() {
+        // Given:
+        final byte[] target = new byte[3 + JsonNumberFormatter.MAX_DOUBLE_LENGTH];
+
+        // When:
+        final int end = formatter.format(-1.25E-300, target, 3);
+
+        // Then:
+        assertThat(new String(target, 3, end - 3, US_ASCII), is("-1.25E-300"));
+    }
+
+    private static BigDecimal randomDecimal(
+            final Random random, final int maxDigits, final int minScale, final int maxScale) {
+        final long unscaled =
+                random.nextLong() % (long) Math.pow(10, 1 + random.nextInt(maxDigits));
+        return BigDecimal.valueOf(unscaled, minScale + random.nextInt(maxScale - minScale + 1));
+    }
+
+    private String format(final long value) {
+        final byte[] target = new byte[JsonNumberFormatter.MAX_LONG_LENGTH];
+        final int end = formatter.format(value, target, 0);
+        return new String(target, 0, end, US_ASCII);
+    }
+
+    private String format(final double value) {
+        final byte[] target = new byte[JsonNumberFormatter.MAX_DOUBLE_LENGTH];
+        final int end = formatter.format(value, target, 0);
+        return new String(target, 0, end, US_ASCII);
+    }
+}
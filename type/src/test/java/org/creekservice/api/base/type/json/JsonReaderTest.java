@@ -0,0 +1,630 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.creekservice.api.base.type.json.JsonReader.Token.BEGIN_ARRAY;
+import static org.creekservice.api.base.type.json.JsonReader.Token.BEGIN_OBJECT;
+import static org.creekservice.api.base.type.json.JsonReader.Token.END_ARRAY;
+import static org.creekservice.api.base.type.json.JsonReader.Token.END_DOCUMENT;
+import static org.creekservice.api.base.type.json.JsonReader.Token.END_OBJECT;
+import static org.creekservice.api.base.type.json.JsonReader.Token.FALSE;
+import static org.creekservice.api.base.type.json.JsonReader.Token.NAME;
+import static org.creekservice.api.base.type.json.JsonReader.Token.NULL;
+import static org.creekservice.api.base.type.json.JsonReader.Token.NUMBER;
+import static org.creekservice.api.base.type.json.JsonReader.Token.STRING;
+import static org.creekservice.api.base.type.json.JsonReader.Token.TRUE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.creekservice.api.base.type.RuntimeIOException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class JsonReaderTest {
+
+    @ParameterizedTest
+    @MethodSource("sources")
+    void shouldReadEmptyObject(final Source source) {
+        assertThat(
+                tokens(source.reader(" { } ")),
+                is(List.of(BEGIN_OBJECT, END_OBJECT, END_DOCUMENT)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sources")
+    void shouldReadEmptyArray(final Source source) {
+        assertThat(
+                tokens(source.reader("\t[\r\n]\n")),
+                is(List.of(BEGIN_ARRAY, END_ARRAY, END_DOCUMENT)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sources")
+    void shouldReadObjectWithValues(final Source source) {
+        // Given:
+        final JsonReader reader =
+                source.reader(
+                        "{\"s\": \"text\", \"l\": -1234567890123, \"d\": 1.5, \"t\": true,"
+                                + " \"f\": false, \"n\": null}");
+
+        // Then:
+        assertThat(reader.next(), is(BEGIN_OBJECT));
+        assertThat(reader.next(), is(NAME));
+        assertThat(reader.text().toString(), is("s"));
+        assertThat(reader.next(), is(STRING));
+        assertThat(reader.stringValue(), is("text"));
+        assertThat(reader.next(), is(NAME));
+        assertThat(reader.next(), is(NUMBER));
+        assertThat(reader.longValue(), is(-1234567890123L));
+        assertThat(reader.next(), is(NAME));
+        assertThat(reader.next(), is(NUMBER));
+        assertThat(reader.doubleValue(), is(1.5));
+        assertThat(reader.next(), is(NAME));
+        assertThat(reader.next(), is(TRUE));
+        assertThat(reader.booleanValue(), is(true));
+        assertThat(reader.next(), is(NAME));
+        assertThat(reader.next(), is(FALSE));
+        assertThat(reader.booleanValue(), is(false));
+        assertThat(reader.next(), is(NAME));
+        assertThat(reader.stringValue(), is("n"));
+        assertThat(reader.next(), is(NULL));
+        assertThat(reader.next(), is(END_OBJECT));
+        assertThat(reader.next(), is(END_DOCUMENT));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sources")
+    void shouldReadNestedStructures(final Source source) {
+        assertThat(
+                tokens(source.reader("[{\"a\":[1,[]]},{},[{}]]")),
+                is(
+                        List.of(
+                                BEGIN_ARRAY,
+                                BEGIN_OBJECT,
+                                NAME,
+                                BEGIN_ARRAY,
+                                NUMBER,
+                                BEGIN_ARRAY,
+                                END_ARRAY,
+                                END_ARRAY,
+                                END_OBJECT,
+                                BEGIN_OBJECT,
+                                END_OBJECT,
+                                BEGIN_ARRAY,
+                                BEGIN_OBJECT,
+                                END_OBJECT,
+                                END_ARRAY,
+                                END_ARRAY,
+                                END_DOCUMENT)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sources")
+    void shouldReadDeeplyNestedArrays(final Source source) {
+        // Given:
+        final JsonReader reader = source.reader("[".repeat(100) + "]".repeat(100));
+
+        // When:
+        final List<JsonReader.Token> tokens = tokens(reader);
+
+        // Then:
+        assertThat(tokens.size(), is(201));
+        assertThat(tokens.get(99), is(BEGIN_ARRAY));
+        assertThat(tokens.get(100), is(END_ARRAY));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sources")
+    void shouldReadTopLevelScalars(final Source source) {
+        assertThat(tokens(source.reader("\"x\"")), is(List.of(STRING, END_DOCUMENT)));
+        assertThat(tokens(source.reader(" 12 ")), is(List.of(NUMBER, END_DOCUMENT)));
+        assertThat(tokens(source.reader("null")), is(List.of(NULL, END_DOCUMENT)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sources")
+    void shouldUnescapeStrings(final Source source) {
+        // Given:
+        final JsonReader reader = source.reader("[\"a\\\"b\\\\c\\n\\u00e9\\ud83d\\ude00\"]");
+        reader.next();
+
+        // When:
+        reader.next();
+
+        // Then:
+        assertThat(reader.stringValue(), is("a\"b\\c\n\u00E9\uD83D\uDE00"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sources")
+    void shouldReadNonAsciiStrings(final Source source) {
+        // Given:
+        final JsonReader reader =
+                source.reader("{\"\u043A\u043B\u044E\u0447\":\"\u20AC \uD83D\uDE00 \u00FC\"}");
+        reader.next();
+
+        // Then:
+        assertThat(reader.next(), is(NAME));
+        assertThat(reader.stringValue(), is("\u043A\u043B\u044E\u0447"));
+        assertThat(reader.next(), is(STRING));
+        assertThat(reader.stringValue(), is("\u20AC \uD83D\uDE00 \u00FC"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sources")
+    void shouldReadEscapedNonAsciiStrings(final Source source) {
+        // Given:
+        final JsonReader reader = source.reader("\"\u00E9\\t\u20AC\"");
+
+        // When:
+        reader.next();
+
+        // Then:
+        assertThat(reader.stringValue(), is("\u00E9\t\u20AC"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sources")
+    void shouldExposeTextAsCharSequence(final Source source) {
+        // Given:
+        final JsonReader reader = source.reader("\"abcdef\"");
+        reader.next();
+
+        // When:
+        final CharSequence text = reader.text();
+
+        // Then:
+        assertThat(text.length(), is(6));
+        assertThat(text.charAt(1), is('b'));
+        assertThat(text.subSequence(1, 4).toString(), is("bcd"));
+        assertThat("abcdef".contentEquals(text), is(true));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sources")
+    void shouldExposeNumberText(final Source source) {
+        // Given:
+        final JsonReader reader = source.reader("-1.5e3");
+        reader.next();
+
+        // Then:
+        assertThat(reader.text().toString(), is("-1.5e3"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "0",
+                "-0",
+                "1",
+                "-1",
+                "123456789",
+                "9223372036854775807",
+                "-9223372036854775808"
+            })
+    void shouldReadLongs(final String json) {
+        // Given:
+        final JsonReader reader = JsonReader.jsonReader(json);
+        reader.next();
+
+        // Then:
+        assertThat(reader.longValue(), is(Long.parseLong(json)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"9223372036854775808", "-9223372036854775809", "12345678901234567890"})
+    void shouldThrowOnLongOverflow(final String json) {
+        // Given:
+        final JsonReader reader = JsonReader.jsonReader(json);
+        reader.next();
+
+        // When:
+        final Exception e = assertThrows(IllegalArgumentException.class, reader::longValue);
+
+        // Then:
+        assertThat(e.getMessage(), is("Number out of range for long: " + json));
+    }
+
+    @Test
+    void shouldThrowOnNonIntegralLong() {
+        // Given:
+        final JsonReader reader = JsonReader.jsonReader("1.0");
+        reader.next();
+
+        // When:
+        final Exception e = assertThrows(IllegalArgumentException.class, reader::longValue);
+
+        // Then:
+        assertThat(e.getMessage(), is("Number is not an integer: 1.0"));
+    }
+
+    @Test
+    void shouldReadInts() {
+        // Given:
+        final JsonReader reader = JsonReader.jsonReader("[-2147483648, 2147483648]");
+        reader.next();
+
+        // When:
+        reader.next();
+
+        // Then:
+        assertThat(reader.intValue(), is(Integer.MIN_VALUE));
+
+        // When:
+        reader.next();
+
+        // Then:
+        final Exception e = assertThrows(IllegalArgumentException.class, reader::intValue);
+        assertThat(e.getMessage(), is("Number out of range for int: 2147483648"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "0",
+                "-0",
+                "-0.0",
+                "1",
+                "1.5",
+                "-273.15",
+                "0.1",
+                "0.30000000000000004",
+                "3.141592653589793",
+                "1e10",
+                "1E-10",
+                "6.02214076e+23",
+                "1.7976931348623157e308",
+                "4.9e-324",
+                "1e400",
+                "123456789012345678901234567890",
+                "0.000000000000000000000000000001",
+                "9007199254740993",
+                "999999999999999",
+                "1e22",
+                "1e-22"
+            })
+    void shouldReadDoubles(final String json) {
+        // Given:
+        final JsonReader reader = JsonReader.jsonReader(json);
+        reader.next();
+
+        // Then:
+        assertThat(reader.doubleValue(), is(Double.parseDouble(json)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sources")
+    void shouldSkipValues(final Source source) {
+        // Given:
+        final JsonReader reader =
+                source.reader("{\"a\":{\"x\":[1,{\"y\":2}]},\"b\":[[]],\"c\":3,\"d\":4}");
+        reader.next();
+
+        // When:
+        reader.next();
+        reader.skipValue();
+        reader.next();
+        reader.skipValue();
+        reader.next();
+        reader.skipValue();
+
+        // Then:
+        assertThat(reader.next(), is(NAME));
+        assertThat(reader.stringValue(), is("d"));
+    }
+
+    @Test
+    void shouldThrowOnSkipValueWithNoValue() {
+        // Given:
+        final JsonReader reader = JsonReader.jsonReader("[]");
+        reader.next();
+
+        // When:
+        final Exception e = assertThrows(IllegalStateException.class, reader::skipValue);
+
+        // Then:
+        assertThat(e.getMessage(), is("No value to skip"));
+    }
+
+    @Test
+    void shouldThrowOnSkipValueAtName() {
+        // Given:
+        final JsonReader reader = JsonReader.jsonReader("{\"a\":1}");
+        reader.next();
+
+        // When:
+        final Exception e = assertThrows(IllegalStateException.class, reader::skipValue);
+
+        // Then:
+        assertThat(e.getMessage(), is("Expected a value, not a name"));
+    }
+
+    @Test
+    void shouldThrowOnAccessorForWrongToken() {
+        // Given:
+        final JsonReader reader = JsonReader.jsonReader("[true]");
+        reader.next();
+
+        // Then:
+        assertThrows(IllegalStateException.class, reader::text);
+        assertThrows(IllegalStateException.class, reader::longValue);
+        assertThrows(IllegalStateException.class, reader::doubleValue);
+        assertThrows(IllegalStateException.class, reader::booleanValue);
+    }
+
+    @Test
+    void shouldExposeCurrentToken() {
+        // Given:
+        final JsonReader reader = JsonReader.jsonReader("[]");
+
+        // Then:
+        assertThat(reader.token(), is((JsonReader.Token) null));
+
+        // When:
+        reader.next();
+
+        // Then:
+        assertThat(reader.token(), is(BEGIN_ARRAY));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "",
+                "{",
+                "[1,]",
+                "[1 2]",
+                "{\"a\" 1}",
+                "{\"a\":1,}",
+                "{1:2}",
+                "\"abc",
+                "\"a\nb\"",
+                "tru",
+                "nul",
+                "fals",
+                "trUe",
+                "01",
+                "-",
+                "1.",
+                "1e",
+                "1e+",
+                ".5",
+                "+1",
+                "[1]]",
+                "1 2",
+                "\"\\x\"",
+                "\"\\u12G4\"",
+                "\"\\u12\"",
+                "\"\\"
+            })
+    void shouldThrowOnInvalidJson(final String json) {
+        // Given:
+        final JsonReader reader = JsonReader.jsonReader(json);
+
+        // When:
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> {
+                    while (reader.next() != END_DOCUMENT) {
+                        if (reader.token() == STRING) {
+                            reader.text();
+                        }
+                    }
+                },
+                json);
+    }
+
+    @Test
+    void shouldIncludeIndexInErrorMessage() {
+        // Given:
+        final JsonReader reader = JsonReader.jsonReader("[1, 2 3]");
+        reader.next();
+        reader.next();
+        reader.next();
+
+        // When:
+        final Exception e = assertThrows(IllegalArgumentException.class, reader::next);
+
+        // Then:
+        assertThat(e.getMessage(), is("Invalid JSON at index 6: Expected ','"));
+    }
+
+    @Test
+    void shouldReplaceMalformedUtf8() {
+        // Given:
+        final JsonReader reader =
+                JsonReader.jsonReader(
+                        ByteBuffer.wrap(new byte[] {'"', 'a', (byte) 0xC3, 'b', (byte) 0xFF, '"'}));
+        reader.next();
+
+        // Then:
+        assertThat(reader.stringValue(), is("a\uFFFDb\uFFFD"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                // Overlong encodings of NUL, '/' and U+07FF:
+                "C0 80",
+                "E0 80 AF",
+                "F0 87 9F BF",
+                // Encoded surrogates:
+                "ED A0 80",
+                "ED BF BF",
+                // Beyond U+10FFFF:
+                "F4 90 80 80"
+            })
+    void shouldReplaceInvalidUtf8Sequences(final String hex) {
+        // Given:
+        final String[] parts = hex.split(" ");
+        final byte[] json = new byte[parts.length + 2];
+        json[0] = '"';
+        for (int i = 0; i < parts.length; i++) {
+            json[i + 1] = (byte) Integer.parseInt(parts[i], 16);
+        }
+        json[json.length - 1] = '"';
+        final JsonReader reader = JsonReader.jsonReader(ByteBuffer.wrap(json));
+        reader.next();
+
+        // Then:
+        assertThat(reader.stringValue(), is("\uFFFD"));
+    }
+
+    @Test
+    void shouldRejectInvalidEscapesInSkippedValues() {
+        // Given:
+        final JsonReader reader = JsonReader.jsonReader("{\"a\":[\"\\x\"],\"b\":1}");
+        reader.next();
+        reader.next();
+
+        // When:
+        final Exception e = assertThrows(IllegalArgumentException.class, reader::skipValue);
+
+        // Then:
+        assertThat(
+                e.getMessage(), is("Invalid JSON at index 6: Invalid escape sequence in string"));
+    }
+
+    @Test
+    void shouldReadBetweenBufferPositionAndLimit() {
+        // Given:
+        final ByteBuffer buffer = ByteBuffer.wrap("xx[\"abc\"]yy".getBytes(UTF_8));
+        buffer.position(2).limit(9);
+        final JsonReader reader = JsonReader.jsonReader(buffer);
+
+        // Then:
+        assertThat(tokens(reader), is(List.of(BEGIN_ARRAY, STRING, END_ARRAY, END_DOCUMENT)));
+        assertThat(buffer.position(), is(2));
+    }
+
+    @Test
+    void shouldWrapReaderIOException() {
+        // Given:
+        final Reader failing =
+                new Reader() {
+                    @Override
+                    public int read(final char[] buf, final int off, final int len)
+                            throws IOException {
+                        throw new IOException("boom");
+                    }
+
+                    @Override
+                    public void close() {}
+                };
+
+        // When:
+        final Exception e =
+                assertThrows(RuntimeIOException.class, () -> JsonReader.jsonReader(failing));
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("Failed to read JSON"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sources")
+    void shouldRoundTripWithJsonWriter(final Source source) {
+        // Given:
+        final StringBuilder json = new StringBuilder();
+        JsonWriter.jsonWriter(json)
+                .beginObject()
+                .name("k\"ey")
+                .value("v\u0001al\u00e9")
+                .name("n")
+                .value(-0.125)
+                .endObject();
+        final JsonReader reader = source.reader(json.toString());
+        reader.next();
+
+        // Then:
+        reader.next();
+        assertThat(reader.stringValue(), is("k\"ey"));
+        reader.next();
+        assertThat(reader.stringValue(), is("v\u0001al\u00e9"));
+        reader.next();
+        reader.next();
+        assertThat(reader.doubleValue(), is(-0.125));
+    }
+
+    public static Stream<Source> sources() {
+        return Stream.of(
+                new Source("CharSequence") {
+                    @Override
+                    JsonReader reader(final String json) {
+                        return JsonReader.jsonReader(new StringBuilder(json));
+                    }
+                },
+                new Source("Reader") {
+                    @Override
+                    JsonReader reader(final String json) {
+                        return JsonReader.jsonReader(new StringReader(json));
+                    }
+                },
+                new Source("HeapByteBuffer") {
+                    @Override
+                    JsonReader reader(final String json) {
+                        return JsonReader.jsonReader(ByteBuffer.wrap(json.getBytes(UTF_8)));
+                    }
+                },
+                new Source("DirectByteBuffer") {
+                    @Override
+                    JsonReader reader(final String json) {
+                        final byte[] bytes = json.getBytes(UTF_8);
+                        final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+                        buffer.put(bytes).flip();
+                        return JsonReader.jsonReader(buffer);
+                    }
+                });
+    }
+
+    private static List<JsonReader.Token> tokens(final JsonReader reader) {
+        final List<JsonReader.Token> tokens = new ArrayList<>();
+        JsonReader.Token token;
+        do {
+            token = reader.next();
+            tokens.add(token);
+        } while (token != END_DOCUMENT);
+        return tokens;
+    }
+
+    private abstract static class Source {
+
+        private final String name;
+
+        Source(final String name) {
+            this.name = name;
+        }
+
+        abstract JsonReader reader(String json);
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -17,15 +17,27 @@
 package org.creekservice.api.base.type.json;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import org.creekservice.api.base.type.RuntimeIOException;
 import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class JsonTest {
 
@@ -94,6 +106,396 @@ class JsonTest {
         assertEscaped("" + c, "" + c);
     }
 
+    @ParameterizedTest
+    @MethodSource("escapedChars")
+    void shouldEscapeCharAtAnyPositionInLongText(final char c) {
+        for (int pos = 0; pos < 300; pos++) {
+            // Given:
+            final StringBuilder input = new StringBuilder("x".repeat(300));
+            input.setCharAt(pos, c);
+
+            final String expected = input.substring(0, pos) + escaped(c) + input.substring(pos + 1);
+
+            // Then:
+            assertEscaped(input.toString(), expected);
+        }
+    }
+
+    @Test
+    void shouldEscapeToWriter() {
+        // Given:
+        final StringWriter writer = new StringWriter();
+
+        // When:
+        Json.escapeJson("a\"b\nc\u0001", writer);
+
+        // Then:
+        assertThat(writer.toString(), is("a\\\"b\\nc\\u0001"));
+    }
+
+    @Test
+    void shouldEscapeFromCharBuffer() {
+        // Given:
+        final CharBuffer source = CharBuffer.wrap("xxa\tbxx".toCharArray(), 2, 3);
+        final StringBuilder target = new StringBuilder();
+
+        // When:
+        Json.escapeJson(source, target);
+
+        // Then:
+        assertThat(target.toString(), is("a\\tb"));
+    }
+
+    @Test
+    void shouldEscapeRange() {
+        // Given:
+        final StringBuilder target = new StringBuilder("prefix:");
+
+        // When:
+        Json.escapeJson("\"a\\b\"", 1, 4, target);
+
+        // Then:
+        assertThat(target.toString(), is("prefix:a\\\\b"));
+    }
+
+    @Test
+    void shouldThrowOnInvalidRange() {
+        assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> Json.escapeJson("abc", 2, 4, new StringBuilder()));
+        assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> Json.escapeJson("abc", 2, 1, new StringBuilder()));
+    }
+
+    @Test
+    void shouldWrapIOExceptions() {
+        // Given:
+        final Writer writer =
+                new Writer() {
+                    @Override
+                    public void write(final char[] buf, final int off, final int len)
+                            throws IOException {
+                        throw new IOException("boom");
+                    }
+
+                    @Override
+                    public void flush() {}
+
+                    @Override
+                    public void close() {}
+                };
+
+        // When:
+        final Exception e =
+                assertThrows(RuntimeIOException.class, () -> Json.escapeJson("a\"b", writer));
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("Failed to write escaped JSON"));
+    }
+
+    @Test
+    void shouldEscapeNonAsciiInAsciiMode() {
+        assertAsciiEscaped("hello world", "hello world");
+        assertAsciiEscaped("caf\u00e9", "caf\\u00E9");
+        assertAsciiEscaped("\u20ac5", "\\u20AC5");
+        assertAsciiEscaped("\uFFFF", "\\uFFFF");
+        assertAsciiEscaped("\u0080\u00a0", "\\u0080\\u00A0");
+        assertAsciiEscaped("\u007f~", "\\u007F~");
+    }
+
+    @Test
+    void shouldEscapeSurrogatePairsInAsciiMode() {
+        assertAsciiEscaped("a\uD83D\uDE00b", "a\\uD83D\\uDE00b");
+    }
+
+    @Test
+    void shouldEscapeAsciiCharsInAsciiModeAsInNormalMode() {
+        assertAsciiEscaped("\"\\\t\n\r\b\f\u0001", "\\\"\\\\\\t\\n\\r\\b\\f\\u0001");
+    }
+
+    @ParameterizedTest
+    @MethodSource("escapedChars")
+    void shouldEscapeAsciiEscapedCharsInAsciiMode(final char c) {
+        assertAsciiEscaped("" + c, escaped(c));
+    }
+
+    @ParameterizedTest
+    @ValueSource(chars = {'\u007F', '\u0080', '\u00e9', '\u20ac', '\uD83D', '\uFFFF'})
+    void shouldEscapeNonAsciiCharAtAnyPositionInLongText(final char c) {
+        for (int pos = 0; pos < 300; pos++) {
+            // Given:
+            final StringBuilder input = new StringBuilder("x".repeat(300));
+            input.setCharAt(pos, c);
+
+            final String expected =
+                    input.substring(0, pos)
+                            + String.format("\\u%04X", (int) c)
+                            + input.substring(pos + 1);
+
+            // Then:
+            assertAsciiEscaped(input.toString(), expected);
+        }
+    }
+
+    @Test
+    void shouldEscapeRangeInAsciiMode() {
+        // Given:
+        final StringBuilder sb = new StringBuilder();
+
+        // When:
+        Json.escapeJsonAscii("\u00E9\"\u00FC", 1, 3, sb);
+
+        // Then:
+        assertThat(sb.toString(), is("\\\"\\u00FC"));
+    }
+
+    @Test
+    void shouldReturnSameInstanceIfNothingToEscape() {
+        // Given:
+        final String input = "nothing to escape";
+
+        // When:
+        final String result = Json.escapeToString(input);
+
+        // Then:
+        assertThat(result, is(sameInstance(input)));
+    }
+
+    @Test
+    void shouldGetEscapedLengthOfEmptyText() {
+        assertThat(Json.escapedLength(""), is(0));
+        assertThat(Json.escapeToString(new StringBuilder()), is(""));
+    }
+
+    @Test
+    void shouldBulkEscapeEmptyBatch() {
+        // Given:
+        final int[] offsets = {-1};
+
+        // When:
+        final char[] result = Json.escapeJsonBulk(List.of(), offsets);
+
+        // Then:
+        assertThat(result.length, is(0));
+        assertThat(offsets[0], is(0));
+    }
+
+    @Test
+    void shouldBulkEscapeIntoSlices() {
+        // Given:
+        final List<CharSequence> sources =
+                List.of("a\"b", "", new StringBuilder("tab\t"), "plain", "\u0001");
+        final int[] offsets = new int[sources.size() + 1];
+
+        // When:
+        final char[] result = Json.escapeJsonBulk(sources, offsets);
+
+        // Then:
+        assertThat(offsets, is(new int[] {0, 4, 4, 9, 14, 20}));
+        assertThat(new String(result), is("a\\\"btab\\tplain\\u0001"));
+    }
+
+    @Test
+    void shouldBulkEscapeInParallel() {
+        // Given:
+        final List<String> sources =
+                IntStream.range(0, 10_000)
+                        .mapToObj(i -> i % 3 == 0 ? "v\"" + i : "value-" + i)
+                        .collect(Collectors.toList());
+        final int[] offsets = new int[sources.size() + 1];
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        // When:
+        final char[] result;
+        try {
+            result = Json.escapeJsonBulk(sources, offsets, pool, 16);
+        } finally {
+            pool.shutdown();
+        }
+
+        // Then:
+        for (int i = 0; i < sources.size(); i++) {
+            assertThat(
+                    new String(result, offsets[i], offsets[i + 1] - offsets[i]),
+                    is(Json.escapeToString(sources.get(i))));
+        }
+        assertThat(offsets[sources.size()], is(result.length));
+    }
+
+    @Test
+    void shouldBulkEscapeSameInParallelAsSequentially() {
+        // Given:
+        final List<String> sources =
+                IntStream.range(0, 5_000)
+                        .mapToObj(i -> "\t".repeat(i % 7) + "\u00E9" + i)
+                        .collect(Collectors.toList());
+        final int[] sequentialOffsets = new int[sources.size() + 1];
+        final int[] parallelOffsets = new int[sources.size() + 1];
+
+        // When:
+        final char[] sequential =
+                Json.escapeJsonBulk(
+                        sources, sequentialOffsets, ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+        final char[] parallel =
+                Json.escapeJsonBulk(sources, parallelOffsets, ForkJoinPool.commonPool(), 1);
+
+        // Then:
+        assertThat(parallel, is(sequential));
+        assertThat(parallelOffsets, is(sequentialOffsets));
+    }
+
+    @Test
+    void shouldThrowOnBulkEscapeIfOffsetsTooShort() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> Json.escapeJsonBulk(List.of("a", "b"), new int[2]));
+
+        // Then:
+        assertThat(e.getMessage(), is("offsets must have at least 3 elements, but had 2"));
+    }
+
+    @Test
+    void shouldThrowOnBulkEscapeIfThresholdNotPositive() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () ->
+                                Json.escapeJsonBulk(
+                                        List.of("a"), new int[2], ForkJoinPool.commonPool(), 0));
+
+        // Then:
+        assertThat(e.getMessage(), is("parallelThreshold must be positive, but was 0"));
+    }
+
+    @Test
+    void shouldReturnSameInstanceIfNothingToUnescape() {
+        // Given:
+        final String input = "nothing \"to\" unescape";
+
+        // When:
+        final String result = Json.unescapeJson(input);
+
+        // Then:
+        assertThat(result, is(sameInstance(input)));
+    }
+
+    @Test
+    void shouldUnescapeShortEscapes() {
+        assertThat(
+                Json.unescapeJson("a\\\"b\\\\c\\/d\\te\\nf\\rg\\bh\\fi"),
+                is("a\"b\\c/d\te\nf\rg\bh\fi"));
+    }
+
+    @Test
+    void shouldUnescapeUnicodeEscapes() {
+        assertThat(Json.unescapeJson("\\u0041\\u00e9\\u20AC\\u0000"), is("A\u00E9\u20AC\u0000"));
+    }
+
+    @Test
+    void shouldUnescapeSurrogatePairs() {
+        assertThat(Json.unescapeJson("smile: \\uD83D\\uDE00!"), is("smile: \uD83D\uDE00!"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("escapedChars")
+    void shouldRoundTripEscapedChars(final char c) {
+        // Given:
+        final String input = "a" + c + "b" + c;
+        final StringBuilder escaped = new StringBuilder(input);
+        Json.escapeJson(escaped, 0);
+
+        // When:
+        final String result = Json.unescapeJson(escaped.toString());
+
+        // Then:
+        assertThat(result, is(input));
+    }
+
+    @Test
+    void shouldUnescapeRangeToAppendable() {
+        // Given:
+        final StringWriter writer = new StringWriter();
+
+        // When:
+        Json.unescapeJson(CharBuffer.wrap("\"a\\tb\""), 1, 5, writer);
+
+        // Then:
+        assertThat(writer.toString(), is("a\tb"));
+    }
+
+    @Test
+    void shouldThrowOnInvalidEscape() {
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> Json.unescapeJson("ab\\xcd"));
+
+        // Then:
+        assertThat(e.getMessage(), is("Invalid escape sequence at index 2: \\xcd"));
+    }
+
+    @Test
+    void shouldThrowOnIncompleteEscape() {
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> Json.unescapeJson("ab\\"));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("Incomplete escape sequence at index 2"));
+    }
+
+    @Test
+    void shouldThrowOnIncompleteUnicodeEscape() {
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> Json.unescapeJson("ab\\u00"));
+
+        // Then:
+        assertThat(e.getMessage(), is("Incomplete unicode escape sequence at index 2: \\u00"));
+    }
+
+    @Test
+    void shouldThrowOnInvalidUnicodeEscape() {
+        assertThrows(IllegalArgumentException.class, () -> Json.unescapeJson("\\u00G0"));
+        // Non-ASCII digits:
+        assertThrows(IllegalArgumentException.class, () -> Json.unescapeJson("\\u00\u0663\u0663"));
+    }
+
+    @Test
+    void shouldWrapIOExceptionsOnUnescape() {
+        // Given:
+        final Appendable appendable =
+                new Appendable() {
+                    @Override
+                    public Appendable append(final CharSequence csq) throws IOException {
+                        throw new IOException("boom");
+                    }
+
+                    @Override
+                    public Appendable append(final CharSequence csq, final int start, final int end)
+                            throws IOException {
+                        throw new IOException("boom");
+                    }
+
+                    @Override
+                    public Appendable append(final char c) throws IOException {
+                        throw new IOException("boom");
+                    }
+                };
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        RuntimeIOException.class,
+                        () -> Json.unescapeJson("a\\tb", 0, 4, appendable));
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("Failed to write unescaped JSON"));
+    }
+
     public static Stream<Character> nonEscapedChars() {
         // ISO Control chars are:
         //     (codePoint >= 0x0000 && codePoint <= 0x001F) ||
@@ -106,6 +508,12 @@ class JsonTest {
                 .map(i -> (char) i.intValue());
     }
 
+    public static Stream<Character> escapedChars() {
+        return IntStream.range(Character.MIN_VALUE, Character.MAX_VALUE)
+                .filter(c -> !notEscaped(c))
+                .mapToObj(i -> (Character) (char) i);
+    }
+
     public static Stream<Character> isoControlChars() {
         return IntStream.range(Character.MIN_VALUE, Character.MAX_VALUE)
                 .filter(Character::isISOControl)
@@ -113,6 +521,27 @@ class JsonTest {
                 .mapToObj(i -> (Character) (char) i);
     }
 
+    private static String escaped(final char c) {
+        switch (c) {
+            case '"':
+                return "\\\"";
+            case '\\':
+                return "\\\\";
+            case '\t':
+                return "\\t";
+            case '\n':
+                return "\\n";
+            case '\r':
+                return "\\r";
+            case '\b':
+                return "\\b";
+            case '\f':
+                return "\\f";
+            default:
+                return String.format("\\u%04X", (int) c);
+        }
+    }
+
     private static boolean notEscaped(final int c) {
         return notExplicitlyEscaped(c) && !Character.isISOControl(c);
     }
@@ -135,13 +564,42 @@ class JsonTest {
     private void assertEscaped(final String input, final String expected) {
         assertEscaped(new StringBuilder(), input, is(expected));
         assertEscaped(new StringBuilder(input), input, is(input + expected));
+
+        assertThat(Json.escapedLength(input), is(expected.length()));
+        assertThat(Json.escapeToString(input), is(expected));
+        assertThat(Json.escapeToString(new StringBuilder(input)), is(expected));
+        assertThat(Json.escapeToString(CharBuffer.wrap(input)), is(expected));
+    }
+
+    private void assertAsciiEscaped(final String input, final String expected) {
+        final StringBuilder inPlace = new StringBuilder("\u00E9").append(input);
+        Json.escapeJsonAscii(inPlace, 1);
+        assertThat(inPlace.toString(), is("\u00E9" + expected));
+
+        final StringBuilder streamed = new StringBuilder();
+        Json.escapeJsonAscii(input, streamed);
+        assertThat(streamed.toString(), is(expected));
+
+        final StringWriter writer = new StringWriter();
+        Json.escapeJsonAscii(input, writer);
+        assertThat(writer.toString(), is(expected));
     }
 
     private void assertEscaped(
             final StringBuilder sb, final String input, final Matcher<String> matcher) {
+        final String prefix = sb.toString();
         final int startPos = sb.length();
         sb.append(input);
         Json.escapeJson(sb, startPos);
         assertThat(sb.toString(), matcher);
+
+        final StringBuilder streamed = new StringBuilder(prefix);
+        Json.escapeJson(input, streamed);
+        assertThat(streamed.toString(), matcher);
+
+        final StringWriter writer = new StringWriter();
+        writer.write(prefix);
+        Json.escapeJson(input, writer);
+        assertThat(writer.toString(), matcher);
     }
 }
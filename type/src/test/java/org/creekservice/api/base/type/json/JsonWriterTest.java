@@ -0,0 +1,398 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.creekservice.api.base.type.RuntimeIOException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class JsonWriterTest {
+
+    @ParameterizedTest
+    @MethodSource("targets")
+    void shouldWriteEmptyObject(final Target target) {
+        assertThat(target.write(w -> w.beginObject().endObject()), is("{}"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("targets")
+    void shouldWriteEmptyArray(final Target target) {
+        assertThat(target.write(w -> w.beginArray().endArray()), is("[]"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("targets")
+    void shouldWriteObjectWithValues(final Target target) {
+        // When:
+        final String json =
+                target.write(
+                        w ->
+                                w.beginObject()
+                                        .name("s")
+                                        .value("text")
+                                        .name("l")
+                                        .value(-1234567890123L)
+                                        .name("d")
+                                        .value(1.5)
+                                        .name("t")
+                                        .value(true)
+                                        .name("f")
+                                        .value(false)
+                                        .name("n")
+                                        .nullValue()
+                                        .name("ns")
+                                        .value((CharSequence) null)
+                                        .endObject());
+
+        // Then:
+        assertThat(
+                json,
+                is(
+                        "{\"s\":\"text\",\"l\":-1234567890123,\"d\":1.5,\"t\":true,"
+                                + "\"f\":false,\"n\":null,\"ns\":null}"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("targets")
+    void shouldWriteNestedStructures(final Target target) {
+        // When:
+        final String json =
+                target.write(
+                        w ->
+                                w.beginArray()
+                                        .beginObject()
+                                        .name("a")
+                                        .beginArray()
+                                        .value(1)
+                                        .value(2)
+                                        .beginArray()
+                                        .endArray()
+                                        .endArray()
+                                        .name("o")
+                                        .beginObject()
+                                        .endObject()
+                                        .endObject()
+                                        .value("x")
+                                        .endArray());
+
+        // Then:
+        assertThat(json, is("[{\"a\":[1,2,[]],\"o\":{}},\"x\"]"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("targets")
+    void shouldHandleDeepNesting(final Target target) {
+        // When:
+        final String json =
+                target.write(
+                        w -> {
+                            for (int i = 0; i < 100; i++) {
+                                w.beginArray();
+                            }
+                            for (int i = 0; i < 100; i++) {
+                                w.endArray();
+                            }
+                            return w;
+                        });
+
+        // Then:
+        assertThat(json, is("[".repeat(100) + "]".repeat(100)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("targets")
+    void shouldEscapeNamesAndValues(final Target target) {
+        // When:
+        final String json =
+                target.write(
+                        w ->
+                                w.beginObject()
+                                        .name("a\"b")
+                                        .value("c\nd\uD83D\uDE00\u00E9")
+                                        .endObject());
+
+        // Then:
+        assertThat(json, is("{\"a\\\"b\":\"c\\nd\uD83D\uDE00\u00E9\"}"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("targets")
+    void shouldWriteTopLevelScalar(final Target target) {
+        assertThat(target.write(w -> w.value(12)), is("12"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("targets")
+    void shouldWriteStringsLongerThanBuffer(final Target target) {
+        // Given:
+        final String value = "\"\u00E9\uD83D\uDE00x".repeat(1000);
+
+        // When:
+        final String json = target.write(w -> w.value(value));
+
+        // Then:
+        assertThat(json, is("\"" + value.replace("\"", "\\\"") + "\""));
+    }
+
+    @Test
+    void shouldResetForNextDocument() {
+        // Given:
+        final StringBuilder sb = new StringBuilder();
+        final JsonWriter writer = JsonWriter.jsonWriter(sb);
+        writer.beginObject().endObject();
+
+        // When:
+        writer.reset().beginArray().endArray();
+
+        // Then:
+        assertThat(sb.toString(), is("{}[]"));
+    }
+
+    @Test
+    void shouldDiscardBufferedOutputOnReset() {
+        // Given:
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final JsonWriter writer = JsonWriter.jsonWriter(out);
+        writer.beginObject().name("secret").value("leaked");
+
+        // When:
+        writer.reset().value(1).flush();
+
+        // Then:
+        assertThat(out.toString(StandardCharsets.UTF_8), is("1"));
+    }
+
+    @Test
+    void shouldThrowOnNonFiniteDoubles() {
+        final JsonWriter writer = JsonWriter.jsonWriter(new StringBuilder());
+        assertThrows(IllegalArgumentException.class, () -> writer.value(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> writer.value(Double.POSITIVE_INFINITY));
+        assertThrows(IllegalArgumentException.class, () -> writer.value(Double.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    void shouldThrowOnSecondTopLevelValue() {
+        // Given:
+        final JsonWriter writer = JsonWriter.jsonWriter(new StringBuilder()).value(1);
+
+        // When:
+        final Exception e = assertThrows(IllegalStateException.class, () -> writer.value(2));
+
+        // Then:
+        assertThat(e.getMessage(), is("JSON document already has a top-level value"));
+    }
+
+    @Test
+    void shouldThrowOnValueWithoutName() {
+        // Given:
+        final JsonWriter writer = JsonWriter.jsonWriter(new StringBuilder()).beginObject();
+
+        // When:
+        final Exception e = assertThrows(IllegalStateException.class, () -> writer.value(2));
+
+        // Then:
+        assertThat(e.getMessage(), is("Expected a name, not a value"));
+    }
+
+    @Test
+    void shouldThrowOnNameOutsideObject() {
+        final JsonWriter writer = JsonWriter.jsonWriter(new StringBuilder());
+        assertThrows(IllegalStateException.class, () -> writer.name("a"));
+        writer.beginArray();
+        assertThrows(IllegalStateException.class, () -> writer.name("a"));
+    }
+
+    @Test
+    void shouldThrowOnNameAfterName() {
+        final JsonWriter writer =
+                JsonWriter.jsonWriter(new StringBuilder()).beginObject().name("a");
+        assertThrows(IllegalStateException.class, () -> writer.name("b"));
+    }
+
+    @Test
+    void shouldThrowOnMismatchedEnd() {
+        final JsonWriter writer = JsonWriter.jsonWriter(new StringBuilder());
+        assertThrows(IllegalStateException.class, writer::endObject);
+        assertThrows(IllegalStateException.class, writer::endArray);
+        writer.beginObject();
+        assertThrows(IllegalStateException.class, writer::endArray);
+        writer.name("a");
+        assertThrows(IllegalStateException.class, writer::endObject);
+    }
+
+    @Test
+    void shouldThrowOnTinyBuffer() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> JsonWriter.jsonWriter(new ByteArrayOutputStream(), 5));
+    }
+
+    @Test
+    void shouldNotWriteToStreamUntilBufferFullOrFlushed() {
+        // Given:
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final JsonWriter writer = JsonWriter.jsonWriter(out);
+
+        // When:
+        writer.value("text");
+
+        // Then:
+        assertThat(out.size(), is(0));
+
+        // When:
+        writer.flush();
+
+        // Then:
+        assertThat(out.toString(UTF_8), is("\"text\""));
+    }
+
+    @Test
+    void shouldWrapIOExceptions() {
+        // Given:
+        final OutputStream out =
+                new OutputStream() {
+                    @Override
+                    public void write(final int b) throws IOException {
+                        throw new IOException("boom");
+                    }
+                };
+        final JsonWriter writer = JsonWriter.jsonWriter(out).value(1);
+
+        // When:
+        final Exception e = assertThrows(RuntimeIOException.class, writer::flush);
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("Failed to flush JSON"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("targets")
+    void shouldWritePrecompiledNamesAndValues(final Target target) {
+        // Given:
+        final JsonName name = JsonName.jsonName("k\"\u00E9");
+        final JsonName value = JsonName.jsonName("ENUM_\u20AC");
+
+        // When:
+        final String json =
+                target.write(
+                        w ->
+                                w.beginObject()
+                                        .name(name)
+                                        .value(value)
+                                        .name("other")
+                                        .value((JsonName) null)
+                                        .name(name)
+                                        .beginArray()
+                                        .value(value)
+                                        .value(value)
+                                        .endArray()
+                                        .endObject());
+
+        // Then:
+        assertThat(
+                json,
+                is(
+                        "{\"k\\\"\u00E9\":\"ENUM_\u20AC\",\"other\":null,"
+                                + "\"k\\\"\u00E9\":[\"ENUM_\u20AC\",\"ENUM_\u20AC\"]}"));
+    }
+
+    @Test
+    void shouldWritePrecompiledNameLargerThanBuffer() {
+        // Given:
+        final JsonName name = JsonName.jsonName("x".repeat(40));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final JsonWriter writer = JsonWriter.jsonWriter(out, 16);
+
+        // When:
+        writer.beginObject().name(name).value(1).endObject().flush();
+
+        // Then:
+        assertThat(out.toString(UTF_8), is("{\"" + "x".repeat(40) + "\":1}"));
+    }
+
+    @Test
+    void shouldThrowOnPrecompiledNameOutsideObject() {
+        // Given:
+        final JsonWriter writer = JsonWriter.jsonWriter(new StringBuilder()).beginArray();
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalStateException.class, () -> writer.name(JsonName.jsonName("a")));
+
+        // Then:
+        assertThat(e.getMessage(), is("Not in an object, or a value is expected"));
+    }
+
+    public static Stream<Target> targets() {
+        return Stream.of(
+                new Target("StringBuilder") {
+                    @Override
+                    String write(final Function<JsonWriter, JsonWriter> writes) {
+                        final StringBuilder sb = new StringBuilder();
+                        writes.apply(JsonWriter.jsonWriter(sb)).flush();
+                        return sb.toString();
+                    }
+                },
+                new Target("Writer") {
+                    @Override
+                    String write(final Function<JsonWriter, JsonWriter> writes) {
+                        final StringWriter writer = new StringWriter();
+                        writes.apply(JsonWriter.jsonWriter(writer)).flush();
+                        return writer.toString();
+                    }
+                },
+                new Target("OutputStream") {
+                    @Override
+                    String write(final Function<JsonWriter, JsonWriter> writes) {
+                        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        writes.apply(JsonWriter.jsonWriter(out, 16)).flush();
+                        return out.toString(UTF_8);
+                    }
+                });
+    }
+
+    private abstract static class Target {
+
+        private final String name;
+
+        Target(final String name) {
+            this.name = name;
+        }
+
+        abstract String write(Function<JsonWriter, JsonWriter> writes);
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,401 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.creekservice.api.base.type.RuntimeIOException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class NdjsonWriterTest {
+
+    private static final Duration LONG_LATENCY = Duration.ofHours(1);
+
+    private final RecordingChannel channel = new RecordingChannel();
+    private NdjsonWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    @Test
+    void shouldBufferRecordsUntilFlushed() {
+        // Given:
+        writer = NdjsonWriter.ndjsonWriter(channel, 1024, LONG_LATENCY);
+
+        // When:
+        writer.write(w -> w.beginObject().name("a").value(1).endObject());
+        writer.write(w -> w.value("x\"y"));
+
+        // Then:
+        assertThat(channel.text(), is(""));
+
+        // When:
+        writer.flush();
+
+        // Then:
+        assertThat(channel.text(), is("{\"a\":1}\n\"x\\\"y\"\n"));
+    }
+
+    @Test
+    void shouldWriteWhenBufferFills() {
+        // Given:
+        writer = NdjsonWriter.ndjsonWriter(channel, 16, LONG_LATENCY);
+
+        // When:
+        writer.write(w -> w.value("0123456789"));
+        writer.write(w -> w.value("abcdefghij"));
+
+        // Then:
+        assertThat(channel.text(), is("\"0123456789\"\n"));
+    }
+
+    @Test
+    void shouldWriteOversizedRecordsDirectly() {
+        // Given:
+        writer = NdjsonWriter.ndjsonWriter(channel, 8, LONG_LATENCY);
+        writer.write(w -> w.value(1));
+
+        // When:
+        writer.write(w -> w.value("x".repeat(20)));
+
+        // Then:
+        assertThat(channel.text(), is("1\n\"" + "x".repeat(20) + "\"\n"));
+    }
+
+    @Test
+    void shouldWriteAfterMaxLatency() throws Exception {
+        // Given:
+        writer = NdjsonWriter.ndjsonWriter(channel, 1024, Duration.ofMillis(10));
+
+        // When:
+        writer.write(w -> w.value(true));
+
+        // Then:
+        final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (channel.text().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(channel.text(), is("true\n"));
+    }
+
+    @Test
+    void shouldSyncToFile(@TempDir final Path dir) throws Exception {
+        // Given:
+        final Path file = dir.resolve("audit.ndjson");
+        try (FileChannel fileChannel =
+                FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            writer = NdjsonWriter.ndjsonWriter(fileChannel, 1024, LONG_LATENCY);
+            writer.write(w -> w.beginArray().value(1.5).nullValue().endArray());
+
+            // When:
+            writer.sync();
+
+            // Then:
+            assertThat(Files.readString(file), is("[1.5,null]\n"));
+        }
+    }
+
+    @Test
+    void shouldShareWritesBetweenConcurrentSyncs() throws Exception {
+        // Given:
+        writer = NdjsonWriter.ndjsonWriter(channel, 64 * 1024, LONG_LATENCY);
+        final int threads = 8;
+        final int recordsPerThread = 200;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            // When:
+            for (int t = 0; t < threads; t++) {
+                final int thread = t;
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    start.await();
+                                    for (int i = 0; i < recordsPerThread; i++) {
+                                        final long id = thread * 1000L + i;
+                                        writer.write(w -> w.value(id));
+                                        writer.sync();
+                                    }
+                                    return null;
+                                }));
+            }
+            start.countDown();
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then:
+        final List<String> expected = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < recordsPerThread; i++) {
+                expected.add(Long.toString(t * 1000L + i));
+            }
+        }
+        assertThat(channel.lines(), containsInAnyOrder(expected.toArray()));
+        assertThat(channel.writes.get(), is(lessThan(threads * recordsPerThread + 1)));
+    }
+
+    @Test
+    void shouldNotWriteOnSyncIfNothingNew() {
+        // Given:
+        writer = NdjsonWriter.ndjsonWriter(channel, 1024, LONG_LATENCY);
+        writer.write(w -> w.value(1));
+        writer.sync();
+        final int writes = channel.writes.get();
+
+        // When:
+        writer.sync();
+
+        // Then:
+        assertThat(channel.writes.get(), is(writes));
+    }
+
+    @Test
+    void shouldSyncOnClose() {
+        // Given:
+        writer = NdjsonWriter.ndjsonWriter(channel, 1024, LONG_LATENCY);
+        writer.write(w -> w.value(1));
+
+        // When:
+        writer.close();
+
+        // Then:
+        assertThat(channel.text(), is("1\n"));
+        assertThat(channel.isOpen(), is(true));
+    }
+
+    @Test
+    void shouldThrowOnWriteAfterClose() {
+        // Given:
+        writer = NdjsonWriter.ndjsonWriter(channel, 1024, LONG_LATENCY);
+        writer.close();
+
+        // When:
+        final Exception e =
+                assertThrows(IllegalStateException.class, () -> writer.write(w -> w.value(1)));
+
+        // Then:
+        assertThat(e.getMessage(), is("NDJSON writer is closed"));
+    }
+
+    @Test
+    void shouldWriteOrRejectEveryRecordWrittenConcurrentlyWithClose() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int run = 0; run < 100; run++) {
+                // Given:
+                final RecordingChannel recording = new RecordingChannel();
+                writer = NdjsonWriter.ndjsonWriter(recording, 1024, LONG_LATENCY);
+                final CountDownLatch started = new CountDownLatch(4);
+                final List<Future<Integer>> producers = new ArrayList<>();
+                for (int p = 0; p < 4; p++) {
+                    producers.add(
+                            executor.submit(
+                                    () -> {
+                                        int written = 0;
+                                        started.countDown();
+                                        try {
+                                            while (true) {
+                                                writer.write(w -> w.value(1));
+                                                written++;
+                                            }
+                                        } catch (final IllegalStateException e) {
+                                            return written;
+                                        }
+                                    }));
+                }
+                started.await();
+
+                // When:
+                writer.close();
+
+                // Then:
+                int written = 0;
+                for (final Future<Integer> producer : producers) {
+                    written += producer.get();
+                }
+                assertThat(recording.text().length(), is(written * 2));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldWrapIOExceptions() {
+        // Given:
+        channel.fail = true;
+        writer = NdjsonWriter.ndjsonWriter(channel, 1024, LONG_LATENCY);
+        writer.write(w -> w.value(1));
+
+        // When:
+        final Exception e = assertThrows(RuntimeIOException.class, writer::flush);
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("Failed to write NDJSON"));
+        assertThrows(RuntimeIOException.class, writer::close);
+        writer = null;
+    }
+
+    @Test
+    void shouldRethrowBackgroundFailureToProducers() throws Exception {
+        // Given:
+        channel.fail = true;
+        writer = NdjsonWriter.ndjsonWriter(channel, 1024, Duration.ofMillis(1));
+        writer.write(w -> w.value(1));
+
+        // When:
+        final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        final Exception e =
+                assertThrows(
+                        RuntimeIOException.class,
+                        () -> {
+                            // Background failure is only recorded after the failed attempt:
+                            while (System.nanoTime() < deadline) {
+                                writer.write(w -> w.value(2));
+                                Thread.sleep(5);
+                            }
+                        });
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("NDJSON writer previously failed"));
+        assertThrows(RuntimeIOException.class, writer::close);
+        writer = null;
+    }
+
+    @Test
+    void shouldNotLeakPartialRecordIfCallbackThrows() {
+        // Given:
+        writer = NdjsonWriter.ndjsonWriter(channel, 1024, LONG_LATENCY);
+        final IllegalArgumentException cause = new IllegalArgumentException("Boom");
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () ->
+                                writer.write(
+                                        w -> {
+                                            w.beginObject().name("secret").value("leaked");
+                                            throw cause;
+                                        }));
+        writer.write(w -> w.beginObject().name("ok").value(1).endObject());
+        writer.flush();
+
+        // Then:
+        assertThat(e, is(sameInstance(cause)));
+        assertThat(channel.text(), is("{\"ok\":1}\n"));
+    }
+
+    @Test
+    void shouldRejectIncompleteRecords() {
+        // Given:
+        writer = NdjsonWriter.ndjsonWriter(channel, 1024, LONG_LATENCY);
+
+        // Then:
+        assertThrows(IllegalStateException.class, () -> writer.write(JsonWriter::beginObject));
+        assertThrows(IllegalStateException.class, () -> writer.write(w -> {}));
+
+        // When:
+        writer.write(w -> w.value(1));
+        writer.flush();
+
+        // Then:
+        assertThat(channel.text(), is("1\n"));
+    }
+
+    @Test
+    void shouldThrowOnInvalidParams() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> NdjsonWriter.ndjsonWriter(channel, 0, LONG_LATENCY));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> NdjsonWriter.ndjsonWriter(channel, 1024, Duration.ZERO));
+    }
+
+    private static final class RecordingChannel implements WritableByteChannel {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final AtomicInteger writes = new AtomicInteger();
+        volatile boolean fail;
+
+        @Override
+        public synchronized int write(final ByteBuffer src) throws IOException {
+            if (fail) {
+                throw new IOException("boom");
+            }
+            writes.incrementAndGet();
+            final int length = src.remaining();
+            final byte[] bytes = new byte[length];
+            src.get(bytes);
+            out.write(bytes);
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {}
+
+        synchronized String text() {
+            return out.toString(UTF_8);
+        }
+
+        List<String> lines() {
+            return Arrays.asList(text().split("\n"));
+        }
+    }
+}
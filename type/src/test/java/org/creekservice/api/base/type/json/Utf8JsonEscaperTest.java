@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class Utf8JsonEscaperTest {
+
+    private Utf8JsonEscaper escaper;
+
+    @BeforeEach
+    void setUp() {
+        escaper = Utf8JsonEscaper.create();
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void shouldEscapeToByteArray(final String input) {
+        // Given:
+        final byte[] target = new byte[input.length() * Utf8JsonEscaper.MAX_BYTES_PER_CHAR + 3];
+
+        // When:
+        final boolean complete = escaper.escape(input, target, 3);
+
+        // Then:
+        assertThat(complete, is(true));
+        assertThat(escaper.sourcePosition(), is(input.length()));
+        assertThat(Arrays.copyOfRange(target, 3, 3 + escaper.bytesWritten()), is(expected(input)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void shouldEscapeToHeapBuffer(final String input) {
+        // Given:
+        final ByteBuffer target = ByteBuffer.allocate(input.length() * 6 + 10);
+        target.position(2);
+
+        // When:
+        final boolean complete = escaper.escape(input, target.slice().position(1));
+
+        // Then:
+        assertThat(complete, is(true));
+        assertThat(bytes(target, 3, escaper.bytesWritten()), is(expected(input)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void shouldEscapeToDirectBuffer(final String input) {
+        // Given:
+        final ByteBuffer target = ByteBuffer.allocateDirect(input.length() * 6 + 2);
+        target.position(2);
+
+        // When:
+        final boolean complete = escaper.escape(input, target);
+
+        // Then:
+        assertThat(complete, is(true));
+        assertThat(target.position(), is(2 + escaper.bytesWritten()));
+        assertThat(bytes(target, 2, escaper.bytesWritten()), is(expected(input)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void shouldResumeOnOverflowOfByteArray(final String input) {
+        // Given:
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final byte[] target = new byte[Utf8JsonEscaper.MAX_BYTES_PER_CHAR];
+
+        // When:
+        int start = 0;
+        boolean complete = false;
+        while (!complete) {
+            complete = escaper.escape(input, start, input.length(), target, 0, target.length);
+            output.write(target, 0, escaper.bytesWritten());
+            start = escaper.sourcePosition();
+        }
+
+        // Then:
+        assertThat(output.toByteArray(), is(expected(input)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void shouldResumeOnOverflowOfDirectBuffer(final String input) {
+        // Given:
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final ByteBuffer target = ByteBuffer.allocateDirect(7);
+
+        // When:
+        int start = 0;
+        boolean complete = false;
+        while (!complete) {
+            target.clear();
+            complete = escaper.escape(input, start, input.length(), target);
+            output.write(bytes(target, 0, target.position()), 0, target.position());
+            start = escaper.sourcePosition();
+        }
+
+        // Then:
+        assertThat(output.toByteArray(), is(expected(input)));
+    }
+
+    @Test
+    void shouldEscapeLargeInputToDirectBuffer() {
+        // Given:
+        final String input = "a\"\u00E9\u20AC\uD83D\uDE00".repeat(1000);
+        final ByteBuffer target = ByteBuffer.allocateDirect(input.length() * 6);
+
+        // When:
+        final boolean complete = escaper.escape(input, target);
+
+        // Then:
+        assertThat(complete, is(true));
+        assertThat(bytes(target, 0, target.position()), is(expected(input)));
+        assertThat(escaper.bytesWritten(), is(target.position()));
+    }
+
+    @Test
+    void shouldNotSplitEscapeSequence() {
+        // Given:
+        final byte[] target = new byte[5];
+
+        // When:
+        final boolean complete = escaper.escape("ab\u0001", target, 0);
+
+        // Then:
+        assertThat(complete, is(false));
+        assertThat(escaper.bytesWritten(), is(2));
+        assertThat(escaper.sourcePosition(), is(2));
+    }
+
+    @Test
+    void shouldNotSplitSurrogatePair() {
+        // Given:
+        final byte[] target = new byte[4];
+
+        // When:
+        final boolean complete = escaper.escape("a\uD83D\uDE00", target, 0);
+
+        // Then:
+        assertThat(complete, is(false));
+        assertThat(escaper.bytesWritten(), is(1));
+        assertThat(escaper.sourcePosition(), is(1));
+    }
+
+    @Test
+    void shouldEncodeUnpairedSurrogates() {
+        assertThat(escape("a\ud83db"), is("a?b".getBytes(UTF_8)));
+        assertThat(escape("a\ude00b"), is("a?b".getBytes(UTF_8)));
+        assertThat(escape("a\ud83d"), is("a?".getBytes(UTF_8)));
+    }
+
+    @Test
+    void shouldTreatRangeEndAsEndOfInput() {
+        // Given:
+        final byte[] target = new byte[10];
+
+        // When:
+        escaper.escape("\uD83D\uDE00", 0, 1, target, 0, target.length);
+
+        // Then:
+        assertThat(escaper.bytesWritten(), is(1));
+        assertThat(target[0], is((byte) '?'));
+    }
+
+    @Test
+    void shouldEscapeCharBuffer() {
+        assertThat(escape(CharBuffer.wrap("a\tb")), is("a\\tb".getBytes(UTF_8)));
+    }
+
+    @Test
+    void shouldThrowOnInvalidRanges() {
+        final byte[] target = new byte[10];
+        assertThrows(
+                IndexOutOfBoundsException.class, () -> escaper.escape("abc", 1, 4, target, 0, 10));
+        assertThrows(
+                IndexOutOfBoundsException.class, () -> escaper.escape("abc", 0, 3, target, 5, 6));
+    }
+
+    public static Stream<String> inputs() {
+        return Stream.of(
+                "",
+                "hello world",
+                "\"quoted\" \\ \t\n\r\b\f",
+                "\u0000\u001f\u007f\u0080\u009f\u00A0",
+                "caf\u00E9 \u00DF \u07FF",
+                "\u0800 \u20AC \uFFFF",
+                "\uD83D\uDE00 smile \uD83D\uDE00",
+                "mixed \u20AC\"\uD83D\uDE00\n\u00E9\u0001 end");
+    }
+
+    private byte[] escape(final CharSequence input) {
+        final byte[] target = new byte[input.length() * Utf8JsonEscaper.MAX_BYTES_PER_CHAR];
+        escaper.escape(input, target, 0);
+        return Arrays.copyOf(target, escaper.bytesWritten());
+    }
+
+    private static byte[] expected(final String input) {
+        final StringBuilder sb = new StringBuilder();
+        Json.escapeJson(input, sb);
+        return sb.toString().getBytes(UTF_8);
+    }
+
+    private static byte[] bytes(final ByteBuffer buffer, final int offset, final int length) {
+        final byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return bytes;
+    }
+}
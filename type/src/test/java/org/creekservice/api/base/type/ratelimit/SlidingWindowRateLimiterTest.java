@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.ratelimit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.creekservice.api.base.type.temporal.Clock;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowRateLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong(1_000_000_000_000L);
+    private final Clock clock = () -> Instant.ofEpochSecond(0, nanos.get());
+    private final RateLimiter limiter =
+            SlidingWindowRateLimiter.create(clock, 10, Duration.ofSeconds(1));
+
+    @Test
+    void shouldGrantUpToLimitInWindow() {
+        assertThat(acquireAll(limiter), is(10));
+    }
+
+    @Test
+    void shouldWeightPreviousWindow() {
+        // Given:
+        acquireAll(limiter);
+
+        // When: 1.5 windows later, half the previous window overlaps:
+        advanceMillis(1_500);
+
+        // Then:
+        assertThat(acquireAll(limiter), is(5));
+    }
+
+    @Test
+    void shouldSlideOverWindow() {
+        // Given:
+        advanceMillis(900);
+        acquireAll(limiter);
+
+        // When: next window, 90% overlap with previous:
+        advanceMillis(200);
+
+        // Then:
+        assertThat(acquireAll(limiter), is(1));
+
+        // When: 50% overlap:
+        advanceMillis(400);
+
+        // Then:
+        assertThat(acquireAll(limiter), is(4));
+    }
+
+    @Test
+    void shouldResetAfterIdle() {
+        // Given:
+        acquireAll(limiter);
+
+        // When:
+        advanceMillis(2_000);
+
+        // Then:
+        assertThat(acquireAll(limiter), is(10));
+    }
+
+    @Test
+    void shouldResetAfterLongIdle() {
+        // Given:
+        final RateLimiter perMilli =
+                SlidingWindowRateLimiter.create(clock, 10, Duration.ofMillis(1));
+        acquireAll(perMilli);
+
+        // When:
+        advanceMillis(Duration.ofMinutes(75).toMillis());
+
+        // Then:
+        assertThat(acquireAll(perMilli), is(10));
+    }
+
+    @Test
+    void shouldResetAfterIdleOfWholeIndexRange() {
+        // Given: idle for a multiple of the 2^23 windows the state can index:
+        final RateLimiter perMilli =
+                SlidingWindowRateLimiter.create(clock, 10, Duration.ofMillis(1));
+        acquireAll(perMilli);
+
+        // When:
+        advanceMillis(1L << 23);
+
+        // Then:
+        assertThat(acquireAll(perMilli), is(10));
+    }
+
+    @Test
+    void shouldAcquireMultiplePermitsAtomically() {
+        // Given:
+        assertThat(limiter.tryAcquire(8), is(true));
+
+        // Then:
+        assertThat(limiter.tryAcquire(3), is(false));
+        assertThat(limiter.tryAcquire(2), is(true));
+    }
+
+    @Test
+    void shouldCountAgainstCurrentWindowIfClockGoesBackwards() {
+        // Given:
+        advanceMillis(5_000);
+        assertThat(limiter.tryAcquire(7), is(true));
+
+        // When:
+        advanceMillis(-3_000);
+
+        // Then:
+        assertThat(acquireAll(limiter), is(3));
+    }
+
+    @Test
+    void shouldSplitAcrossStripes() {
+        // Given:
+        final SlidingWindowRateLimiter limiter =
+                SlidingWindowRateLimiter.createStriped(clock, 10, Duration.ofSeconds(1), 4);
+
+        // Then:
+        assertThat(limiter.stripes(), is(4));
+        assertThat(acquireAll(limiter), is(10));
+    }
+
+    @Test
+    void shouldNotOverGrantUnderContention() throws Exception {
+        // Given:
+        final RateLimiter limiter =
+                SlidingWindowRateLimiter.createStriped(clock, 10_000, Duration.ofSeconds(1), 8);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // When:
+            final List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(executor.submit(() -> acquireAll(limiter)));
+            }
+
+            // Then:
+            int total = 0;
+            for (final Future<Integer> result : results) {
+                total += result.get();
+            }
+            assertThat(total, is(10_000));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldThrowIfLimitTooHigh() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () ->
+                                SlidingWindowRateLimiter.create(
+                                        clock, 1L << 20, Duration.ofSeconds(1)));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                is("limit must be between the number of stripes, 1, and 1048575, but was 1048576"));
+    }
+
+    @Test
+    void shouldThrowIfWindowNotPositive() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> SlidingWindowRateLimiter.create(clock, 10, Duration.ZERO));
+
+        // Then:
+        assertThat(e.getMessage(), is("window must be positive, but was PT0S"));
+    }
+
+    private static int acquireAll(final RateLimiter limiter) {
+        int count = 0;
+        while (limiter.tryAcquire()) {
+            count++;
+        }
+        return count;
+    }
+
+    private void advanceMillis(final long millis) {
+        nanos.addAndGet(millis * 1_000_000);
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.ratelimit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.creekservice.api.base.type.temporal.Clock;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong(1_000_000_000_000L);
+    private final Clock clock = () -> Instant.ofEpochSecond(0, nanos.get());
+
+    @Test
+    void shouldStartFull() {
+        // Given:
+        final RateLimiter limiter =
+                TokenBucketRateLimiter.create(clock, 10, Duration.ofSeconds(1), 5);
+
+        // Then:
+        assertThat(acquireAll(limiter), is(5));
+    }
+
+    @Test
+    void shouldRefillAtRate() {
+        // Given:
+        final RateLimiter limiter =
+                TokenBucketRateLimiter.create(clock, 10, Duration.ofSeconds(1), 5);
+        acquireAll(limiter);
+
+        // When:
+        advanceMillis(99);
+
+        // Then:
+        assertThat(limiter.tryAcquire(), is(false));
+
+        // When:
+        advanceMillis(1);
+
+        // Then:
+        assertThat(limiter.tryAcquire(), is(true));
+        assertThat(limiter.tryAcquire(), is(false));
+    }
+
+    @Test
+    void shouldNotRefillBeyondCapacity() {
+        // Given:
+        final RateLimiter limiter =
+                TokenBucketRateLimiter.create(clock, 10, Duration.ofSeconds(1), 5);
+        acquireAll(limiter);
+
+        // When:
+        advanceMillis(10_000);
+
+        // Then:
+        assertThat(acquireAll(limiter), is(5));
+    }
+
+    @Test
+    void shouldAcquireMultiplePermitsAtomically() {
+        // Given:
+        final RateLimiter limiter =
+                TokenBucketRateLimiter.create(clock, 10, Duration.ofSeconds(1), 5);
+        assertThat(limiter.tryAcquire(3), is(true));
+
+        // When:
+        final boolean result = limiter.tryAcquire(3);
+
+        // Then:
+        assertThat(result, is(false));
+        assertThat(limiter.tryAcquire(2), is(true));
+    }
+
+    @Test
+    void shouldRejectMorePermitsThanCapacity() {
+        // Given:
+        final RateLimiter limiter =
+                TokenBucketRateLimiter.create(clock, 10, Duration.ofSeconds(1), 5);
+
+        // Then:
+        assertThat(limiter.tryAcquire(6), is(false));
+        assertThat(acquireAll(limiter), is(5));
+    }
+
+    @Test
+    void shouldNotRefillWhileClockGoesBackwards() {
+        // Given:
+        final RateLimiter limiter =
+                TokenBucketRateLimiter.create(clock, 10, Duration.ofSeconds(1), 5);
+        acquireAll(limiter);
+
+        // When:
+        advanceMillis(-1_000);
+
+        // Then:
+        assertThat(limiter.tryAcquire(), is(false));
+    }
+
+    @Test
+    void shouldSplitAcrossStripes() {
+        // Given:
+        final TokenBucketRateLimiter limiter =
+                TokenBucketRateLimiter.createStriped(clock, 10, Duration.ofSeconds(1), 10, 4);
+
+        // Then:
+        assertThat(limiter.stripes(), is(4));
+        assertThat(acquireAll(limiter), is(10));
+        assertThat(limiter.tryAcquire(4), is(false));
+    }
+
+    @Test
+    void shouldRefillStripesAtRate() {
+        // Given:
+        final RateLimiter limiter =
+                TokenBucketRateLimiter.createStriped(clock, 100, Duration.ofSeconds(1), 4, 4);
+        acquireAll(limiter);
+
+        // When:
+        advanceMillis(40);
+
+        // Then:
+        assertThat(acquireAll(limiter), is(4));
+    }
+
+    @Test
+    void shouldNotOverGrantUnderContention() throws Exception {
+        // Given:
+        final RateLimiter limiter =
+                TokenBucketRateLimiter.createStriped(
+                        clock, 10_000, Duration.ofSeconds(1), 10_000, 8);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // When:
+            final List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(executor.submit(() -> acquireAll(limiter)));
+            }
+
+            // Then:
+            int total = 0;
+            for (final Future<Integer> result : results) {
+                total += result.get();
+            }
+            assertThat(total, is(10_000));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void shouldThrowOnInvalidPermits(final int permits) {
+        // Given:
+        final RateLimiter limiter =
+                TokenBucketRateLimiter.create(clock, 10, Duration.ofSeconds(1), 5);
+
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> limiter.tryAcquire(permits));
+
+        // Then:
+        assertThat(e.getMessage(), is("permits must be positive, but was " + permits));
+    }
+
+    @Test
+    void shouldThrowIfRateTooLowForStripes() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () ->
+                                TokenBucketRateLimiter.createStriped(
+                                        clock, 3, Duration.ofSeconds(1), 10, 4));
+
+        // Then:
+        assertThat(
+                e.getMessage(), is("permits must be at least the number of stripes, 4, but was 3"));
+    }
+
+    @Test
+    void shouldThrowIfCapacityTooLowForStripes() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () ->
+                                TokenBucketRateLimiter.createStriped(
+                                        clock, 10, Duration.ofSeconds(1), 0, 1));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                is("capacity must be at least the number of stripes, 1, but was 0"));
+    }
+
+    @Test
+    void shouldThrowIfPeriodTooShort() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> TokenBucketRateLimiter.create(clock, 10, Duration.ofNanos(9), 1));
+
+        // Then:
+        assertThat(e.getMessage(), is("period too short for permits: PT0.000000009S, 10"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1025})
+    void shouldThrowOnInvalidStripes(final int stripes) {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () ->
+                                TokenBucketRateLimiter.createStriped(
+                                        clock, 10_000, Duration.ofSeconds(1), 10_000, stripes));
+
+        // Then:
+        assertThat(e.getMessage(), is("stripes must be between 1 and 1024, but was " + stripes));
+    }
+
+    private static int acquireAll(final RateLimiter limiter) {
+        int count = 0;
+        while (limiter.tryAcquire()) {
+            count++;
+        }
+        return count;
+    }
+
+    private void advanceMillis(final long millis) {
+        nanos.addAndGet(millis * 1_000_000);
+    }
+}
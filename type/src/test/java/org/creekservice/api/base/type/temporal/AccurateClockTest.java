@@ -44,4 +44,35 @@ class AccurateClockTest {
                         both(greaterThanOrEqualTo(start.toEpochMilli()))
                                 .and(lessThanOrEqualTo(end.toEpochMilli()))));
     }
+
+    @Test
+    void shouldGetEpochMillis() {
+        // Given:
+        final Clock clock = AccurateClock.create();
+        final long start = System.currentTimeMillis();
+
+        // When:
+        final long now = clock.epochMillis();
+
+        // Then:
+        assertThat(
+                now,
+                is(
+                        both(greaterThanOrEqualTo(start))
+                                .and(lessThanOrEqualTo(System.currentTimeMillis()))));
+    }
+
+    @Test
+    void shouldGetEpochNanos() {
+        // Given:
+        final Clock clock = AccurateClock.create();
+        final long start = Clock.epochNanos(Instant.now());
+
+        // When:
+        final long now = clock.epochNanos();
+
+        // Then:
+        final long end = Clock.epochNanos(Instant.now());
+        assertThat(now, is(both(greaterThanOrEqualTo(start)).and(lessThanOrEqualTo(end))));
+    }
 }
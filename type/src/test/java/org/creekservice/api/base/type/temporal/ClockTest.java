@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.temporal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class ClockTest {
+
+    private static final Instant TIME = Instant.ofEpochSecond(1_700_000_000L, 123_456_789);
+
+    private final Clock clock = () -> TIME;
+
+    @Test
+    void shouldGetEpochMillis() {
+        assertThat(clock.epochMillis(), is(1_700_000_000_123L));
+    }
+
+    @Test
+    void shouldGetEpochNanos() {
+        assertThat(clock.epochNanos(), is(1_700_000_000_123_456_789L));
+    }
+
+    @Test
+    void shouldGetEpochNanosBeforeEpoch() {
+        assertThat(Clock.epochNanos(Instant.ofEpochSecond(-1, 1)), is(-999_999_999L));
+    }
+
+    @Test
+    void shouldThrowIfEpochNanosOverflow() {
+        assertThrows(
+                ArithmeticException.class,
+                () -> Clock.epochNanos(Instant.parse("2262-04-12T00:00:00Z")));
+    }
+}
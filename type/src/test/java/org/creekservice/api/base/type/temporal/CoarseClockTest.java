@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.temporal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CoarseClockTest {
+
+    private CoarseClock clock;
+
+    @AfterEach
+    void tearDown() {
+        if (clock != null) {
+            clock.close();
+        }
+    }
+
+    @Test
+    void shouldThrowIfResolutionTooSmall() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> CoarseClock.create(Duration.ofNanos(99_999)));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                is("resolution must be at least PT0.0001S, but was PT0.000099999S"));
+    }
+
+    @Test
+    void shouldExposeResolution() {
+        // When:
+        clock = CoarseClock.create(Duration.ofMillis(5));
+
+        // Then:
+        assertThat(clock.resolution(), is(Duration.ofMillis(5)));
+    }
+
+    @Test
+    void shouldGetAccurateTimeIfNotStarted() {
+        // Given:
+        clock = CoarseClock.create(Duration.ofHours(1));
+        final Instant start = Instant.now();
+
+        // When:
+        final Instant now = clock.get();
+
+        // Then:
+        assertThat(
+                now, is(both(greaterThanOrEqualTo(start)).and(lessThanOrEqualTo(Instant.now()))));
+        assertThat(clock.isRunning(), is(false));
+    }
+
+    @Test
+    void shouldCacheTimeOnceStarted() {
+        // Given:
+        clock = CoarseClock.create(Duration.ofHours(1));
+        final Instant start = Instant.now();
+
+        // When:
+        clock.start();
+
+        // Then:
+        final Instant cached = clock.get();
+        assertThat(clock.isRunning(), is(true));
+        assertThat(
+                cached,
+                is(both(greaterThanOrEqualTo(start)).and(lessThanOrEqualTo(Instant.now()))));
+        assertThat(clock.get(), is(sameInstance(cached)));
+    }
+
+    @Test
+    void shouldGetCachedEpochTimes() {
+        // Given:
+        clock = CoarseClock.create(Duration.ofHours(1)).start();
+        final Instant cached = clock.get();
+
+        // Then:
+        assertThat(clock.epochMillis(), is(cached.toEpochMilli()));
+        assertThat(clock.epochNanos(), is(Clock.epochNanos(cached)));
+    }
+
+    @Test
+    void shouldGetAccurateEpochTimesIfNotStarted() {
+        // Given:
+        clock = CoarseClock.create(Duration.ofHours(1));
+        final long startMs = System.currentTimeMillis();
+        final long startNs = Clock.epochNanos(Instant.now());
+
+        // When:
+        final long ms = clock.epochMillis();
+        final long ns = clock.epochNanos();
+
+        // Then:
+        assertThat(
+                ms,
+                is(
+                        both(greaterThanOrEqualTo(startMs))
+                                .and(lessThanOrEqualTo(System.currentTimeMillis()))));
+        assertThat(
+                ns,
+                is(
+                        both(greaterThanOrEqualTo(startNs))
+                                .and(lessThanOrEqualTo(Clock.epochNanos(Instant.now())))));
+    }
+
+    @Test
+    void shouldRefreshAtResolution() {
+        // Given:
+        clock = CoarseClock.create(Duration.ofMillis(1)).start();
+        final Instant first = clock.get();
+
+        // When:
+        final Optional<Instant> next = awaitChange(first);
+
+        // Then:
+        assertThat(next.isPresent(), is(true));
+        assertThat(next.get(), is(greaterThan(first)));
+    }
+
+    @Test
+    void shouldGetAccurateTimeOnceStopped() {
+        // Given:
+        clock = CoarseClock.create(Duration.ofHours(1)).start();
+        final Instant cached = clock.get();
+
+        // When:
+        clock.stop();
+
+        // Then:
+        assertThat(clock.isRunning(), is(false));
+        assertThat(clock.get(), is(not(sameInstance(cached))));
+    }
+
+    @Test
+    void shouldStopFullyIfInterrupted() throws Exception {
+        // Given:
+        clock = CoarseClock.create(Duration.ofHours(1)).start();
+        final Instant cached = clock.get();
+        Thread.currentThread().interrupt();
+
+        // When:
+        clock.stop();
+
+        // Then:
+        assertThat("interrupt preserved", Thread.interrupted(), is(true));
+        assertThat(clock.isRunning(), is(false));
+        Thread.sleep(2);
+        assertThat(clock.get(), is(greaterThan(cached)));
+    }
+
+    @Test
+    void shouldIgnoreRepeatedStartAndStop() {
+        // Given:
+        clock = CoarseClock.create(Duration.ofHours(1)).start();
+        final Instant cached = clock.get();
+
+        // When:
+        clock.start();
+
+        // Then:
+        assertThat(clock.get(), is(sameInstance(cached)));
+
+        // When:
+        clock.stop();
+        clock.stop();
+
+        // Then:
+        assertThat(clock.isRunning(), is(false));
+    }
+
+    @Test
+    void shouldRestart() {
+        // Given:
+        clock = CoarseClock.create(Duration.ofMillis(1)).start();
+        clock.stop();
+
+        // When:
+        clock.start();
+
+        // Then:
+        assertThat(clock.isRunning(), is(true));
+        assertThat(awaitChange(clock.get()).isPresent(), is(true));
+    }
+
+    private Optional<Instant> awaitChange(final Instant from) {
+        final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            final Instant now = clock.get();
+            if (!now.equals(from)) {
+                return Optional.of(now);
+            }
+            Thread.onSpinWait();
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.temporal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class HybridLogicalClockTest {
+
+    private static final long START_MS = 1_700_000_000_000L;
+
+    private final AtomicLong millis = new AtomicLong(START_MS);
+    private final Clock physical = () -> Instant.ofEpochMilli(millis.get());
+    private final HybridLogicalClock clock = HybridLogicalClock.create(physical);
+
+    @Test
+    void shouldTrackPhysicalTime() {
+        // When:
+        final long ts = clock.now();
+
+        // Then:
+        assertThat(HybridLogicalClock.physicalMillis(ts), is(START_MS));
+        assertThat(HybridLogicalClock.logical(ts), is(0));
+        assertThat(HybridLogicalClock.toInstant(ts), is(Instant.ofEpochMilli(START_MS)));
+        assertThat(clock.last(), is(ts));
+    }
+
+    @Test
+    void shouldIncrementLogicalWithinSameMilli() {
+        // Given:
+        final long first = clock.now();
+
+        // When:
+        final long second = clock.now();
+
+        // Then:
+        assertThat(second, is(first + 1));
+        assertThat(HybridLogicalClock.logical(second), is(1));
+        assertThat(HybridLogicalClock.toString(second), is("2023-11-14T22:13:20Z#1"));
+    }
+
+    @Test
+    void shouldResetLogicalWhenPhysicalAdvances() {
+        // Given:
+        clock.now();
+        clock.now();
+
+        // When:
+        millis.incrementAndGet();
+        final long ts = clock.now();
+
+        // Then:
+        assertThat(HybridLogicalClock.physicalMillis(ts), is(START_MS + 1));
+        assertThat(HybridLogicalClock.logical(ts), is(0));
+    }
+
+    @Test
+    void shouldNotGoBackwardsWithPhysicalClock() {
+        // Given:
+        final long first = clock.now();
+
+        // When:
+        millis.addAndGet(-1_000);
+        final long second = clock.now();
+
+        // Then:
+        assertThat(second, is(first + 1));
+    }
+
+    @Test
+    void shouldCarryLogicalOverflowIntoMillis() {
+        // Given:
+        long ts = 0;
+        for (int i = 0; i <= 0xFFFF; i++) {
+            ts = clock.now();
+        }
+        assertThat(HybridLogicalClock.logical(ts), is(0xFFFF));
+
+        // When:
+        final long next = clock.now();
+
+        // Then:
+        assertThat(next, is(greaterThan(ts)));
+        assertThat(HybridLogicalClock.physicalMillis(next), is(START_MS + 1));
+        assertThat(HybridLogicalClock.logical(next), is(0));
+    }
+
+    @Test
+    void shouldOrderAfterRemoteAhead() {
+        // Given:
+        final HybridLogicalClock remoteClock =
+                HybridLogicalClock.create(() -> Instant.ofEpochMilli(START_MS + 500));
+        final long remote = remoteClock.now();
+
+        // When:
+        final long ts = clock.update(remote);
+
+        // Then:
+        assertThat(ts, is(remote + 1));
+
+        // When:
+        final long next = clock.now();
+
+        // Then:
+        assertThat(next, is(remote + 2));
+    }
+
+    @Test
+    void shouldIgnoreRemoteBehind() {
+        // Given:
+        final long local = clock.now();
+        final long remote = (START_MS - 500) << HybridLogicalClock.LOGICAL_BITS;
+
+        // When:
+        final long ts = clock.update(remote);
+
+        // Then:
+        assertThat(ts, is(local + 1));
+    }
+
+    @Test
+    void shouldRejectRemoteBeyondMaxDrift() {
+        // Given:
+        final HybridLogicalClock clock =
+                HybridLogicalClock.create(physical, Duration.ofMillis(100));
+        final long remote = (START_MS + 101) << HybridLogicalClock.LOGICAL_BITS;
+
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> clock.update(remote));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                is(
+                        "Remote timestamp exceeds max drift. remote: 2023-11-14T22:13:20.101Z#0,"
+                                + " physical: 2023-11-14T22:13:20Z#0"));
+        assertThat(clock.last(), is(0L));
+    }
+
+    @Test
+    void shouldAcceptRemoteWithinMaxDrift() {
+        // Given:
+        final HybridLogicalClock clock =
+                HybridLogicalClock.create(physical, Duration.ofMillis(100));
+        final long remote = (START_MS + 100) << HybridLogicalClock.LOGICAL_BITS;
+
+        // When:
+        final long ts = clock.update(remote);
+
+        // Then:
+        assertThat(ts, is(remote + 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1, Long.MIN_VALUE, Long.MAX_VALUE})
+    void shouldRejectInvalidRemote(final long remote) {
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> clock.update(remote));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                is("remote must be between 0 and " + (Long.MAX_VALUE - 1) + ", but was " + remote));
+        assertThat(clock.last(), is(0L));
+    }
+
+    @Test
+    void shouldThrowOnceTimestampsExhausted() {
+        // Given:
+        assertThat(clock.update(Long.MAX_VALUE - 1), is(Long.MAX_VALUE));
+
+        // Then:
+        assertThrows(ArithmeticException.class, clock::now);
+        assertThrows(ArithmeticException.class, () -> clock.update(0));
+        assertThat(clock.last(), is(Long.MAX_VALUE));
+    }
+
+    @Test
+    void shouldThrowOnNegativeMaxDrift() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> HybridLogicalClock.create(physical, Duration.ofMillis(-1)));
+
+        // Then:
+        assertThat(e.getMessage(), is("maxDrift must not be negative, but was PT-0.001S"));
+    }
+
+    @Test
+    void shouldIssueUniqueTimestampsAcrossThreads() throws Exception {
+        // Given:
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // When:
+            final List<Future<List<Long>>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(
+                        executor.submit(
+                                () -> {
+                                    final List<Long> issued = new ArrayList<>();
+                                    long previous = 0;
+                                    for (int i = 0; i < 10_000; i++) {
+                                        final long ts = clock.now();
+                                        assertThat(ts, is(greaterThan(previous)));
+                                        issued.add(ts);
+                                        previous = ts;
+                                    }
+                                    return issued;
+                                }));
+            }
+
+            // Then:
+            final Set<Long> all = new HashSet<>();
+            for (final Future<List<Long>> result : results) {
+                all.addAll(result.get());
+            }
+            assertThat(all.size(), is(40_000));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
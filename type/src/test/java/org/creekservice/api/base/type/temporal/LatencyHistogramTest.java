@@ -0,0 +1,281 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.temporal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = LatencyHistogram.create(Duration.ofHours(1), 2, 4);
+
+    @Test
+    void shouldHaveFixedSize() {
+        assertThat(histogram.bucketCount(), is(4562));
+        assertThat(histogram.stripes(), is(4));
+    }
+
+    @Test
+    void shouldReturnZerosIfEmpty() {
+        // When:
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // Then:
+        assertThat(snapshot.count(), is(0L));
+        assertThat(snapshot.valueAtPercentile(50), is(0L));
+        assertThat(snapshot.min(), is(0L));
+        assertThat(snapshot.max(), is(0L));
+        assertThat(snapshot.mean(), is(0.0));
+    }
+
+    @Test
+    void shouldRecordSmallValuesExactly() {
+        // Given:
+        for (long i = 0; i < 200; i++) {
+            histogram.record(i);
+        }
+
+        // When:
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // Then:
+        assertThat(snapshot.count(), is(200L));
+        assertThat(snapshot.min(), is(0L));
+        assertThat(snapshot.valueAtPercentile(50), is(99L));
+        assertThat(snapshot.max(), is(199L));
+        assertThat(snapshot.mean(), is(99.5));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4})
+    void shouldMeetPrecision(final int digits) {
+        // Given:
+        final LatencyHistogram histogram = LatencyHistogram.create(Duration.ofHours(1), digits, 1);
+        final Random random = new Random(digits);
+        final double maxError = 1 / Math.pow(10, digits);
+
+        long max = 0;
+        for (int i = 0; i < 10_000; i++) {
+            final long value = (long) Math.pow(10, random.nextDouble() * 12);
+            histogram.record(value);
+            max = Math.max(max, value);
+
+            // Then:
+            assertThat(histogram.highestEquivalentValue(value), is(withinError(value, maxError)));
+        }
+
+        // Then:
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.count(), is(10_000L));
+        assertThat(snapshot.max(), is(withinError(max, maxError)));
+    }
+
+    private static Matcher<Long> withinError(final long value, final double maxError) {
+        return both(greaterThanOrEqualTo(value))
+                .and(lessThanOrEqualTo(value + (long) Math.ceil(value * maxError)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"50, 500000", "90, 900000", "99, 990000", "99.9, 999000", "100, 1000000"})
+    void shouldGetPercentiles(final double percentile, final long expected) {
+        // Given:
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000);
+        }
+
+        // When:
+        final long value = histogram.snapshot().valueAtPercentile(percentile);
+
+        // Then:
+        assertThat((double) value, is(closeTo(expected, expected * 0.01)));
+        assertThat(value, is(greaterThanOrEqualTo(expected)));
+    }
+
+    @Test
+    void shouldGetPercentilesOfRandomValues() {
+        // Given:
+        final Random random = new Random(1);
+        final long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) (Math.exp(random.nextGaussian() * 2) * 1_000_000);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        // When:
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // Then:
+        for (final double p : new double[] {50, 75, 90, 99, 99.9, 99.99}) {
+            final long exact = values[(int) Math.ceil(p / 100 * values.length) - 1];
+            assertThat(
+                    (double) snapshot.valueAtPercentile(p),
+                    is(closeTo(exact, Math.max(1, exact * 0.01))));
+        }
+    }
+
+    @Test
+    void shouldClampOutOfRangeValues() {
+        // Given:
+        histogram.record(-5);
+        histogram.record(Duration.ofDays(1));
+        histogram.record(Duration.ofSeconds(Long.MAX_VALUE));
+
+        // When:
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // Then:
+        assertThat(snapshot.count(), is(3L));
+        assertThat(snapshot.min(), is(0L));
+        assertThat(snapshot.max(), is(Duration.ofHours(1).toNanos()));
+    }
+
+    @Test
+    void shouldRecordDuration() {
+        // When:
+        histogram.record(Duration.ofMillis(5));
+
+        // Then:
+        assertThat((double) histogram.snapshot().max(), is(closeTo(5_000_000, 5_000_000 * 0.01)));
+    }
+
+    @Test
+    void shouldResetOnSnapshotAndReset() {
+        // Given:
+        histogram.record(10);
+        histogram.record(20);
+
+        // When:
+        final LatencyHistogram.Snapshot first = histogram.snapshotAndReset();
+        histogram.record(30);
+        final LatencyHistogram.Snapshot second = histogram.snapshot();
+
+        // Then:
+        assertThat(first.count(), is(2L));
+        assertThat(second.count(), is(1L));
+        assertThat(second.min(), is(30L));
+    }
+
+    @Test
+    void shouldMergeStripesFromManyThreads() throws Exception {
+        // Given:
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            // When:
+            final List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final long value = (t + 1) * 100;
+                results.add(
+                        executor.submit(
+                                () -> {
+                                    for (int i = 0; i < 10_000; i++) {
+                                        histogram.record(value);
+                                    }
+                                }));
+            }
+            for (final Future<?> result : results) {
+                result.get();
+            }
+
+            // Then:
+            final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+            assertThat(snapshot.count(), is(80_000L));
+            assertThat(snapshot.min(), is(100L));
+            assertThat(
+                    snapshot.max(),
+                    is(both(greaterThanOrEqualTo(800L)).and(lessThanOrEqualTo(803L))));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-1, 100.1, Double.NaN})
+    void shouldThrowOnInvalidPercentile(final double percentile) {
+        // Given:
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> snapshot.valueAtPercentile(percentile));
+
+        // Then:
+        assertThat(
+                e.getMessage(), is("percentile must be between 0 and 100, but was " + percentile));
+    }
+
+    @Test
+    void shouldThrowOnInvalidHighestTrackable() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> LatencyHistogram.create(Duration.ZERO, 2, 1));
+
+        // Then:
+        assertThat(e.getMessage(), is("highestTrackable must be positive, but was PT0S"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 5})
+    void shouldThrowOnInvalidSignificantDigits(final int digits) {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> LatencyHistogram.create(Duration.ofHours(1), digits, 1));
+
+        // Then:
+        assertThat(
+                e.getMessage(), is("significantDigits must be between 1 and 4, but was " + digits));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1025})
+    void shouldThrowOnInvalidStripes(final int stripes) {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> LatencyHistogram.create(Duration.ofHours(1), 2, stripes));
+
+        // Then:
+        assertThat(e.getMessage(), is("stripes must be between 1 and 1024, but was " + stripes));
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.temporal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MonotonicClockTest {
+
+    private static final long WALL_START = 1_700_000_000_000_000_000L;
+    private static final Duration INTERVAL = Duration.ofSeconds(1);
+    private static final long INTERVAL_NS = INTERVAL.toNanos();
+
+    private final AtomicLong ticker = new AtomicLong(-5_000);
+    private final AtomicLong wall = new AtomicLong(WALL_START);
+    private final MonotonicClock clock =
+            MonotonicClock.create(INTERVAL, 500, ticker::get, wall::get);
+
+    @Test
+    void shouldGetTime() {
+        // Given:
+        final Clock clock = MonotonicClock.create();
+        final Instant start = Instant.now();
+
+        // When:
+        final Instant now = clock.get();
+
+        // Then:
+        final Instant end = Instant.now();
+        assertThat(
+                now.toEpochMilli(),
+                is(
+                        both(greaterThanOrEqualTo(start.toEpochMilli() - 1))
+                                .and(lessThanOrEqualTo(end.toEpochMilli() + 1))));
+    }
+
+    @Test
+    void shouldExposeSettings() {
+        assertThat(clock.resyncInterval(), is(INTERVAL));
+        assertThat(clock.maxSlewPpm(), is(500));
+    }
+
+    @Test
+    void shouldStartAtWallTime() {
+        assertThat(clock.epochNanos(), is(WALL_START));
+    }
+
+    @Test
+    void shouldAdvanceWithTicker() {
+        // When:
+        advance(12_345_678);
+
+        // Then:
+        assertThat(clock.epochNanos(), is(WALL_START + 12_345_678));
+        assertThat(clock.epochMillis(), is(WALL_START / 1_000_000 + 12));
+        assertThat(clock.get(), is(Instant.ofEpochSecond(1_700_000_000L).plusNanos(12_345_678)));
+    }
+
+    @Test
+    void shouldIgnoreWallTimeBetweenResyncs() {
+        // Given:
+        wall.addAndGet(-1_000_000);
+
+        // When:
+        advance(INTERVAL_NS - 1);
+
+        // Then:
+        assertThat(clock.epochNanos(), is(WALL_START + INTERVAL_NS - 1));
+    }
+
+    @Test
+    void shouldStepForwardIfBehindWallTime() {
+        // Given:
+        advance(INTERVAL_NS);
+        wall.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        // When:
+        final long now = clock.epochNanos();
+
+        // Then:
+        assertThat(now, is(wall.get()));
+    }
+
+    @Test
+    void shouldSlewIfAheadOfWallTime() {
+        // Given:
+        advance(INTERVAL_NS);
+        wall.addAndGet(-100_000);
+
+        // When:
+        final long atResync = clock.epochNanos();
+
+        // Then: no step backwards:
+        assertThat(atResync, is(WALL_START + INTERVAL_NS));
+
+        // When: halfway through the next interval:
+        advance(INTERVAL_NS / 2);
+
+        // Then: clock running at 100 ppm slow:
+        assertThat(clock.epochNanos(), is(WALL_START + INTERVAL_NS + INTERVAL_NS / 2 - 50_000));
+
+        // When:
+        advance(INTERVAL_NS / 2 - 1);
+
+        // Then: caught up with wall time, to within rounding:
+        assertThat(clock.epochNanos(), is(wall.get() + 1));
+    }
+
+    @Test
+    void shouldLimitSlewRate() {
+        // Given:
+        advance(INTERVAL_NS);
+        wall.addAndGet(-Duration.ofSeconds(10).toNanos());
+        clock.epochNanos();
+
+        // When:
+        advance(INTERVAL_NS - 1);
+
+        // Then: clock running at 500 ppm slow:
+        assertThat(clock.epochNanos(), is(WALL_START + INTERVAL_NS + (INTERVAL_NS - 1) - 499_999));
+    }
+
+    @Test
+    void shouldResyncAfterIdle() {
+        // Given:
+        advance(Duration.ofDays(3).toNanos());
+
+        // When:
+        final long now = clock.epochNanos();
+
+        // Then:
+        assertThat(now, is(wall.get()));
+    }
+
+    @Test
+    void shouldHandleTickerOverflow() {
+        // Given:
+        ticker.set(Long.MAX_VALUE - 10);
+        final MonotonicClock clock = MonotonicClock.create(INTERVAL, 500, ticker::get, wall::get);
+
+        // When:
+        advance(100);
+
+        // Then:
+        assertThat(clock.epochNanos(), is(WALL_START + 100));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 4, 5})
+    void shouldNeverGoBackwards(final long seed) {
+        // Given:
+        final Random random = new Random(seed);
+        long last = clock.epochNanos();
+
+        for (int i = 0; i < 100_000; i++) {
+            // When:
+            final long elapsed = random.nextInt(100_000_000);
+            advance(elapsed);
+            wall.addAndGet(elapsed + random.nextInt(2_000_000) - 1_000_000);
+            if (random.nextInt(1000) == 0) {
+                wall.addAndGet(-Duration.ofSeconds(random.nextInt(5)).toNanos());
+            }
+
+            // Then:
+            final long now = clock.epochNanos();
+            assertThat(now, is(greaterThanOrEqualTo(last)));
+            last = now;
+        }
+    }
+
+    @Test
+    void shouldNeverGoBackwardsAcrossConcurrentResyncs() throws Exception {
+        // Given:
+        final MonotonicClock clock = MonotonicClock.create(Duration.ofMillis(1), 500_000);
+        final AtomicLong maxSeen = new AtomicLong(Long.MIN_VALUE);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // When:
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(
+                        executor.submit(
+                                () -> {
+                                    final long end = System.nanoTime() + 200_000_000L;
+                                    while (System.nanoTime() < end) {
+                                        final long before = maxSeen.get();
+                                        final long now = clock.epochNanos();
+                                        if (now < before) {
+                                            return false;
+                                        }
+                                        maxSeen.accumulateAndGet(now, Math::max);
+                                    }
+                                    return true;
+                                }));
+            }
+
+            // Then:
+            for (final Future<Boolean> result : results) {
+                assertThat(result.get(), is(true));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldThrowOnInvalidResyncInterval() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> MonotonicClock.create(Duration.ofMillis(0), 500));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                is("resyncInterval must be between PT0.001S and PT1H, but was PT0S"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 500_001})
+    void shouldThrowOnInvalidMaxSlew(final int maxSlewPpm) {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> MonotonicClock.create(INTERVAL, maxSlewPpm));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                is("maxSlewPpm must be between 1 and 500000, but was " + maxSlewPpm));
+    }
+
+    private void advance(final long nanos) {
+        ticker.addAndGet(nanos);
+        wall.addAndGet(nanos);
+    }
+}
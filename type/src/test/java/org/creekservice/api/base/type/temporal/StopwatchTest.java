@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.temporal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class StopwatchTest {
+
+    private final AtomicLong nanos = new AtomicLong(1_000_000_000L);
+    private final Clock clock = () -> Instant.ofEpochSecond(0, nanos.get());
+
+    @Test
+    void shouldMeasureElapsed() {
+        // Given:
+        final Stopwatch stopwatch = Stopwatch.start(clock);
+
+        // When:
+        nanos.addAndGet(1_234);
+
+        // Then:
+        assertThat(stopwatch.elapsedNanos(), is(1_234L));
+        assertThat(stopwatch.elapsed(), is(Duration.ofNanos(1_234)));
+    }
+
+    @Test
+    void shouldLap() {
+        // Given:
+        final Stopwatch stopwatch = Stopwatch.start(clock);
+        nanos.addAndGet(100);
+
+        // When:
+        final long lap = stopwatch.lap();
+
+        // Then:
+        assertThat(lap, is(100L));
+        assertThat(stopwatch.elapsedNanos(), is(0L));
+
+        // When:
+        nanos.addAndGet(50);
+
+        // Then:
+        assertThat(stopwatch.lap(), is(50L));
+    }
+
+    @Test
+    void shouldReportZeroIfClockGoesBackwards() {
+        // Given:
+        final Stopwatch stopwatch = Stopwatch.start(clock);
+
+        // When:
+        nanos.addAndGet(-100);
+
+        // Then:
+        assertThat(stopwatch.elapsedNanos(), is(0L));
+        assertThat(stopwatch.lap(), is(0L));
+    }
+
+    @Test
+    void shouldRecordToHistogram() {
+        // Given:
+        final LatencyHistogram histogram = LatencyHistogram.create(Duration.ofHours(1), 2, 1);
+        final Stopwatch stopwatch = Stopwatch.start(clock);
+        nanos.addAndGet(42);
+
+        // When:
+        final long elapsed = stopwatch.recordTo(histogram);
+
+        // Then:
+        assertThat(elapsed, is(42L));
+        assertThat(histogram.snapshot().max(), is(42L));
+    }
+}
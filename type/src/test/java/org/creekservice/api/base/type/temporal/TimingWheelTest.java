@@ -0,0 +1,402 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.temporal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TimingWheelTest {
+
+    private static final Duration TICK = Duration.ofMillis(1);
+
+    private final AtomicLong nanos = new AtomicLong(1_000_000_000_000L);
+    private final Clock clock = () -> Instant.ofEpochSecond(0, nanos.get());
+    private final List<String> ran = new ArrayList<>();
+    private final TimingWheel wheel = TimingWheel.create(clock, TICK, 8);
+
+    @Test
+    void shouldExposeSettings() {
+        assertThat(wheel.tick(), is(TICK));
+        assertThat(wheel.wheelSize(), is(8));
+        assertThat(TimingWheel.create(clock, TICK, 5).wheelSize(), is(8));
+    }
+
+    @Test
+    void shouldNotRunBeforeDeadline() {
+        // Given:
+        wheel.schedule(() -> ran.add("a"), Duration.ofMillis(5));
+
+        // When:
+        advanceMillis(4);
+        final int count = wheel.advance();
+
+        // Then:
+        assertThat(count, is(0));
+        assertThat(ran, is(empty()));
+        assertThat(wheel.size(), is(1));
+    }
+
+    @Test
+    void shouldRunAtDeadline() {
+        // Given:
+        final TimingWheel.Timeout timeout =
+                wheel.schedule(() -> ran.add("a"), Duration.ofMillis(5));
+
+        // When:
+        advanceMillis(5);
+        final int count = wheel.advance();
+
+        // Then:
+        assertThat(count, is(1));
+        assertThat(ran, contains("a"));
+        assertThat(wheel.size(), is(0));
+        assertThat(timeout.isExpired(), is(true));
+        assertThat(timeout.isCancelled(), is(false));
+    }
+
+    @Test
+    void shouldRoundDeadlineUpToNextTick() {
+        // Given:
+        wheel.schedule(() -> ran.add("a"), Duration.ofNanos(1_500_000));
+
+        // When:
+        advanceMillis(1);
+        wheel.advance();
+
+        // Then:
+        assertThat(ran, is(empty()));
+
+        // When:
+        advanceMillis(1);
+        wheel.advance();
+
+        // Then:
+        assertThat(ran, contains("a"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, -10})
+    void shouldRunZeroOrNegativeDelayOnNextTick(final long delayMs) {
+        // Given:
+        wheel.schedule(() -> ran.add("a"), Duration.ofMillis(delayMs));
+
+        // When:
+        wheel.advance();
+
+        // Then:
+        assertThat(ran, is(empty()));
+
+        // When:
+        advanceMillis(1);
+        wheel.advance();
+
+        // Then:
+        assertThat(ran, contains("a"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"9", "64", "65", "511", "512", "4097", "100000"})
+    void shouldCascadeFromCoarserWheels(final long delayMs) {
+        // Given:
+        wheel.schedule(() -> ran.add("a"), Duration.ofMillis(delayMs));
+
+        // When:
+        for (int i = 1; i < delayMs; i++) {
+            advanceMillis(1);
+            wheel.advance();
+        }
+
+        // Then:
+        assertThat(ran, is(empty()));
+
+        // When:
+        advanceMillis(1);
+        wheel.advance();
+
+        // Then:
+        assertThat(ran, contains("a"));
+    }
+
+    @Test
+    void shouldRunAllTasksDueWhenAdvancingMultipleTicks() {
+        // Given:
+        wheel.schedule(() -> ran.add("a"), Duration.ofMillis(3));
+        wheel.schedule(() -> ran.add("b"), Duration.ofMillis(1_000));
+        wheel.schedule(() -> ran.add("c"), Duration.ofMillis(1_001));
+
+        // When:
+        advanceMillis(1_000);
+        final int count = wheel.advance();
+
+        // Then:
+        assertThat(count, is(2));
+        assertThat(ran, contains("a", "b"));
+        assertThat(wheel.size(), is(1));
+    }
+
+    @Test
+    void shouldNotRunCancelledTask() {
+        // Given:
+        final TimingWheel.Timeout timeout =
+                wheel.schedule(() -> ran.add("a"), Duration.ofMillis(100));
+        wheel.schedule(() -> ran.add("b"), Duration.ofMillis(100));
+
+        // When:
+        final boolean result = timeout.cancel();
+
+        // Then:
+        assertThat(result, is(true));
+        assertThat(timeout.isCancelled(), is(true));
+        assertThat(wheel.size(), is(1));
+
+        // When:
+        advanceMillis(100);
+        wheel.advance();
+
+        // Then:
+        assertThat(ran, contains("b"));
+    }
+
+    @Test
+    void shouldNotCancelTwice() {
+        // Given:
+        final TimingWheel.Timeout timeout = wheel.schedule(() -> {}, Duration.ofMillis(100));
+        timeout.cancel();
+
+        // When:
+        final boolean result = timeout.cancel();
+
+        // Then:
+        assertThat(result, is(false));
+        assertThat(wheel.size(), is(0));
+    }
+
+    @Test
+    void shouldNotCancelExpired() {
+        // Given:
+        final TimingWheel.Timeout timeout = wheel.schedule(() -> {}, Duration.ofMillis(1));
+        advanceMillis(1);
+        wheel.advance();
+
+        // When:
+        final boolean result = timeout.cancel();
+
+        // Then:
+        assertThat(result, is(false));
+        assertThat(timeout.isCancelled(), is(false));
+    }
+
+    @Test
+    void shouldSupportSchedulingFromTask() {
+        // Given:
+        wheel.schedule(
+                () -> wheel.schedule(() -> ran.add("inner"), Duration.ofMillis(1)),
+                Duration.ofMillis(1));
+        advanceMillis(1);
+        wheel.advance();
+
+        // When:
+        advanceMillis(1);
+        wheel.advance();
+
+        // Then:
+        assertThat(ran, contains("inner"));
+    }
+
+    @Test
+    void shouldRunRemainingTasksIfOneThrows() {
+        // Given:
+        final IllegalStateException first = new IllegalStateException("first");
+        final IllegalStateException second = new IllegalStateException("second");
+        wheel.schedule(
+                () -> {
+                    throw first;
+                },
+                Duration.ofMillis(1));
+        wheel.schedule(() -> ran.add("a"), Duration.ofMillis(1));
+        wheel.schedule(
+                () -> {
+                    throw second;
+                },
+                Duration.ofMillis(2));
+        advanceMillis(2);
+
+        // When:
+        final Exception e = assertThrows(IllegalStateException.class, wheel::advance);
+
+        // Then:
+        assertThat(ran, contains("a"));
+        assertThat(e, is(first));
+        assertThat(e.getSuppressed(), arrayContaining(second));
+    }
+
+    @Test
+    void shouldSkipAheadWhenEmpty() {
+        // Given:
+        advanceMillis(Duration.ofDays(365).toMillis());
+        wheel.advance();
+
+        // When:
+        wheel.schedule(() -> ran.add("a"), Duration.ofMillis(2));
+        advanceMillis(2);
+        wheel.advance();
+
+        // Then:
+        assertThat(ran, contains("a"));
+    }
+
+    @Test
+    void shouldIgnoreClockGoingBackwards() {
+        // Given:
+        wheel.schedule(() -> ran.add("a"), Duration.ofMillis(2));
+        advanceMillis(1);
+        wheel.advance();
+        advanceMillis(-10);
+
+        // When:
+        wheel.advance();
+
+        // Then:
+        assertThat(ran, is(empty()));
+        assertThat(wheel.size(), is(1));
+    }
+
+    @Test
+    void shouldHandleHugeDelay() {
+        // When:
+        wheel.schedule(() -> ran.add("a"), Duration.ofSeconds(Long.MAX_VALUE));
+        advanceMillis(Duration.ofDays(365).toMillis());
+        wheel.advance();
+
+        // Then:
+        assertThat(ran, is(empty()));
+        assertThat(wheel.size(), is(1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3})
+    void shouldRunEachTaskAtItsDeadline(final long seed) {
+        // Given:
+        final Random random = new Random(seed);
+        final List<Long> expected = new ArrayList<>();
+        final List<Long> actual = new ArrayList<>();
+        final AtomicLong tick = new AtomicLong();
+        for (int i = 0; i < 2_000; i++) {
+            final long delay = 1 + random.nextInt(random.nextBoolean() ? 10 : 20_000);
+            final TimingWheel.Timeout timeout =
+                    wheel.schedule(() -> actual.add(delay - tick.get()), Duration.ofMillis(delay));
+            if (random.nextInt(10) == 0) {
+                timeout.cancel();
+            } else {
+                expected.add(0L);
+            }
+        }
+
+        // When:
+        for (int i = 0; i < 20_000; i++) {
+            advanceMillis(1);
+            tick.incrementAndGet();
+            wheel.advance();
+        }
+
+        // Then:
+        assertThat(actual, containsInAnyOrder(expected.toArray()));
+        assertThat(wheel.size(), is(0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3})
+    void shouldRunEachTaskOnFirstAdvanceAfterDeadlineWhenJumpingAhead(final long seed) {
+        // Given:
+        final Random random = new Random(seed);
+        final AtomicLong previous = new AtomicLong();
+        final AtomicLong now = new AtomicLong();
+        final List<String> late = new ArrayList<>();
+        int scheduled = 0;
+        for (int i = 0; i < 2_000; i++) {
+            final long delay = 1 + random.nextInt(1 << random.nextInt(24));
+            wheel.schedule(
+                    () -> {
+                        if (delay <= previous.get() || delay > now.get()) {
+                            late.add(delay + " ran at " + now.get());
+                        }
+                    },
+                    Duration.ofMillis(delay));
+            scheduled++;
+        }
+
+        // When:
+        int run = 0;
+        while (wheel.size() > 0) {
+            final long jump = 1 + random.nextInt(50_000);
+            previous.set(now.get());
+            now.addAndGet(jump);
+            advanceMillis(jump);
+            run += wheel.advance();
+        }
+
+        // Then:
+        assertThat(late, is(empty()));
+        assertThat(run, is(scheduled));
+    }
+
+    @Test
+    void shouldThrowOnInvalidTick() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> TimingWheel.create(clock, Duration.ZERO, 8));
+
+        // Then:
+        assertThat(e.getMessage(), is("tick must be positive, but was PT0S"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 65537})
+    void shouldThrowOnInvalidWheelSize(final int wheelSize) {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> TimingWheel.create(clock, TICK, wheelSize));
+
+        // Then:
+        assertThat(
+                e.getMessage(), is("wheelSize must be between 2 and 65536, but was " + wheelSize));
+    }
+
+    private void advanceMillis(final long millis) {
+        nanos.addAndGet(millis * 1_000_000);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.temporal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class VirtualClockTest {
+
+    @Test
+    void shouldStartAtEpochByDefault() {
+        assertThat(VirtualClock.create().get(), is(Instant.EPOCH));
+    }
+
+    @Test
+    void shouldStartAtSuppliedTime() {
+        // Given:
+        final Instant start = Instant.parse("2026-01-01T00:00:00.123456789Z");
+
+        // When:
+        final VirtualClock clock = VirtualClock.create(start);
+
+        // Then:
+        assertThat(clock.get(), is(start));
+        assertThat(clock.epochMillis(), is(start.toEpochMilli()));
+        assertThat(clock.epochNanos(), is(Clock.epochNanos(start)));
+    }
+
+    @Test
+    void shouldAdvance() {
+        // Given:
+        final VirtualClock clock = VirtualClock.create();
+
+        // When:
+        final long result = clock.advance(Duration.ofMillis(1500));
+
+        // Then:
+        assertThat(result, is(1_500_000_000L));
+        assertThat(clock.get(), is(Instant.ofEpochMilli(1500)));
+    }
+
+    @Test
+    void shouldThrowOnNegativeAdvance() {
+        // Given:
+        final VirtualClock clock = VirtualClock.create();
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class, () -> clock.advance(Duration.ofNanos(-1)));
+
+        // Then:
+        assertThat(e.getMessage(), is("amount must not be negative, but was PT-0.000000001S"));
+        assertThat(clock.epochNanos(), is(0L));
+    }
+
+    @Test
+    void shouldThrowRatherThanWrapOnOverflow() {
+        // Given:
+        final VirtualClock clock = VirtualClock.create();
+        clock.setEpochNanos(Long.MAX_VALUE - 1);
+
+        // When:
+        assertThrows(ArithmeticException.class, () -> clock.advance(Duration.ofNanos(2)));
+
+        // Then:
+        assertThat(clock.epochNanos(), is(Long.MAX_VALUE - 1));
+    }
+
+    @Test
+    void shouldThrowOnAmountTooLargeForNanos() {
+        // Given:
+        final VirtualClock clock = VirtualClock.create();
+
+        // Then:
+        assertThrows(ArithmeticException.class, () -> clock.advance(Duration.ofDays(200_000)));
+    }
+
+    @Test
+    void shouldMoveBackwardsWhenSet() {
+        // Given:
+        final VirtualClock clock = VirtualClock.create();
+
+        // When:
+        clock.set(Instant.EPOCH.minusNanos(1));
+
+        // Then:
+        assertThat(clock.get(), is(Instant.EPOCH.minusNanos(1)));
+        assertThat(clock.epochMillis(), is(-1L));
+    }
+
+    @Test
+    void shouldSet() {
+        // Given:
+        final VirtualClock clock = VirtualClock.create();
+        final Instant time = Instant.parse("2030-06-01T12:00:00Z");
+
+        // When:
+        clock.set(time);
+
+        // Then:
+        assertThat(clock.get(), is(time));
+    }
+}
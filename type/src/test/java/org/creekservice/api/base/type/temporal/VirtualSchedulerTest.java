@@ -0,0 +1,352 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.base.type.temporal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class VirtualSchedulerTest {
+
+    private final VirtualClock clock = VirtualClock.create();
+    private final VirtualScheduler scheduler = VirtualScheduler.create(clock);
+    private final List<String> ran = new ArrayList<>();
+
+    @Test
+    void shouldNotRunTasksUntilDue() {
+        // Given:
+        scheduler.schedule(() -> ran.add("a"), 10, TimeUnit.MILLISECONDS);
+
+        // When:
+        final int count = scheduler.advance(Duration.ofMillis(9));
+
+        // Then:
+        assertThat(count, is(0));
+        assertThat(ran, is(empty()));
+        assertThat(scheduler.pending(), is(1));
+    }
+
+    @Test
+    void shouldRunTasksInTimeOrderWithClockAtTaskTime() {
+        // Given:
+        final List<Instant> times = new ArrayList<>();
+        scheduler.schedule(() -> times.add(clock.get()), 30, TimeUnit.MILLISECONDS);
+        scheduler.schedule(() -> times.add(clock.get()), 10, TimeUnit.MILLISECONDS);
+        scheduler.schedule(() -> times.add(clock.get()), 20, TimeUnit.MILLISECONDS);
+
+        // When:
+        final int count = scheduler.advance(Duration.ofSeconds(1));
+
+        // Then:
+        assertThat(count, is(3));
+        assertThat(
+                times,
+                contains(
+                        Instant.ofEpochMilli(10),
+                        Instant.ofEpochMilli(20),
+                        Instant.ofEpochMilli(30)));
+        assertThat(clock.get(), is(Instant.ofEpochSecond(1)));
+    }
+
+    @Test
+    void shouldRunTasksDueAtSameTimeInSubmissionOrder() {
+        // Given:
+        for (int i = 0; i < 5; i++) {
+            final String name = "t" + i;
+            scheduler.schedule(() -> ran.add(name), 5, TimeUnit.MILLISECONDS);
+        }
+
+        // When:
+        scheduler.advance(Duration.ofMillis(5));
+
+        // Then:
+        assertThat(ran, contains("t0", "t1", "t2", "t3", "t4"));
+    }
+
+    @Test
+    void shouldRunExecutedTasksOnlyWhenDueTasksRun() throws Exception {
+        // Given:
+        final Future<String> future = scheduler.submit(() -> "result");
+
+        // Then:
+        assertThat(future.isDone(), is(false));
+
+        // When:
+        final int count = scheduler.runDueTasks();
+
+        // Then:
+        assertThat(count, is(1));
+        assertThat(future.get(), is("result"));
+        assertThat(clock.get(), is(Instant.EPOCH));
+    }
+
+    @Test
+    void shouldRunTasksScheduledByTasksIfDue() {
+        // Given:
+        scheduler.schedule(
+                () ->
+                        scheduler.schedule(
+                                () -> ran.add("inner@" + clock.epochMillis()),
+                                5,
+                                TimeUnit.MILLISECONDS),
+                5,
+                TimeUnit.MILLISECONDS);
+
+        // When:
+        scheduler.advance(Duration.ofMillis(10));
+
+        // Then:
+        assertThat(ran, contains("inner@10"));
+    }
+
+    @Test
+    void shouldRunAtFixedRate() {
+        // Given:
+        scheduler.scheduleAtFixedRate(
+                () -> ran.add("@" + clock.epochMillis()), 5, 10, TimeUnit.MILLISECONDS);
+
+        // When:
+        scheduler.advance(Duration.ofMillis(35));
+
+        // Then:
+        assertThat(ran, contains("@5", "@15", "@25", "@35"));
+        assertThat(scheduler.pending(), is(1));
+    }
+
+    @Test
+    void shouldRunWithFixedDelayFromEndOfTask() {
+        // Given:
+        scheduler.scheduleWithFixedDelay(
+                () -> {
+                    ran.add("@" + clock.epochMillis());
+                    clock.advance(Duration.ofMillis(2));
+                },
+                0,
+                10,
+                TimeUnit.MILLISECONDS);
+
+        // When:
+        scheduler.advance(Duration.ofMillis(30));
+
+        // Then:
+        assertThat(ran, contains("@0", "@12", "@24"));
+    }
+
+    @Test
+    void shouldStopPeriodicTaskIfItThrows() throws Exception {
+        // Given:
+        final ScheduledFuture<?> future =
+                scheduler.scheduleAtFixedRate(
+                        () -> {
+                            throw new IllegalStateException("boom");
+                        },
+                        1,
+                        1,
+                        TimeUnit.MILLISECONDS);
+
+        // When:
+        final int count = scheduler.advance(Duration.ofMillis(10));
+
+        // Then:
+        assertThat(count, is(1));
+        assertThat(scheduler.pending(), is(0));
+        final ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertThat(e.getCause().getMessage(), is("boom"));
+    }
+
+    @Test
+    void shouldNotRunCancelledTask() {
+        // Given:
+        final ScheduledFuture<?> future =
+                scheduler.schedule(() -> ran.add("a"), 10, TimeUnit.MILLISECONDS);
+
+        // When:
+        future.cancel(false);
+
+        // Then:
+        assertThat(scheduler.pending(), is(0));
+        scheduler.advance(Duration.ofMillis(10));
+        assertThat(ran, is(empty()));
+    }
+
+    @Test
+    void shouldCancelPeriodicTask() {
+        // Given:
+        final ScheduledFuture<?> future =
+                scheduler.scheduleAtFixedRate(() -> ran.add("a"), 1, 1, TimeUnit.MILLISECONDS);
+        scheduler.advance(Duration.ofMillis(2));
+
+        // When:
+        future.cancel(false);
+        scheduler.advance(Duration.ofMillis(10));
+
+        // Then:
+        assertThat(ran, hasSize(2));
+    }
+
+    @Test
+    void shouldReportDelay() {
+        // Given:
+        final ScheduledFuture<?> future = scheduler.schedule(() -> {}, 10, TimeUnit.MILLISECONDS);
+
+        // When:
+        scheduler.advance(Duration.ofMillis(4));
+
+        // Then:
+        assertThat(future.getDelay(TimeUnit.MILLISECONDS), is(6L));
+    }
+
+    @Test
+    void shouldSaturateHugeDelay() {
+        // Given:
+        clock.set(Instant.parse("2024-01-01T00:00:00Z"));
+        final ScheduledFuture<?> future =
+                scheduler.schedule(() -> ran.add("a"), Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+
+        // When:
+        final int count = scheduler.runDueTasks();
+
+        // Then:
+        assertThat(count, is(0));
+        assertThat(ran, is(empty()));
+        assertThat(future.getDelay(TimeUnit.NANOSECONDS), is(greaterThan(0L)));
+    }
+
+    @Test
+    void shouldSaturateHugePeriods() {
+        // Given:
+        clock.set(Instant.parse("2024-01-01T00:00:00Z"));
+        scheduler.scheduleAtFixedRate(
+                () -> ran.add("rate"), 1, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        scheduler.scheduleWithFixedDelay(
+                () -> ran.add("delay"), 1, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+
+        // When:
+        scheduler.advance(Duration.ofDays(1));
+
+        // Then:
+        assertThat(ran, contains("rate", "delay"));
+        assertThat(scheduler.pending(), is(2));
+    }
+
+    @Test
+    void shouldAdvanceToInstant() {
+        // Given:
+        scheduler.schedule(() -> ran.add("a"), 10, TimeUnit.SECONDS);
+
+        // When:
+        scheduler.advanceTo(Instant.ofEpochSecond(10));
+
+        // Then:
+        assertThat(ran, contains("a"));
+        assertThat(clock.get(), is(Instant.ofEpochSecond(10)));
+    }
+
+    @Test
+    void shouldNotMoveTimeBackwards() {
+        // Given:
+        clock.advance(Duration.ofSeconds(10));
+
+        // When:
+        scheduler.advanceTo(Instant.ofEpochSecond(5));
+
+        // Then:
+        assertThat(clock.get(), is(Instant.ofEpochSecond(10)));
+    }
+
+    @Test
+    void shouldThrowOnNegativeAdvance() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> scheduler.advance(Duration.ofMillis(-1)));
+
+        // Then:
+        assertThat(e.getMessage(), is("amount must not be negative, but was PT-0.001S"));
+    }
+
+    @Test
+    void shouldRejectAfterShutdown() {
+        // Given:
+        scheduler.shutdown();
+
+        // Then:
+        assertThat(scheduler.isShutdown(), is(true));
+        assertThrows(RejectedExecutionException.class, () -> scheduler.execute(() -> {}));
+    }
+
+    @Test
+    void shouldTerminateOnceQueueDrained() {
+        // Given:
+        scheduler.schedule(() -> {}, 1, TimeUnit.MILLISECONDS);
+        scheduler.shutdown();
+
+        // Then:
+        assertThat(scheduler.isTerminated(), is(false));
+
+        // When:
+        scheduler.advance(Duration.ofMillis(1));
+
+        // Then:
+        assertThat(scheduler.isTerminated(), is(true));
+        assertThat(scheduler.awaitTermination(1, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test
+    void shouldReturnPendingOnShutdownNow() {
+        // Given:
+        scheduler.schedule(() -> {}, 1, TimeUnit.MILLISECONDS);
+        scheduler.schedule(() -> {}, 2, TimeUnit.MILLISECONDS);
+
+        // When:
+        final List<Runnable> pending = scheduler.shutdownNow();
+
+        // Then:
+        assertThat(pending, hasSize(2));
+        assertThat(scheduler.isTerminated(), is(true));
+    }
+
+    @Test
+    void shouldDriveTimingWheelDeterministically() {
+        // Given:
+        final TimingWheel wheel = TimingWheel.create(clock, Duration.ofMillis(1), 64);
+        wheel.schedule(() -> ran.add("timeout@" + clock.epochMillis()), Duration.ofSeconds(30));
+        scheduler.scheduleAtFixedRate(wheel::advance, 1, 1, TimeUnit.MILLISECONDS);
+
+        // When:
+        scheduler.advance(Duration.ofMinutes(1));
+
+        // Then:
+        assertThat(ran, contains("timeout@30000"));
+    }
+}